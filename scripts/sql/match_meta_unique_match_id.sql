@@ -0,0 +1,45 @@
+-- match_meta.match_id 유니크 키 추가 (1회성 마이그레이션)
+-- 경기별 베팅 누적은 INSERT ... ON DUPLICATE KEY UPDATE 로 반영하므로 uk_match_meta_match_id 가 있어야 한다.
+-- 애플리케이션은 기동 시 키가 있는지만 확인하고 없으면 기동하지 않는다.
+--
+-- 실행 전 모든 서버를 내린다 (실행 중 베팅이 들어오면 중복 row 가 다시 생겨 ALTER 가 실패한다).
+-- 중복 row 는 가장 작은 id 의 row 로 합산하고 나머지를 삭제하며, 합산과 삭제는 한 트랜잭션에서 실행한다.
+-- 키가 이미 있으면 아무것도 하지 않는다.
+
+SELECT GET_LOCK('match_meta_unique_match_id', 10);
+
+SET @has_key = (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'match_meta'
+                  AND index_name = 'uk_match_meta_match_id' AND non_unique = 0);
+
+START TRANSACTION;
+
+SELECT id FROM match_meta WHERE @has_key = 0 FOR UPDATE;
+
+UPDATE match_meta m
+    JOIN (SELECT match_id, MIN(id) AS keep_id,
+                 SUM(pre_count) AS pre_count, SUM(live_count) AS live_count,
+                 SUM(CAST(pre_total_amount AS SIGNED)) AS pre_total_amount,
+                 SUM(CAST(live_total_amount AS SIGNED)) AS live_total_amount
+          FROM match_meta GROUP BY match_id HAVING COUNT(*) > 1) d ON m.id = d.keep_id
+SET m.pre_count = d.pre_count,
+    m.live_count = d.live_count,
+    m.pre_total_amount = CAST(d.pre_total_amount AS CHAR),
+    m.live_total_amount = CAST(d.live_total_amount AS CHAR)
+WHERE @has_key = 0;
+
+DELETE m FROM match_meta m
+    JOIN (SELECT match_id, MIN(id) AS keep_id
+          FROM match_meta GROUP BY match_id HAVING COUNT(*) > 1) d ON m.match_id = d.match_id AND m.id <> d.keep_id
+WHERE @has_key = 0;
+
+COMMIT;
+
+SET @ddl = IF(@has_key = 0,
+              'ALTER TABLE match_meta ADD UNIQUE KEY uk_match_meta_match_id (match_id)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SELECT RELEASE_LOCK('match_meta_unique_match_id');
@@ -0,0 +1,167 @@
+package GInternational.server.api.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑 잔액 변경 방식별 처리량 (8 스레드 동시 차감)
+ * readModifyWrite   : 기존 방식. 잠금 없이 읽고 계산한 값을 덮어쓴다 (동시 요청 시 차감이 유실된다)
+ * selectForUpdate   : WalletMutationService.lock 과 같은 방식. FOR UPDATE 로 잠근 뒤 읽고 쓴다
+ * conditionalUpdate : WalletMutationService.debitCasino 와 같은 방식. 조건부 UPDATE 후 잔액만 다시 읽는다
+ * users 가 1 이면 모든 스레드가 같은 지갑을 두고 경합한다 (유저 단위 직렬화 비용이 가장 크게 드러나는 구간).
+ *
+ * 기본은 H2(MySQL 모드) 메모리 DB 이며, -Dbench.jdbc-url / -Dbench.username / -Dbench.password 로 실제 MySQL 에서 측정할 수 있다.
+ * 각 iteration 이 끝나면 유실된 차감 건수를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class WalletLockBenchmark {
+
+    private static final long INITIAL_BALANCE = 1_000_000_000_000L;
+    private static final long AMOUNT = 100;
+
+    @Param({"1", "64"})
+    private int users;
+
+    private HikariDataSource dataSource;
+    private final AtomicLong debits = new AtomicLong();
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.jdbc-url", "jdbc:h2:mem:wallet_bench;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"));
+        config.setUsername(System.getProperty("bench.username", "sa"));
+        config.setPassword(System.getProperty("bench.password", ""));
+        config.setMaximumPoolSize(16);
+        config.setAutoCommit(false);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS wallet_bench");
+            statement.execute("CREATE TABLE wallet_bench (user_id BIGINT PRIMARY KEY, casino_balance BIGINT NOT NULL, version BIGINT NOT NULL)");
+            connection.commit();
+        }
+    }
+
+
+    @Setup(Level.Iteration)
+    public void resetBalances() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM wallet_bench");
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO wallet_bench (user_id, casino_balance, version) VALUES (?, ?, 0)")) {
+                for (long userId = 1; userId <= users; userId++) {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, INITIAL_BALANCE);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            connection.commit();
+        }
+        debits.set(0);
+    }
+
+
+    @TearDown(Level.Iteration)
+    public void reportLostDebits() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT SUM(casino_balance) FROM wallet_bench")) {
+            rs.next();
+            long debited = (INITIAL_BALANCE * users - rs.getLong(1)) / AMOUNT;
+            System.out.println("debits=" + debits.get() + ", applied=" + debited + ", lost=" + (debits.get() - debited));
+            connection.rollback();
+        }
+    }
+
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+
+    @Benchmark
+    public long readModifyWrite() throws SQLException {
+        long userId = nextUserId();
+        try (Connection connection = dataSource.getConnection()) {
+            long balance = selectBalance(connection, "SELECT casino_balance FROM wallet_bench WHERE user_id = ?", userId);
+            try (PreparedStatement ps = connection.prepareStatement("UPDATE wallet_bench SET casino_balance = ? WHERE user_id = ?")) {
+                ps.setLong(1, balance - AMOUNT);
+                ps.setLong(2, userId);
+                ps.executeUpdate();
+            }
+            connection.commit();
+        }
+        debits.incrementAndGet();
+        return userId;
+    }
+
+
+    @Benchmark
+    public long selectForUpdate() throws SQLException {
+        long userId = nextUserId();
+        try (Connection connection = dataSource.getConnection()) {
+            long balance = selectBalance(connection, "SELECT casino_balance FROM wallet_bench WHERE user_id = ? FOR UPDATE", userId);
+            try (PreparedStatement ps = connection.prepareStatement("UPDATE wallet_bench SET casino_balance = ?, version = version + 1 WHERE user_id = ?")) {
+                ps.setLong(1, balance - AMOUNT);
+                ps.setLong(2, userId);
+                ps.executeUpdate();
+            }
+            connection.commit();
+        }
+        debits.incrementAndGet();
+        return userId;
+    }
+
+
+    @Benchmark
+    public long conditionalUpdate() throws SQLException {
+        long userId = nextUserId();
+        long balance;
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "UPDATE wallet_bench SET casino_balance = casino_balance - ?, version = version + 1 WHERE user_id = ? AND casino_balance >= ?")) {
+                ps.setLong(1, AMOUNT);
+                ps.setLong(2, userId);
+                ps.setLong(3, AMOUNT);
+                ps.executeUpdate();
+            }
+            balance = selectBalance(connection, "SELECT casino_balance FROM wallet_bench WHERE user_id = ?", userId);
+            connection.commit();
+        }
+        debits.incrementAndGet();
+        return balance;
+    }
+
+
+    private long nextUserId() {
+        return ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+
+
+    private static long selectBalance(Connection connection, String sql, long userId) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+}
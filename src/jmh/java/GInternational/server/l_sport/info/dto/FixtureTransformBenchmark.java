@@ -0,0 +1,109 @@
+package GInternational.server.l_sport.info.dto;
+
+import GInternational.server.l_sport.info.dto.pre.MarketDTO;
+import GInternational.server.l_sport.info.dto.pre.OddDTO;
+import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
+import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 프리매치 응답 변환 벤치마크 (기존 마켓별 재순회 방식 vs 단일 순회 그룹핑)
+ * list   : 경기 목록 (경기 수 多, 경기당 마켓 少)
+ * detail : 더보기 (경기 1개, 마켓 多) - 기존 방식에서 row 수의 제곱으로 늘어나는 구간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FixtureTransformBenchmark {
+
+    @Param({"list", "detail"})
+    private String payload;
+
+    private List<PreMatchGetFixtureDTO> rows;
+
+
+    @Setup
+    public void setUp() {
+        if ("list".equals(payload)) {
+            rows = rows(200, 3, 3);      // 1,800 rows
+        } else {
+            rows = rows(1, 400, 10);     // 4,000 rows
+        }
+    }
+
+
+    @Benchmark
+    public List<PreMatchGetFixtureResponseDTO> singlePass() {
+        return PreMatchGetFixtureResponseDTO.transform(rows);
+    }
+
+
+    @Benchmark
+    public List<PreMatchGetFixtureResponseDTO> legacy() {
+        return legacyTransform(rows);
+    }
+
+
+    private static List<PreMatchGetFixtureDTO> rows(int matches, int marketsPerMatch, int betsPerMarket) {
+        List<PreMatchGetFixtureDTO> rows = new ArrayList<>(matches * marketsPerMatch * betsPerMarket);
+        for (int m = 0; m < matches; m++) {
+            for (int k = 0; k < marketsPerMatch; k++) {
+                for (int b = 0; b < betsPerMarket; b++) {
+                    String idx = m + "_" + k + "_" + b;
+                    rows.add(new PreMatchGetFixtureDTO(String.valueOf(10000000 + m), "Premier League", "England", "Football", "1",
+                            "Home " + m, "Away " + m, "67", "20241018190000", String.valueOf(k), "Market " + k, idx,
+                            String.valueOf(b), "2.5", "2.5", "1.95", "20241018120000", "1", "1", "0"));
+                }
+            }
+        }
+        return rows;
+    }
+
+
+    // 변경 전 PreMatchGetFixtureResponseDTO.transform
+    private static List<PreMatchGetFixtureResponseDTO> legacyTransform(List<PreMatchGetFixtureDTO> fixtures) {
+        Map<String, List<PreMatchGetFixtureDTO>> groupedFixtures = fixtures.stream().collect(Collectors.groupingBy(PreMatchGetFixtureDTO::getMatchId));
+        return groupedFixtures.entrySet().stream()
+                .map(entry -> {
+                    PreMatchGetFixtureDTO firstFixture = entry.getValue().get(0);
+                    List<MarketDTO> markets = entry.getValue().stream()
+                            .filter(fixture -> fixture.getMarketId() != null)
+                            .map(fixture -> {
+                                MarketDTO market = new MarketDTO();
+                                market.setMarketId(fixture.getMarketId());
+                                market.setMarketName(fixture.getMarketName());
+                                List<OddDTO> bets = entry.getValue().stream()
+                                        .filter(bet -> bet.getMarketId() != null && bet.getMarketId().equals(fixture.getMarketId()))
+                                        .map(bet -> {
+                                            OddDTO betDTO = new OddDTO();
+                                            betDTO.setIdx(bet.getIdx());
+                                            betDTO.setBetName(bet.getBetName());
+                                            betDTO.setLastUpdate(bet.getLastUpdate());
+                                            betDTO.setLine(bet.getLine());
+                                            betDTO.setBaseLine(bet.getBaseLine());
+                                            betDTO.setPrice(bet.getPrice());
+                                            betDTO.setBetStatus(bet.getBetStatus());
+                                            return betDTO;
+                                        })
+                                        .distinct()
+                                        .collect(Collectors.toList());
+                                market.setBets(bets);
+                                return market;
+                            })
+                            .distinct()
+                            .collect(Collectors.toList());
+
+                    PreMatchGetFixtureResponseDTO responseDTO = new PreMatchGetFixtureResponseDTO();
+                    responseDTO.setMatchId(firstFixture.getMatchId());
+                    responseDTO.setOdds(markets);
+                    return responseDTO;
+                })
+                .collect(Collectors.toList());
+    }
+}
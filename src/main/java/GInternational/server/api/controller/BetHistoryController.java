@@ -2,7 +2,10 @@ package GInternational.server.api.controller;
 
 import GInternational.server.api.dto.*;
 import GInternational.server.api.entity.BetHistory;
+import GInternational.server.api.service.BetGroupIdAllocator;
 import GInternational.server.api.service.BetHistoryService;
+import GInternational.server.api.service.LiabilityBook;
+import GInternational.server.api.service.MatchExposureCounter;
 import GInternational.server.api.vo.BetFoldCountEnum;
 import GInternational.server.api.vo.BetTypeEnum;
 import GInternational.server.api.vo.OrderStatusEnum;
@@ -33,24 +36,29 @@ public class BetHistoryController {
 
 
     private final BetHistoryService betHistoryService;
+    private final BetGroupIdAllocator betGroupIdAllocator;
+    private final MatchExposureCounter matchExposureCounter;
+    private final LiabilityBook liabilityBook;
 
     /**
      * 새로운 베팅 추가.
      *
+     * 베팅 그룹 ID 는 서버에서 발급하며 응답의 betGroupId 로 전달된다.
+     *
      * @param betRequestDTOs 베팅 요청 데이터 전송 객체 리스트
-     * @param betGroupId 베팅 그룹 ID
      * @param authentication 사용자 인증 정보
      * @param request HTTP 요청 정보
      * @return 생성된 베팅 내역에 대한 응답 데이터 전송 객체와 HTTP 상태 코드
      */
     @PostMapping("/users/bet")
     public ResponseEntity<MultiResponseDto<BetHistoryResDTO>> newBets(@RequestBody List<BetHistoryReqDTO> betRequestDTOs,
-                                                                      @RequestParam Long betGroupId,
                                                                       Authentication authentication,
                                                                       HttpServletRequest request) {
         PrincipalDetails principal = (PrincipalDetails) authentication.getPrincipal();
 
-        List<BetHistory> betHistories = betHistoryService.insertUserBets(betRequestDTOs, betGroupId, principal, request);
+        // 구간 예약(별도 트랜잭션)이 베팅 트랜잭션의 커넥션을 잡은 채로 두 번째 커넥션을 기다리지 않도록 트랜잭션 밖에서 발급한다
+        long betGroupId = betGroupIdAllocator.nextId();
+        List<BetHistory> betHistories = betHistoryService.insertUserBets(betGroupId, betRequestDTOs, principal, request);
 
         List<BetHistoryResDTO> responseDTOs = betHistories.stream()
                 .map(this::convertToDto)
@@ -197,6 +205,30 @@ public class BetHistoryController {
         return ResponseEntity.ok(calculationResult);
     }
 
+    /**
+     * 경기별 베팅 누적 및 마켓별 미정산 노출 조회.
+     *
+     * @param matchIds 경기 ID 목록
+     * @return 경기별 베팅 수, 베팅 총액, 마켓별 지급 예정액
+     */
+    @GetMapping("/managers/exposure")
+    public ResponseEntity<List<MatchExposureResponseDTO>> getMatchExposures(@RequestParam List<String> matchIds) {
+        return ResponseEntity.ok(matchExposureCounter.getAll(matchIds));
+    }
+
+    /**
+     * 선택별 미정산 지급 예정액 조회.
+     *
+     * @param matchId 경기 ID (없으면 전체 경기)
+     * @param size 조회 건수 (지급 예정액이 큰 순)
+     * @return 선택별 베팅 수, 베팅금, 지급 예정액, 한도 도달 여부
+     */
+    @GetMapping("/managers/liability")
+    public ResponseEntity<List<SelectionLiabilityDTO>> getLiabilities(@RequestParam(required = false) String matchId,
+                                                                      @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(liabilityBook.find(matchId, size));
+    }
+
     /**
      * 특정 그룹 ID에 대한 베팅 취소.
      *
@@ -1,5 +1,6 @@
 package GInternational.server.api.controller;
 
+import GInternational.server.api.dto.BalanceAtResponseDTO;
 import GInternational.server.api.dto.WalletResponseDTO;
 import GInternational.server.api.entity.Wallet;
 import GInternational.server.api.mapper.WalletListResponseMapper;
@@ -11,6 +12,7 @@ import GInternational.server.common.dto.SingleResponseDto;
 import GInternational.server.security.auth.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -82,6 +85,23 @@ public class WalletController {
         return ResponseEntity.ok(wallet);
     }
 
+    /**
+     * 사용자의 특정 시점 잔액 조회.
+     *
+     * @param userId            사용자 ID
+     * @param at                조회 시점 (yyyy-MM-dd'T'HH:mm:ss)
+     * @param authentication    인증 정보
+     * @return                  조회 시점의 스포츠머니/카지노머니 응답 엔터티
+     */
+    @GetMapping("/managers/{userId}/balance")
+    public ResponseEntity getBalanceAt(@PathVariable("userId") @Positive Long userId,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+                                       Authentication authentication) {
+        PrincipalDetails principal = (PrincipalDetails) authentication.getPrincipal();
+        BalanceAtResponseDTO response = walletService.balanceAt(userId, at, principal);
+        return new ResponseEntity<>(new SingleResponseDto<>(response), HttpStatus.OK);
+    }
+
     /**
      * 모든 지갑 목록을 페이지로 반환.
      *
@@ -0,0 +1,19 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임사 콜백 처리용 유저 정보 (aas_id 로 조회, 지갑/연관 엔티티는 로딩하지 않는다)
+ * 변경되지 않는 식별 정보만 담으며 AasUserCache 에 캐시된다. 잔액은 담지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AasUserDTO {
+    private final Long userId;
+    private final Integer aasId;
+    private final Long walletId;
+    private final String username;
+    private final String nickname;
+    private final String role;
+}
@@ -0,0 +1,18 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점의 지갑 잔액 (잔액 원장 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceAtResponseDTO {
+    private final Long userId;
+    private final LocalDateTime at;
+    private final long sportsBalance;  // 스포츠머니
+    private final long casinoBalance;  // 카지노머니
+}
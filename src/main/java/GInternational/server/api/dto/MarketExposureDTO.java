@@ -0,0 +1,16 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경기 내 배당(마켓)별 미정산 베팅 노출
+ */
+@Getter
+@AllArgsConstructor
+public class MarketExposureDTO {
+    private final String marketName;
+    private final long betCount;   // 미정산 베팅 수
+    private final long stake;      // 미정산 베팅금 합계
+    private final long liability;  // 모두 적중 시 지급액 합계 (베팅금 x 슬립 전체 배당)
+}
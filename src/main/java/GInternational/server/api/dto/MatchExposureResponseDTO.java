@@ -0,0 +1,21 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경기별 베팅 누적 / 노출 (관리자 리스크 화면)
+ */
+@Getter
+@AllArgsConstructor
+public class MatchExposureResponseDTO {
+    private final String matchId;
+    private final long preCount;          // 프리매치 베팅 수
+    private final long liveCount;         // 인플레이 베팅 수
+    private final long preTotalAmount;    // 프리매치 베팅 총액
+    private final long liveTotalAmount;   // 인플레이 베팅 총액
+    private final long liability;         // 마켓별 지급액 합계
+    private final List<MarketExposureDTO> markets;
+}
@@ -0,0 +1,20 @@
+package GInternational.server.api.dto;
+
+import GInternational.server.api.vo.MoneyLogCategoryEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 머니로그 배치 기록용 1건 (MoneyLogQueue 로 outbox 에 기록하거나, 배치 작업에서는 money_log 에 바로 기록한다)
+ */
+@Getter
+@AllArgsConstructor
+public class MoneyLogEntryDTO {
+    private final Long userId;
+    private final String username;
+    private final String nickname;
+    private final long used;          // 사용 금액 (차감이면 음수)
+    private final long finalBalance;  // 반영 후 최종머니
+    private final MoneyLogCategoryEnum category;
+    private final String bigo;
+}
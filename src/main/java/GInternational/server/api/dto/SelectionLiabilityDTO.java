@@ -0,0 +1,20 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 선택(idx)별 미정산 지급 예정액 (관리자 리스크 화면)
+ */
+@Getter
+@AllArgsConstructor
+public class SelectionLiabilityDTO {
+    private final String idx;
+    private final String matchId;
+    private final String marketName;
+    private final long betCount;         // 미정산 슬립 수
+    private final long stake;            // 미정산 베팅금 합계
+    private final long liability;        // 이 선택이 적중하면 지급할 금액
+    private final long marketLiability;  // 같은 마켓 전체 지급 예정액
+    private final boolean suspended;     // 한도 도달로 추가 베팅이 막힌 상태
+}
@@ -0,0 +1,15 @@
+package GInternational.server.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SettlementLedgerDTO {
+    private final Long betGroupId;        // 베팅 그룹
+    private final int settlementVersion;  // 정산 버전 (재정산마다 1씩 증가)
+    private final Long userId;
+    private final long payout;            // 이 버전 기준 누적 지급액
+    private final long delta;             // 이 버전에서 반영한 차액 (payout - 직전 버전 payout)
+    private final String betReward;       // bet_history.bet_reward 에 기록한 값 (낙첨이면 null)
+}
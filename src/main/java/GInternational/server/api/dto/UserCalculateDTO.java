@@ -20,6 +20,7 @@ public class UserCalculateDTO {
     private long withdrawTotal;      // 출금액
     private long totalSettlement;          // 차액
     private long sportsBalance;       // 보유머니
+    private Long closingSportsBalance; // 기간 종료일 스냅샷 보유머니 합계 (스냅샷이 없으면 null)
     private long betAmount;           // 베팅액
     private long winningAmount;       // 적중액
     private Double winningRate;       // 적중률
@@ -0,0 +1,54 @@
+package GInternational.server.api.entity;
+
+import GInternational.server.api.vo.BalanceTypeEnum;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 원장 (추가만 하고 수정/삭제하지 않는다)
+ * 지갑의 스포츠머니/카지노머니가 바뀔 때마다 한 줄을 남긴다. seq 는 변경 시점의 wallet.version 이라 유저별로 단조 증가한다
+ * (포인트 등 잔액 외 컬럼 변경으로도 version 이 오르므로 연속값은 아니다).
+ * 특정 시점의 잔액은 (user_id, balance_type, created_at, seq) 인덱스에서 해당 시점 이전 마지막 행의 balance_after 한 건으로 구한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity(name = "balance_ledger")
+@Table(name = "balance_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_balance_ledger_user_type_seq", columnNames = {"user_id", "balance_type", "seq"})},
+        indexes = {
+                @Index(name = "idx_balance_ledger_user_type_created", columnList = "user_id, balance_type, created_at, seq")})
+public class BalanceLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "balance_ledger_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "balance_type", nullable = false, length = 16)
+    private BalanceTypeEnum balanceType;
+
+    @Column(name = "seq", nullable = false)
+    private long seq;            // 변경 후 wallet.version
+
+    @Column(name = "amount", nullable = false)
+    private long amount;         // 증감액 (차감이면 음수)
+
+    @Column(name = "balance_after", nullable = false)
+    private long balanceAfter;   // 변경 후 잔액
+
+    @Column(name = "source", length = 32)
+    private String source;       // 변경 경로 (casino_debit, sports_adjust, recharge, exchange_cancel 등)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package GInternational.server.api.entity;
+
+import GInternational.server.api.vo.BalanceTypeEnum;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 잔액 스냅샷
+ * snapshot_date 가 끝나는 시점(다음날 00시)의 지갑별 잔액. 기간 말 보유머니처럼 전체 유저의 특정 시점 잔액이 필요한 조회에 사용한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity(name = "balance_snapshot")
+@Table(name = "balance_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_balance_snapshot_user_type_date", columnNames = {"user_id", "balance_type", "snapshot_date"})},
+        indexes = {
+                @Index(name = "idx_balance_snapshot_date", columnList = "snapshot_date, balance_type")})
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "balance_snapshot_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "balance_type", nullable = false, length = 16)
+    private BalanceTypeEnum balanceType;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -21,6 +21,9 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity(name = "bet_history")
+@Table(name = "bet_history", indexes = {
+        @Index(name = "idx", columnList = "idx"),
+        @Index(name = "bet_group_id", columnList = "bet_group_id")})
 public class BetHistory {
 
     @Id
@@ -111,12 +114,6 @@ public class BetHistory {
     @Column(name = "fail_bonus_col",nullable = false,columnDefinition = "varchar(1) default 'N' ")
     private String failBonusCol;  //낙첨 시 낙첨 보너스 지급 여부
 
-    @Column(name = "cron_api",nullable = false, columnDefinition = "varchar(1) default 'N' ")
-    private String cronApi; //자동 정산 시 로그를 남기기 위한 파라미터
-
-    @Column(name = "api",nullable = false, columnDefinition = "varchar(1) default 'N' ")
-    private String api; //결과 수정 후 정산 여부 확인 파라미터
-
     //유저 정보
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
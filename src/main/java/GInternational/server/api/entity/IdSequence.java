@@ -0,0 +1,29 @@
+package GInternational.server.api.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 블록 단위 ID 시퀀스
+ * 서버는 next_val 을 block-size 만큼 한 번에 올려 받은 구간의 ID 를 메모리에서 발급한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity(name = "id_sequence")
+@Table(name = "id_sequence")
+public class IdSequence {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private long nextVal;  // 다음에 발급할 ID
+}
@@ -0,0 +1,46 @@
+package GInternational.server.api.entity;
+
+import GInternational.server.api.vo.MoneyLogCategoryEnum;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 머니로그 outbox
+ * 잔액을 바꾼 트랜잭션 안에서 함께 커밋되고, MoneyLogQueue 가 배치로 money_log 로 옮긴 뒤 삭제한다.
+ * 서버가 재기동되어도 남아있는 행은 다음 flush 에서 옮겨지므로 유실되지 않는다. 조회용 인덱스/FK 는 두지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity(name = "money_log_outbox")
+public class MoneyLogOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "money_log_outbox_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String username;
+    private String nickname;
+
+    @Column(name = "used_sports_balance")
+    private Long usedSportsBalance;
+
+    @Column(name = "final_sports_balance")
+    private Long finalSportsBalance;
+
+    private String bigo;
+
+    @Enumerated(EnumType.STRING)
+    private MoneyLogCategoryEnum category;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;  // 잔액이 바뀐 시점 (money_log.created_at 으로 그대로 옮긴다)
+}
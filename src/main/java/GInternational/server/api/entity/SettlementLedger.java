@@ -0,0 +1,48 @@
+package GInternational.server.api.entity;
+
+import GInternational.server.common.BaseEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+import static javax.persistence.FetchType.LAZY;
+
+/**
+ * 정산 원장
+ * 베팅 그룹별로 지급이 반영될 때마다 (bet_group_id, settlement_version) 한 줄을 남긴다.
+ * 재정산 시 마지막 버전의 payout 과 비교하여 차액만 지갑에 반영한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity(name = "settlement_ledger")
+@Table(name = "settlement_ledger", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_settlement_ledger_group_version", columnNames = {"bet_group_id", "settlement_version"})})
+public class SettlementLedger extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "settlement_ledger_id")
+    private Long id;
+
+    @Column(name = "bet_group_id", nullable = false)
+    private Long betGroupId;
+
+    @Column(name = "settlement_version", nullable = false)
+    private int settlementVersion;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "payout", nullable = false)
+    private long payout;    // 누적 지급액
+
+    @Column(name = "delta", nullable = false)
+    private long delta;     // 이번 버전에서 반영한 차액
+
+    @Column(name = "bet_reward")
+    private String betReward;
+}
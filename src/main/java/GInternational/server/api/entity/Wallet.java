@@ -88,6 +88,23 @@ public class Wallet extends BaseEntity {
     @Column(name = "accumulated_sports_bet", columnDefinition = "BIGINT default 0")
     private long accumulatedSportsBet; // 누적 스포츠 베팅금액
 
+    // 엔티티로 덮어쓰는 경로가 동시에 바뀐 잔액을 잃지 않도록 버전을 확인한다 (잔액 증감 SQL 도 버전을 올린다)
+    @Version
+    @Column(name = "version", columnDefinition = "BIGINT default 0")
+    private long version;
+
+    // 마지막으로 원장에 반영된 잔액 (엔티티로 저장하는 경로의 증감액 계산용)
+    @JsonIgnore
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long ledgerSportsBalance;
+    @JsonIgnore
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long ledgerCasinoBalance;
+
     @JsonIgnore  // 순환 참조로 인해 설정
     @OneToOne
     @JoinColumn(name = "user_id", unique = true)
@@ -111,4 +128,21 @@ public class Wallet extends BaseEntity {
         return hasReceivedDailyBonus;
     }
 
+    // 원장에 아직 반영되지 않은 스포츠머니 증감액
+    public long unrecordedSportsDelta() {
+        return sportsBalance - ledgerSportsBalance;
+    }
+
+    // 원장에 아직 반영되지 않은 카지노머니 증감액
+    public long unrecordedCasinoDelta() {
+        return casinoBalance - ledgerCasinoBalance;
+    }
+
+    // 현재 잔액을 원장 반영 기준으로 설정
+    @PostLoad
+    public void markBalancesRecorded() {
+        this.ledgerSportsBalance = sportsBalance;
+        this.ledgerCasinoBalance = casinoBalance;
+    }
+
 }
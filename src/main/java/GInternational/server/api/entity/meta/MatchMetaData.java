@@ -11,6 +11,8 @@ import javax.persistence.*;
 @Setter
 @Builder
 @Entity(name = "match_meta")
+@Table(name = "match_meta", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_match_meta_match_id", columnNames = "match_id")})
 public class MatchMetaData extends BaseEntity {
 
     @Id
@@ -0,0 +1,7 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.entity.BalanceLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BalanceLedgerRepository extends JpaRepository<BalanceLedger, Long>, BalanceLedgerRepositoryCustom {
+}
@@ -0,0 +1,42 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.vo.BalanceTypeEnum;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface BalanceLedgerRepositoryCustom {
+
+    /**
+     * 잔액 증감 SQL 직후 원장 기록 (변경된 지갑 row 의 잔액과 version 을 그대로 옮긴다, 유저별 1건씩 배치 INSERT ... SELECT)
+     * 증감과 같은 트랜잭션에서 호출해야 한다 (row lock 을 잡고 있으므로 다른 변경이 끼어들지 않는다).
+     * @param amounts user_id -> 증감액
+     */
+    void appendFromWallet(BalanceTypeEnum type, Map<Long, Long> amounts, String source);
+
+    /**
+     * 원장 1건 기록 (엔티티로 지갑을 저장한 경우)
+     */
+    void append(Long userId, BalanceTypeEnum type, long seq, long amount, long balanceAfter, String source);
+
+    /**
+     * at 시점의 잔액
+     * at 이전 마지막 원장의 balance_after, 없으면 at 이후 첫 원장의 변경 전 잔액 (balance_after - amount)
+     * @return 원장이 없으면 null
+     */
+    Long findBalanceAt(Long userId, BalanceTypeEnum type, LocalDateTime at);
+
+    /**
+     * date 종료 시점(다음날 00시)의 전체 지갑 잔액 스냅샷 기록 (이미 있는 스냅샷은 그대로 둔다)
+     * 유저별 잔액은 원장 -> 이전 스냅샷 -> 현재 지갑 순으로 정해진다 (각각 인덱스 1회 조회).
+     * @return 기록된 행 수
+     */
+    int snapshot(LocalDate date);
+
+    /**
+     * date 스냅샷의 레벨별 잔액 합계
+     * @return lv -> 잔액 합계 (스냅샷이 없으면 빈 Map)
+     */
+    Map<Integer, Long> sumSnapshotByLevel(LocalDate date, BalanceTypeEnum type);
+}
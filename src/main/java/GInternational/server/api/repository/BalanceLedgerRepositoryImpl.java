@@ -0,0 +1,119 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.vo.BalanceTypeEnum;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+public class BalanceLedgerRepositoryImpl implements BalanceLedgerRepositoryCustom {
+
+    private static final String NOW = "CONVERT_TZ(NOW(), @@session.time_zone, '+09:00')";
+
+    // %s : wallet 잔액 컬럼
+    private static final String APPEND_FROM_WALLET_SQL =
+            "INSERT INTO balance_ledger (user_id, balance_type, seq, amount, balance_after, source, created_at) " +
+            "SELECT user_id, ?, version, ?, %s, ?, " + NOW + " FROM wallet WHERE user_id = ?";
+
+    private static final String APPEND_SQL =
+            "INSERT INTO balance_ledger (user_id, balance_type, seq, amount, balance_after, source, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, " + NOW + ")";
+
+    private static final String SELECT_BEFORE_SQL =
+            "SELECT balance_after FROM balance_ledger WHERE user_id = ? AND balance_type = ? AND created_at <= ? " +
+            "ORDER BY created_at DESC, seq DESC LIMIT 1";
+
+    private static final String SELECT_AFTER_SQL =
+            "SELECT balance_after - amount FROM balance_ledger WHERE user_id = ? AND balance_type = ? AND created_at > ? " +
+            "ORDER BY created_at, seq LIMIT 1";
+
+    // %1$s : wallet 잔액 컬럼
+    private static final String SNAPSHOT_SQL =
+            "INSERT IGNORE INTO balance_snapshot (user_id, balance_type, snapshot_date, balance, created_at) " +
+            "SELECT w.user_id, ?, ?, COALESCE(" +
+            "(SELECT l.balance_after FROM balance_ledger l WHERE l.user_id = w.user_id AND l.balance_type = ? AND l.created_at < ? " +
+            "ORDER BY l.created_at DESC, l.seq DESC LIMIT 1), " +
+            "(SELECT s.balance FROM balance_snapshot s WHERE s.user_id = w.user_id AND s.balance_type = ? AND s.snapshot_date < ? " +
+            "ORDER BY s.snapshot_date DESC LIMIT 1), " +
+            "(SELECT l.balance_after - l.amount FROM balance_ledger l WHERE l.user_id = w.user_id AND l.balance_type = ? " +
+            "ORDER BY l.created_at, l.seq LIMIT 1), " +
+            "w.%1$s), " + NOW + " " +
+            "FROM wallet w WHERE w.user_id IS NOT NULL";
+
+    private static final String SUM_SNAPSHOT_BY_LEVEL_SQL =
+            "SELECT u.lv, SUM(s.balance) AS balance FROM balance_snapshot s JOIN users u ON u.user_id = s.user_id " +
+            "WHERE s.snapshot_date = ? AND s.balance_type = ? GROUP BY u.lv";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public BalanceLedgerRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public void appendFromWallet(BalanceTypeEnum type, Map<Long, Long> amounts, String source) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(amounts.entrySet());
+        jdbcTemplate.batchUpdate(String.format(APPEND_FROM_WALLET_SQL, type.getColumn()), entries, entries.size(),
+                (PreparedStatement ps, Map.Entry<Long, Long> entry) -> {
+                    ps.setString(1, type.name());
+                    ps.setLong(2, entry.getValue());
+                    ps.setString(3, source);
+                    ps.setLong(4, entry.getKey());
+                });
+    }
+
+
+    @Override
+    public void append(Long userId, BalanceTypeEnum type, long seq, long amount, long balanceAfter, String source) {
+        jdbcTemplate.update(APPEND_SQL, userId, type.name(), seq, amount, balanceAfter, source);
+    }
+
+
+    @Override
+    public Long findBalanceAt(Long userId, BalanceTypeEnum type, LocalDateTime at) {
+        Timestamp timestamp = Timestamp.valueOf(at);
+        List<Long> before = jdbcTemplate.queryForList(SELECT_BEFORE_SQL, Long.class, userId, type.name(), timestamp);
+        if (!before.isEmpty()) {
+            return before.get(0);
+        }
+        List<Long> after = jdbcTemplate.queryForList(SELECT_AFTER_SQL, Long.class, userId, type.name(), timestamp);
+        return after.isEmpty() ? null : after.get(0);
+    }
+
+
+    @Override
+    public int snapshot(LocalDate date) {
+        Date snapshotDate = Date.valueOf(date);
+        Timestamp end = Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+        int inserted = 0;
+        for (BalanceTypeEnum type : BalanceTypeEnum.values()) {
+            inserted += jdbcTemplate.update(String.format(SNAPSHOT_SQL, type.getColumn()),
+                    type.name(), snapshotDate,
+                    type.name(), end,
+                    type.name(), snapshotDate,
+                    type.name());
+        }
+        return inserted;
+    }
+
+
+    @Override
+    public Map<Integer, Long> sumSnapshotByLevel(LocalDate date, BalanceTypeEnum type) {
+        Map<Integer, Long> sums = new HashMap<>();
+        jdbcTemplate.query(SUM_SNAPSHOT_BY_LEVEL_SQL,
+                rs -> {
+                    sums.put(rs.getInt("lv"), rs.getLong("balance"));
+                }, Date.valueOf(date), type.name());
+        return sums;
+    }
+}
@@ -35,6 +35,9 @@ public interface BetHistoryRepository extends JpaRepository<BetHistory,Long>,Bet
     @Query("SELECT COUNT(b) FROM bet_history b WHERE b.betGroupId = :betGroupId")
     long countByBetGroupId(@Param("betGroupId") Long betGroupId);
 
+    @Query("SELECT MAX(b.betGroupId) FROM bet_history b")
+    Long findMaxBetGroupId();
+
     List<BetHistory> findByBetGroupId(Long betGroupId);
 
     List<BetHistory> findByBetGroupIdAndDeleted(Long betGroupId, boolean Deleted);
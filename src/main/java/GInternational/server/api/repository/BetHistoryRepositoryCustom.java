@@ -1,6 +1,7 @@
 package GInternational.server.api.repository;
 
 
+import GInternational.server.api.dto.MarketExposureDTO;
 import GInternational.server.api.entity.BetHistory;
 import GInternational.server.api.vo.BetFoldCountEnum;
 import GInternational.server.api.vo.BetTypeEnum;
@@ -49,4 +50,24 @@ public interface BetHistoryRepositoryCustom {
 
     List<BetHistory> searchByBetHistories(String matchId,String marketName,String winIdx,String drawIdx,String loseIdx);
 
+
+    /**
+     * 베팅 슬립의 모든 베팅을 한 번의 JDBC 배치 INSERT 로 저장하고, 생성된 bet_history_id 를 각 엔티티에 채운다
+     */
+    void insertAll(List<BetHistory> betHistories);
+
+
+    /**
+     * 경기의 미정산(WAITING) 베팅을 마켓별로 합산
+     * liability 는 베팅이 속한 슬립의 지급 예정액(베팅금 x 슬립 전체 배당)이다.
+     */
+    List<MarketExposureDTO> sumOpenExposureByMarket(String matchId);
+
+
+    /**
+     * 미정산(WAITING) 베팅이 남아있는 베팅 그룹의 모든 베팅 (지급 예정액 장부 적재용)
+     * bet_group_id, idx, match_id, market_name, bet, price, bet_type, order_status 만 채운다.
+     */
+    List<BetHistory> findOpenSlipLegs();
+
 }
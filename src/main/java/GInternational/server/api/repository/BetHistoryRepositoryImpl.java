@@ -1,6 +1,7 @@
 package GInternational.server.api.repository;
 
 
+import GInternational.server.api.dto.MarketExposureDTO;
 import GInternational.server.api.entity.BetHistory;
 import GInternational.server.api.vo.BetFoldCountEnum;
 import GInternational.server.api.vo.BetTypeEnum;
@@ -10,10 +11,18 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -23,11 +32,39 @@ import static GInternational.server.api.entity.QBetHistory.betHistory;
 import static GInternational.server.api.entity.QUser.user;
 
 
-@RequiredArgsConstructor
 public class BetHistoryRepositoryImpl implements BetHistoryRepositoryCustom {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO bet_history (user_id, bet_group_id, match_id, idx, sport_name, location_name, league_name, " +
+            "match_status, bet_status, home_name, away_name, bet_team, bet, price, bet_reward, order_status, " +
+            "bet_fold_type, bet_fold_count, bet_type, market_name, win_rate, draw_rate, lose_rate, bet_ip, limit_by_lv, " +
+            "start_date, bet_start_time, deleted, read_status, read_by, read_at, fail_bonus_col) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 슬립 지급 예정액 = 베팅금 x 배당의 곱 (EXP(SUM(LN(price))))
+    private static final String OPEN_EXPOSURE_SQL =
+            "SELECT b.market_name, COUNT(*) AS bet_count, SUM(CAST(b.bet AS SIGNED)) AS stake, " +
+            "FLOOR(SUM(g.payout)) AS liability " +
+            "FROM bet_history b " +
+            "JOIN (SELECT bet_group_id, MAX(CAST(bet AS SIGNED)) * EXP(SUM(LN(CAST(price AS DECIMAL(12, 4))))) AS payout " +
+            "      FROM bet_history " +
+            "      WHERE bet_group_id IN (SELECT bet_group_id FROM bet_history WHERE match_id = ? AND order_status = 'WAITING') " +
+            "      GROUP BY bet_group_id) g ON g.bet_group_id = b.bet_group_id " +
+            "WHERE b.match_id = ? AND b.order_status = 'WAITING' AND b.deleted = 0 " +
+            "GROUP BY b.market_name";
+
+    private static final String OPEN_SLIP_LEGS_SQL =
+            "SELECT bet_group_id, idx, match_id, market_name, bet, price, bet_type, order_status FROM bet_history " +
+            "WHERE deleted = 0 AND bet_group_id IN (SELECT bet_group_id FROM bet_history WHERE order_status = 'WAITING' AND deleted = 0)";
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public BetHistoryRepositoryImpl(JPAQueryFactory queryFactory, @Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
 
 
     @Override
@@ -245,4 +282,102 @@ public class BetHistoryRepositoryImpl implements BetHistoryRepositoryCustom {
     private BooleanExpression deletedOrderEq(Boolean deleted) {
         return deleted != null ? betHistory.deleted.eq(deleted) : betHistory.deleted.eq(true).or(betHistory.deleted.eq(false));
     }
+
+
+    @Override
+    public void insertAll(List<BetHistory> betHistories) {
+        if (betHistories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (BetHistory bet : betHistories) {
+                    int i = 1;
+                    ps.setLong(i++, bet.getUser().getId());
+                    ps.setLong(i++, bet.getBetGroupId());
+                    ps.setString(i++, bet.getMatchId());
+                    ps.setString(i++, bet.getIdx());
+                    ps.setString(i++, bet.getSportName());
+                    ps.setString(i++, bet.getLocationName());
+                    ps.setString(i++, bet.getLeagueName());
+                    ps.setString(i++, bet.getMatchStatus());
+                    ps.setString(i++, bet.getBetStatus());
+                    ps.setString(i++, bet.getHomeName());
+                    ps.setString(i++, bet.getAwayName());
+                    ps.setString(i++, bet.getBetTeam());
+                    ps.setString(i++, bet.getBet());
+                    ps.setString(i++, bet.getPrice());
+                    ps.setString(i++, bet.getBetReward());
+                    ps.setString(i++, name(bet.getOrderStatus()));
+                    ps.setString(i++, name(bet.getBetFoldType()));
+                    ps.setString(i++, name(bet.getBetFoldCount()));
+                    ps.setString(i++, name(bet.getBetType()));
+                    ps.setString(i++, bet.getMarketName());
+                    ps.setString(i++, bet.getWinRate());
+                    ps.setString(i++, bet.getDrawRate());
+                    ps.setString(i++, bet.getLoseRate());
+                    ps.setString(i++, bet.getBetIp());
+                    ps.setInt(i++, bet.getLimitByLv());
+                    ps.setString(i++, bet.getStartDate());
+                    ps.setTimestamp(i++, timestamp(bet.getBetStartTime()));
+                    ps.setBoolean(i++, bet.isDeleted());
+                    ps.setString(i++, bet.getReadStatus());
+                    ps.setString(i++, bet.getReadBy());
+                    if (bet.getReadAt() == null) {
+                        ps.setNull(i++, Types.TIMESTAMP);
+                    } else {
+                        ps.setTimestamp(i++, timestamp(bet.getReadAt()));
+                    }
+                    ps.setString(i, bet.getFailBonusCol());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                // 배치 순서대로 생성 키가 반환된다
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int index = 0; index < betHistories.size() && keys.next(); index++) {
+                        betHistories.get(index).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+
+    @Override
+    public List<MarketExposureDTO> sumOpenExposureByMarket(String matchId) {
+        return jdbcTemplate.query(OPEN_EXPOSURE_SQL,
+                (rs, rowNum) -> new MarketExposureDTO(rs.getString("market_name"), rs.getLong("bet_count"),
+                        rs.getLong("stake"), rs.getLong("liability")),
+                matchId, matchId);
+    }
+
+
+    @Override
+    public List<BetHistory> findOpenSlipLegs() {
+        return jdbcTemplate.query(OPEN_SLIP_LEGS_SQL, (rs, rowNum) -> {
+            BetHistory leg = new BetHistory();
+            leg.setBetGroupId(rs.getLong("bet_group_id"));
+            leg.setIdx(rs.getString("idx"));
+            leg.setMatchId(rs.getString("match_id"));
+            leg.setMarketName(rs.getString("market_name"));
+            leg.setBet(rs.getString("bet"));
+            leg.setPrice(rs.getString("price"));
+            String betType = rs.getString("bet_type");
+            leg.setBetType(betType == null ? null : BetTypeEnum.valueOf(betType));
+            String orderStatus = rs.getString("order_status");
+            leg.setOrderStatus(orderStatus == null ? null : OrderStatusEnum.valueOf(orderStatus));
+            return leg;
+        });
+    }
+
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
 }
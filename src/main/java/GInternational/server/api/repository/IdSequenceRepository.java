@@ -0,0 +1,7 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.entity.IdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String>, IdSequenceRepositoryCustom {
+}
@@ -0,0 +1,15 @@
+package GInternational.server.api.repository;
+
+public interface IdSequenceRepositoryCustom {
+
+    /**
+     * next_val 을 size 만큼 올리고 올린 뒤의 값을 반환한다 (발급 구간 : [반환값 - size, 반환값))
+     * @return 시퀀스가 없으면 null
+     */
+    Long advance(String name, int size);
+
+    /**
+     * 시퀀스가 없을 때만 만든다 (여러 서버가 동시에 만들어도 하나만 남는다)
+     */
+    void createIfAbsent(String name, long nextVal);
+}
@@ -0,0 +1,34 @@
+package GInternational.server.api.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class IdSequenceRepositoryImpl implements IdSequenceRepositoryCustom {
+
+    // LAST_INSERT_ID(expr) 로 올린 값을 같은 커넥션에서 다시 읽는다 (row lock 은 UPDATE 한 번만 잡는다)
+    private static final String ADVANCE_SQL = "UPDATE id_sequence SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?";
+    private static final String LAST_INSERT_ID_SQL = "SELECT LAST_INSERT_ID()";
+    private static final String CREATE_SQL = "INSERT IGNORE INTO id_sequence (name, next_val) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public IdSequenceRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public Long advance(String name, int size) {
+        if (jdbcTemplate.update(ADVANCE_SQL, size, name) == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(LAST_INSERT_ID_SQL, Long.class);
+    }
+
+
+    @Override
+    public void createIfAbsent(String name, long nextVal) {
+        jdbcTemplate.update(CREATE_SQL, name, nextVal);
+    }
+}
@@ -22,4 +22,6 @@ public interface LoginStatisticRepository extends JpaRepository<LoginStatistic,
 
     @Query("SELECT s.aasId FROM login_statistic s WHERE s.date = :date")
     Set<Integer> findDistinctAasIdByDate(LocalDate date);
+
+    boolean existsByDateAndAasId(LocalDate date, long aasId);
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface MatchMetaRepository extends JpaRepository<MatchMetaData, Long> {
+public interface MatchMetaRepository extends JpaRepository<MatchMetaData, Long>, MatchMetaRepositoryCustom {
 
     Optional<MatchMetaData> findByMatchId(String matchId);
 }
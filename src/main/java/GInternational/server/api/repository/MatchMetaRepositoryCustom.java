@@ -0,0 +1,15 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.entity.meta.MatchMetaData;
+
+import java.util.Collection;
+
+public interface MatchMetaRepositoryCustom {
+
+    /**
+     * 경기별 베팅 수/베팅 총액 누적을 한 번의 배치 INSERT ... ON DUPLICATE KEY UPDATE 로 반영
+     * 기존 값을 읽어 덮어쓰지 않으므로 같은 경기에 동시에 들어온 베팅의 누적을 잃지 않는다.
+     * @param increments 경기별 증가분 (preCount, liveCount, preTotalAmount, liveTotalAmount 를 증가분으로 사용)
+     */
+    void incrementAll(Collection<MatchMetaData> increments);
+}
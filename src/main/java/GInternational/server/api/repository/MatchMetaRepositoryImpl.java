@@ -0,0 +1,73 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.entity.meta.MatchMetaData;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class MatchMetaRepositoryImpl implements MatchMetaRepositoryCustom {
+
+    // 베팅 총액 컬럼이 varchar 라 숫자로 변환해서 더한다
+    private static final String INCREMENT_SQL =
+            "INSERT INTO match_meta (match_id, pre_count, live_count, pre_total_amount, live_total_amount, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pre_count = pre_count + VALUES(pre_count), live_count = live_count + VALUES(live_count), " +
+            "pre_total_amount = CAST(CAST(pre_total_amount AS SIGNED) + CAST(VALUES(pre_total_amount) AS SIGNED) AS CHAR), " +
+            "live_total_amount = CAST(CAST(live_total_amount AS SIGNED) + CAST(VALUES(live_total_amount) AS SIGNED) AS CHAR), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String UNIQUE_KEY_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'match_meta' AND index_name = 'uk_match_meta_match_id' AND non_unique = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public MatchMetaRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public void incrementAll(Collection<MatchMetaData> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        // 같은 순서로 row lock 을 잡도록 match_id 순으로 정렬한다 (동시 베팅 간 데드락 방지)
+        List<MatchMetaData> sorted = new ArrayList<>(increments);
+        sorted.sort(Comparator.comparing(MatchMetaData::getMatchId));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, sorted, sorted.size(),
+                (PreparedStatement ps, MatchMetaData increment) -> {
+                    ps.setString(1, increment.getMatchId());
+                    ps.setInt(2, increment.getPreCount());
+                    ps.setInt(3, increment.getLiveCount());
+                    ps.setString(4, increment.getPreTotalAmount());
+                    ps.setString(5, increment.getLiveTotalAmount());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+
+    /**
+     * 증분 반영(ON DUPLICATE KEY UPDATE)은 match_id 유니크 키가 있어야 누적되므로 기동 시 확인만 한다
+     * 키가 없으면 scripts/sql/match_meta_unique_match_id.sql 로 중복 정리 후 키를 추가해야 한다.
+     */
+    @PostConstruct
+    public void verifyUniqueMatchIdKey() {
+        Integer count = jdbcTemplate.queryForObject(UNIQUE_KEY_SQL, Integer.class);
+        if (count == null || count == 0) {
+            throw new IllegalStateException("match_meta unique key uk_match_meta_match_id is missing; "
+                    + "run scripts/sql/match_meta_unique_match_id.sql");
+        }
+    }
+}
@@ -10,5 +10,5 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface MoneyLogRepository extends JpaRepository<MoneyLog, Long>, JpaSpecificationExecutor<MoneyLog> {
+public interface MoneyLogRepository extends JpaRepository<MoneyLog, Long>, JpaSpecificationExecutor<MoneyLog>, MoneyLogRepositoryCustom {
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.dto.MoneyLogEntryDTO;
+
+import java.util.List;
+
+public interface MoneyLogRepositoryCustom {
+
+    /**
+     * 머니로그 여러 건을 한 번의 배치 INSERT 로 기록 (유저 엔티티를 다시 읽지 않는다)
+     */
+    void insertAll(List<MoneyLogEntryDTO> entries);
+
+    /**
+     * 머니로그 여러 건을 outbox 에 한 번의 배치 INSERT 로 기록 (호출한 트랜잭션과 함께 커밋된다)
+     */
+    void appendOutbox(List<MoneyLogEntryDTO> entries);
+
+    /**
+     * outbox 의 앞쪽 limit 건을 잠그고 money_log 로 옮긴 뒤 삭제 (호출한 트랜잭션 안에서 실행해야 한다)
+     * @return 옮긴 건수
+     */
+    int drainOutbox(int limit);
+}
@@ -0,0 +1,95 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.dto.MoneyLogEntryDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.List;
+
+public class MoneyLogRepositoryImpl implements MoneyLogRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO money_log (user_id, username, nickname, used_sports_balance, final_sports_balance, bigo, category, site, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, CONVERT_TZ(NOW(), @@session.time_zone, '+09:00'), CONVERT_TZ(NOW(), @@session.time_zone, '+09:00'))";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO money_log_outbox (user_id, username, nickname, used_sports_balance, final_sports_balance, bigo, category, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, CONVERT_TZ(NOW(), @@session.time_zone, '+09:00'))";
+
+    private static final String LOCK_OUTBOX_SQL =
+            "SELECT money_log_outbox_id FROM money_log_outbox ORDER BY money_log_outbox_id LIMIT ? FOR UPDATE";
+
+    private static final String MOVE_OUTBOX_SQL =
+            "INSERT INTO money_log (user_id, username, nickname, used_sports_balance, final_sports_balance, bigo, category, site, created_at, updated_at) " +
+            "SELECT user_id, username, nickname, used_sports_balance, final_sports_balance, bigo, category, ?, created_at, created_at " +
+            "FROM money_log_outbox WHERE money_log_outbox_id IN %s ORDER BY money_log_outbox_id";
+
+    private static final String DELETE_OUTBOX_SQL = "DELETE FROM money_log_outbox WHERE money_log_outbox_id IN %s";
+
+    private static final String SITE = "test";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public MoneyLogRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public void insertAll(List<MoneyLogEntryDTO> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(),
+                (PreparedStatement ps, MoneyLogEntryDTO entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setString(2, entry.getUsername());
+                    ps.setString(3, entry.getNickname());
+                    ps.setLong(4, entry.getUsed());
+                    ps.setLong(5, entry.getFinalBalance());
+                    ps.setString(6, entry.getBigo());
+                    ps.setString(7, entry.getCategory().name());
+                    ps.setString(8, SITE);
+                });
+    }
+
+
+    @Override
+    public void appendOutbox(List<MoneyLogEntryDTO> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, entries, entries.size(),
+                (PreparedStatement ps, MoneyLogEntryDTO entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setString(2, entry.getUsername());
+                    ps.setString(3, entry.getNickname());
+                    ps.setLong(4, entry.getUsed());
+                    ps.setLong(5, entry.getFinalBalance());
+                    ps.setString(6, entry.getBigo());
+                    ps.setString(7, entry.getCategory().name());
+                });
+    }
+
+
+    @Override
+    public int drainOutbox(int limit) {
+        // 다른 서버의 writer 와 같은 행을 옮기지 않도록 먼저 잠근다 (잠금을 기다린 쪽은 삭제된 행을 건너뛴다)
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_OUTBOX_SQL, Long.class, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = "(" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] moveArgs = new Object[ids.size() + 1];
+        moveArgs[0] = SITE;
+        for (int i = 0; i < ids.size(); i++) {
+            moveArgs[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(String.format(MOVE_OUTBOX_SQL, placeholders), moveArgs);
+        jdbcTemplate.update(String.format(DELETE_OUTBOX_SQL, placeholders), ids.toArray());
+        return ids.size();
+    }
+}
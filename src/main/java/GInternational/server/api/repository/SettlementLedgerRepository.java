@@ -0,0 +1,7 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.entity.SettlementLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SettlementLedgerRepository extends JpaRepository<SettlementLedger, Long>, SettlementLedgerRepositoryCustom {
+}
@@ -0,0 +1,22 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.dto.SettlementLedgerDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface SettlementLedgerRepositoryCustom {
+
+    /**
+     * 그룹별 마지막 원장 버전
+     * @return bet_group_id -> 마지막 버전 (원장이 없는 그룹은 제외)
+     */
+    Map<Long, SettlementLedgerDTO> findLatestByBetGroupIds(Collection<Long> betGroupIds);
+
+    /**
+     * 원장 배치 기록 (INSERT IGNORE)
+     * @return 실제로 기록된 항목 (같은 bet_group_id, settlement_version 이 이미 있는 항목은 제외)
+     */
+    List<SettlementLedgerDTO> insertIgnoreDuplicates(List<SettlementLedgerDTO> entries);
+}
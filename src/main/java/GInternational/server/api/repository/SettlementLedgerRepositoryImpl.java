@@ -0,0 +1,87 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.dto.SettlementLedgerDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.*;
+
+public class SettlementLedgerRepositoryImpl implements SettlementLedgerRepositoryCustom {
+
+    private static final String SELECT_SQL =
+            "SELECT bet_group_id, settlement_version, user_id, payout, delta, bet_reward FROM settlement_ledger " +
+            "WHERE bet_group_id IN ";
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO settlement_ledger (bet_group_id, settlement_version, user_id, payout, delta, bet_reward, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, CONVERT_TZ(NOW(), @@session.time_zone, '+09:00'), CONVERT_TZ(NOW(), @@session.time_zone, '+09:00'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public SettlementLedgerRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public Map<Long, SettlementLedgerDTO> findLatestByBetGroupIds(Collection<Long> betGroupIds) {
+        if (betGroupIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = "(" + String.join(",", Collections.nCopies(betGroupIds.size(), "?")) + ")";
+        Map<Long, SettlementLedgerDTO> latest = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL + placeholders,
+                rs -> {
+                    SettlementLedgerDTO entry = new SettlementLedgerDTO(
+                            rs.getLong("bet_group_id"),
+                            rs.getInt("settlement_version"),
+                            rs.getLong("user_id"),
+                            rs.getLong("payout"),
+                            rs.getLong("delta"),
+                            rs.getString("bet_reward"));
+                    latest.merge(entry.getBetGroupId(), entry,
+                            (a, b) -> a.getSettlementVersion() >= b.getSettlementVersion() ? a : b);
+                }, betGroupIds.toArray());
+        return latest;
+    }
+
+
+    @Override
+    public List<SettlementLedgerDTO> insertIgnoreDuplicates(List<SettlementLedgerDTO> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int[][] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(),
+                (PreparedStatement ps, SettlementLedgerDTO entry) -> {
+                    ps.setLong(1, entry.getBetGroupId());
+                    ps.setInt(2, entry.getSettlementVersion());
+                    ps.setLong(3, entry.getUserId());
+                    ps.setLong(4, entry.getPayout());
+                    ps.setLong(5, entry.getDelta());
+                    if (entry.getBetReward() == null) {
+                        ps.setNull(6, Types.VARCHAR);
+                    } else {
+                        ps.setString(6, entry.getBetReward());
+                    }
+                });
+
+        // 1 이면 기록, 0 이면 중복 키로 무시된 항목
+        // 드라이버가 건수를 주지 않으면(SUCCESS_NO_INFO, rewriteBatchedStatements) 이번 실행이 기록했는지 알 수 없으므로
+        // 지급이 두 번 또는 누락되지 않도록 트랜잭션 전체를 실패시킨다 (다음 catch-up 에서 다시 처리)
+        List<SettlementLedgerDTO> posted = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            int count = inserted[0][i];
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("settlement_ledger insert returned no update count; disable rewriteBatchedStatements for this data source");
+            }
+            if (count > 0) {
+                posted.add(entries.get(i));
+            }
+        }
+        return posted;
+    }
+}
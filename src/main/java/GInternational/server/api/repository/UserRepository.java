@@ -10,8 +10,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +33,11 @@ public interface UserRepository extends JpaRepository<User,Long>, UserRepository
 
     Optional<User> findByAasId(Integer aasId);
 
+    @Modifying
+    @Transactional(value = "clientServerTransactionManager")
+    @Query("UPDATE users u SET u.lastBetTime = :lastBetTime WHERE u.id = :userId")
+    int updateLastBetTime(@Param("userId") Long userId, @Param("lastBetTime") LocalDateTime lastBetTime);
+
     @Query("SELECT u FROM users u WHERE u.aasId = :aasId AND u.role IN ('ROLE_USER', 'ROLE_TEST')")
     Optional<User> findByAasIdAndRoles(@Param("aasId") Integer aasId);
 
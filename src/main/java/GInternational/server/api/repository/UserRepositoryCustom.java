@@ -1,5 +1,6 @@
 package GInternational.server.api.repository;
 
+import GInternational.server.api.dto.AasUserDTO;
 import GInternational.server.api.dto.AmazonUserInfoDTO;
 import GInternational.server.api.dto.UserCalculateDTO;
 import GInternational.server.api.entity.User;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface UserRepositoryCustom {
     Page<User> deletedUserInfo(Pageable pageable, LocalDate startDate, LocalDate endDate);
@@ -24,5 +26,10 @@ public interface UserRepositoryCustom {
     List<AmazonUserInfoDTO> findUsersByReferredByAndIsAmazonUser(String referredBy);
 
     List<User> findTop30ByLastVisitNotNullOrderByLastVisit();
+
+    /**
+     * 게임사 콜백용 유저 식별 정보 조회 (users, wallet 의 id 만 조회한다)
+     */
+    Optional<AasUserDTO> findAasUserByAasId(Integer aasId);
 }
 
@@ -1,6 +1,7 @@
 package GInternational.server.api.repository;
 
 
+import GInternational.server.api.dto.AasUserDTO;
 import GInternational.server.api.dto.AmazonUserInfoDTO;
 import GInternational.server.api.dto.UserCalculateDTO;
 import GInternational.server.api.entity.*;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static GInternational.server.api.entity.QUser.user;
@@ -220,4 +222,16 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 .limit(30)
                 .fetch();
     }
-}
\ No newline at end of file
+
+
+    @Override
+    public Optional<AasUserDTO> findAasUserByAasId(Integer aasId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(AasUserDTO.class,
+                        user.id, user.aasId, wallet.id, user.username, user.nickname, user.role))
+                .from(user)
+                .leftJoin(wallet).on(wallet.user.id.eq(user.id))
+                .where(user.aasId.eq(aasId))
+                .fetchFirst());
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface WalletRepository extends JpaRepository<Wallet,Long> {
+public interface WalletRepository extends JpaRepository<Wallet,Long>, WalletRepositoryCustom {
     Optional<Wallet> findById(Long walletId);
 
     Optional<Wallet> findByUser(User user);
@@ -0,0 +1,57 @@
+package GInternational.server.api.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface WalletRepositoryCustom {
+
+    /**
+     * 유저별 스포츠머니 증감을 한 번의 배치 UPDATE (sports_balance = sports_balance + ?) 로 반영
+     * 엔티티를 읽어 덮어쓰지 않으므로 동시에 들어온 다른 잔액 변경을 잃지 않는다.
+     * @param deltas user_id -> 증감액 (음수면 차감)
+     * @return 반영된 user_id 목록 (지갑이 없는 유저는 제외)
+     */
+    Collection<Long> adjustSportsBalances(Map<Long, Long> deltas);
+
+    /**
+     * 반영 후 잔액 조회 (머니로그 최종머니 기록용)
+     * @return user_id -> sports_balance
+     */
+    Map<Long, Long> findSportsBalances(Collection<Long> userIds);
+
+
+    /**
+     * 스포츠머니 조건부 차감 (sports_balance >= amount 인 경우에만 차감, 누적 스포츠 베팅금액도 같은 UPDATE 에서 증가)
+     * 베팅 접수 시 슬립 전체 베팅금을 한 번에 예약하는 용도이며, 잔액 검사와 차감이 한 UPDATE 라 동시 베팅이 잔액을 음수로 만들지 않는다.
+     * @return 반영 후 스포츠머니, 잔액 부족이거나 지갑이 없으면 null
+     */
+    Long debitSportsBalance(Long userId, long amount);
+
+
+    /**
+     * 카지노머니 조건부 차감 (casino_balance >= amount 인 경우에만 casino_balance = casino_balance - amount + creditAmount)
+     * 잔액 검사와 차감을 한 UPDATE 로 처리하므로 동시에 들어온 차감이 잔액을 음수로 만들지 않는다.
+     * 누적 카지노/슬롯 베팅금액도 같은 UPDATE 에서 증가시킨다.
+     * @return 반영 후 카지노머니, 잔액 부족이거나 지갑이 없으면 null
+     */
+    Long debitCasinoBalance(Long userId, long amount, long creditAmount, long casinoBet, long slotBet);
+
+
+    /**
+     * 카지노머니 증가 (casino_balance = casino_balance + amount)
+     * @return 반영 후 카지노머니, 지갑이 없으면 null
+     */
+    Long creditCasinoBalance(Long userId, long amount);
+
+    /**
+     * 유저별 카지노머니 증가를 한 번의 배치 UPDATE 로 반영 (미처리 결과 일괄 정산용)
+     * @param deltas user_id -> 증가액
+     * @return 반영된 user_id 목록 (지갑이 없는 유저는 제외)
+     */
+    Collection<Long> adjustCasinoBalances(Map<Long, Long> deltas);
+
+    /**
+     * @return 카지노머니, 지갑이 없으면 null
+     */
+    Long findCasinoBalance(Long userId);
+}
@@ -0,0 +1,180 @@
+package GInternational.server.api.repository;
+
+import GInternational.server.api.vo.BalanceTypeEnum;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class WalletRepositoryImpl implements WalletRepositoryCustom {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletRepositoryImpl.class);
+
+    private static final String ADJUST_SQL = "UPDATE wallet SET sports_balance = sports_balance + ?, version = version + 1 WHERE user_id = ?";
+    private static final String SELECT_BALANCE_SQL = "SELECT user_id, sports_balance FROM wallet WHERE user_id IN ";
+    private static final String DEBIT_SPORTS_SQL =
+            "UPDATE wallet SET sports_balance = sports_balance - ?, accumulated_sports_bet = accumulated_sports_bet + ?, " +
+            "version = version + 1 " +
+            "WHERE user_id = ? AND sports_balance >= ?";
+    private static final String SELECT_SPORTS_BALANCE_SQL = "SELECT sports_balance FROM wallet WHERE user_id = ?";
+    private static final String DEBIT_CASINO_SQL =
+            "UPDATE wallet SET casino_balance = casino_balance - ? + ?, " +
+            "accumulated_casino_bet = accumulated_casino_bet + ?, accumulated_slot_bet = accumulated_slot_bet + ?, " +
+            "version = version + 1 " +
+            "WHERE user_id = ? AND casino_balance >= ?";
+    private static final String CREDIT_CASINO_SQL =
+            "UPDATE wallet SET casino_balance = casino_balance + ?, version = version + 1 WHERE user_id = ?";
+    private static final String SELECT_CASINO_BALANCE_SQL = "SELECT casino_balance FROM wallet WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final Timer adjustTimer;
+    private final DistributionSummary adjustRows;
+    private final Timer debitCasinoTimer;
+
+
+    public WalletRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate,
+                                BalanceLedgerRepository balanceLedgerRepository,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.balanceLedgerRepository = balanceLedgerRepository;
+        this.adjustTimer = Timer.builder("wallet.sports_balance.adjust")
+                .description("배치 잔액 증감 UPDATE 소요 시간")
+                .register(meterRegistry);
+        this.adjustRows = DistributionSummary.builder("wallet.sports_balance.adjust.rows")
+                .description("배치당 잔액 증감 row 수")
+                .register(meterRegistry);
+        this.debitCasinoTimer = Timer.builder("wallet.casino_balance.debit")
+                .description("카지노머니 조건부 차감 소요 시간")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public Collection<Long> adjustSportsBalances(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 같은 순서로 row lock 을 잡도록 user_id 순으로 정렬한다 (동시 배치 간 데드락 방지)
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+
+        long started = System.nanoTime();
+        int[][] updated = jdbcTemplate.batchUpdate(ADJUST_SQL, entries, entries.size(),
+                (PreparedStatement ps, Map.Entry<Long, Long> entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+        long elapsed = System.nanoTime() - started;
+        adjustTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        adjustRows.record(entries.size());
+
+        List<Long> adjusted = new ArrayList<>(entries.size());
+        Map<Long, Long> ledger = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] != 0) {
+                adjusted.add(entries.get(i).getKey());
+                ledger.put(entries.get(i).getKey(), entries.get(i).getValue());
+            } else {
+                logger.warn("Wallet not found for user id: {}", entries.get(i).getKey());
+            }
+        }
+        balanceLedgerRepository.appendFromWallet(BalanceTypeEnum.SPORTS, ledger, "sports_adjust");
+        logger.debug("Adjusted sports balance of {} wallets in {} ms", adjusted.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return adjusted;
+    }
+
+
+    @Override
+    public Map<Long, Long> findSportsBalances(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = "(" + String.join(",", Collections.nCopies(userIds.size(), "?")) + ")";
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query(SELECT_BALANCE_SQL + placeholders,
+                rs -> {
+                    balances.put(rs.getLong("user_id"), rs.getLong("sports_balance"));
+                }, userIds.toArray());
+        return balances;
+    }
+
+
+    @Override
+    public Long debitSportsBalance(Long userId, long amount) {
+        if (jdbcTemplate.update(DEBIT_SPORTS_SQL, amount, amount, userId, amount) == 0) {
+            return null;
+        }
+        balanceLedgerRepository.appendFromWallet(BalanceTypeEnum.SPORTS,
+                Collections.singletonMap(userId, -amount), "sports_bet");
+        // debitCasinoBalance 와 마찬가지로 row lock 을 잡은 상태라 방금 반영한 잔액이 조회된다
+        return jdbcTemplate.queryForObject(SELECT_SPORTS_BALANCE_SQL, Long.class, userId);
+    }
+
+
+    @Override
+    public Long debitCasinoBalance(Long userId, long amount, long creditAmount, long casinoBet, long slotBet) {
+        return debitCasinoTimer.record(() -> {
+            int updated = jdbcTemplate.update(DEBIT_CASINO_SQL, amount, creditAmount, casinoBet, slotBet, userId, amount);
+            if (updated == 0) {
+                return null;
+            }
+            balanceLedgerRepository.appendFromWallet(BalanceTypeEnum.CASINO,
+                    Collections.singletonMap(userId, creditAmount - amount), "casino_debit");
+            // 같은 트랜잭션에서 row lock 을 잡고 있으므로 방금 반영한 잔액이 그대로 조회된다
+            return jdbcTemplate.queryForObject(SELECT_CASINO_BALANCE_SQL, Long.class, userId);
+        });
+    }
+
+
+    @Override
+    public Long creditCasinoBalance(Long userId, long amount) {
+        if (jdbcTemplate.update(CREDIT_CASINO_SQL, amount, userId) == 0) {
+            return null;
+        }
+        balanceLedgerRepository.appendFromWallet(BalanceTypeEnum.CASINO,
+                Collections.singletonMap(userId, amount), "casino_credit");
+        return jdbcTemplate.queryForObject(SELECT_CASINO_BALANCE_SQL, Long.class, userId);
+    }
+
+
+    @Override
+    public Collection<Long> adjustCasinoBalances(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // adjustSportsBalances 와 같은 이유로 user_id 순으로 잠근다
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(CREDIT_CASINO_SQL, entries, entries.size(),
+                (PreparedStatement ps, Map.Entry<Long, Long> entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+
+        List<Long> adjusted = new ArrayList<>(entries.size());
+        Map<Long, Long> ledger = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] != 0) {
+                adjusted.add(entries.get(i).getKey());
+                ledger.put(entries.get(i).getKey(), entries.get(i).getValue());
+            } else {
+                logger.warn("Wallet not found for user id: {}", entries.get(i).getKey());
+            }
+        }
+        balanceLedgerRepository.appendFromWallet(BalanceTypeEnum.CASINO, ledger, "casino_adjust");
+        return adjusted;
+    }
+
+
+    @Override
+    public Long findCasinoBalance(Long userId) {
+        List<Long> balances = jdbcTemplate.queryForList(SELECT_CASINO_BALANCE_SQL, Long.class, userId);
+        return balances.isEmpty() ? null : balances.get(0);
+    }
+}
@@ -0,0 +1,77 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.dto.AasUserDTO;
+import GInternational.server.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * aas_id -> 유저 식별 정보(userId, walletId, role 등) 캐시
+ * 게임사 콜백(balance, debit, credit, bonus, buyin)마다 User 엔티티 전체를 읽지 않도록 가벼운 조회 결과를 보관한다.
+ *
+ * 닉네임/권한 변경, aas_id 변경, 회원 삭제 경로는 {@link #evictOnCompletion} 으로 해당 aas_id 를 직접 제거하며,
+ * 다른 서버에서 바뀐 경우를 위해 expire-minutes 가 지나면 다시 조회한다. 존재하지 않는 aas_id 는 캐시하지 않는다.
+ */
+@Component
+public class AasUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, AasUserDTO> cache;
+
+
+    public AasUserCache(UserRepository userRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${kplay.user-cache.maximum-size:100000}") long maximumSize,
+                        @Value("${kplay.user-cache.expire-minutes:10}") long expireMinutes) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kplay.user");
+    }
+
+
+    public Optional<AasUserDTO> get(Integer aasId) {
+        if (aasId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(aasId, key -> userRepository.findAasUserByAasId(key).orElse(null)));
+    }
+
+
+    public void evict(Integer aasId) {
+        if (aasId != null) {
+            cache.invalidate(aasId);
+        }
+    }
+
+
+    /**
+     * 변경 직후 바로 제거하고, 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 제거한다.
+     */
+    public void evictOnCompletion(Integer aasId) {
+        if (aasId == null) {
+            return;
+        }
+        evict(aasId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(aasId);
+                }
+            });
+        }
+    }
+}
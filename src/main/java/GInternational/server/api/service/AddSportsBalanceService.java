@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.util.Collections;
 
 @Service
 @Transactional(value = "clientServerTransactionManager")
@@ -36,20 +37,25 @@ public class AddSportsBalanceService {
         Wallet wallet = walletRepository.findById(walletId)
                 .orElseThrow(() -> new RestControllerException(ExceptionCode.WALLET_NOT_FOUND, "지갑을 찾을 수 없습니다."));
 
+        // 엔티티를 덮어쓰지 않고 sports_balance = sports_balance + ? 로 반영하여 동시에 들어온 정산/베팅 차감을 잃지 않는다
         if ("지급".equals(requestDTO.getOperation())) {
-            wallet.setSportsBalance(wallet.getSportsBalance() + requestDTO.getSportsBalance());
-            audit("머니수동지급", requestDTO.getSportsBalance(), user, principalDetails, request, requestDTO.getMemo());
+            long finalBalance = adjust(user, wallet, requestDTO.getSportsBalance());
+            audit("머니수동지급", requestDTO.getSportsBalance(), finalBalance, user, principalDetails, request, requestDTO.getMemo());
         } else if ("차감".equals(requestDTO.getOperation())) {
-            wallet.setSportsBalance(wallet.getSportsBalance() - requestDTO.getSportsBalance());
-            audit("머니수동차감", requestDTO.getSportsBalance(), user, principalDetails, request, requestDTO.getMemo());
+            long finalBalance = adjust(user, wallet, -requestDTO.getSportsBalance());
+            audit("머니수동차감", requestDTO.getSportsBalance(), finalBalance, user, principalDetails, request, requestDTO.getMemo());
         }
+    }
 
-        walletRepository.save(wallet);
+    private long adjust(User user, Wallet wallet, long delta) {
+        walletRepository.adjustSportsBalances(Collections.singletonMap(user.getId(), delta));
+        return walletRepository.findSportsBalances(Collections.singletonList(user.getId()))
+                .getOrDefault(user.getId(), wallet.getSportsBalance() + delta);
     }
 
-    private void audit(String message, Long sportsBalance, User user, PrincipalDetails principalDetails, HttpServletRequest request, String memo) {
+    private void audit(String message, Long sportsBalance, long finalBalance, User user, PrincipalDetails principalDetails, HttpServletRequest request, String memo) {
         String clientIp = request.getRemoteAddr();
-        moneyLogService.recordMoneyUsage(user.getId(), sportsBalance, user.getWallet().getSportsBalance(), MoneyLogCategoryEnum.valueOf(message), memo);
+        moneyLogService.recordMoneyUsage(user, sportsBalance, finalBalance, MoneyLogCategoryEnum.valueOf(message), memo);
 
         AuditContext context = AuditContextHolder.getContext();
         context.setIp(clientIp);
@@ -9,6 +9,7 @@ import GInternational.server.api.repository.*;
 import GInternational.server.api.utilities.AuditContext;
 import GInternational.server.api.utilities.AuditContextHolder;
 import GInternational.server.api.vo.AdminEnum;
+import GInternational.server.api.vo.BalanceTypeEnum;
 import GInternational.server.api.vo.UserGubunEnum;
 import GInternational.server.api.vo.UserMonitoringStatusEnum;
 import GInternational.server.common.exception.ExceptionCode;
@@ -41,6 +42,8 @@ public class AdminService {
     private final ExchangeRepository exchangeRepository;
     private final UserUpdatedRecordService userUpdatedRecordService;
     private final UserUpdatedRecordRepository userUpdatedRecordRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final AasUserCache aasUserCache;
 
     /**
      * 최상위 관리자를 생성.
@@ -126,6 +129,7 @@ public class AdminService {
         context.setTimestamp(LocalDateTime.now());
 
         userRepository.delete(user);
+        aasUserCache.evictOnCompletion(user.getAasId());
     }
 
     /**
@@ -226,6 +230,7 @@ public class AdminService {
 
         walletRepository.save(wallet);
         User savedUser = userRepository.save(user);
+        aasUserCache.evictOnCompletion(user.getAasId());
 
         AuditContext context = AuditContextHolder.getContext();
         String clientIp = request.getRemoteAddr();
@@ -301,6 +306,15 @@ public class AdminService {
                 resultList.addAll(levelResults);
             }
         }
+
+        // 보유머니(sportsBalance)는 기존 집계 그대로 두고, 기간 종료 시점 스냅샷 합계는 별도 항목으로 내려준다
+        // (기존 집계는 기간 내 충전/환전한 회원만, 스냅샷은 레벨의 전체 회원이 대상이라 서로 대체할 수 없다)
+        Map<Integer, Long> closingBalances = balanceLedgerService.snapshotByLevel(endDate, BalanceTypeEnum.SPORTS);
+        if (!closingBalances.isEmpty()) {
+            for (UserCalculateDTO result : resultList) {
+                result.setClosingSportsBalance(closingBalances.getOrDefault(result.getLv(), 0L));
+            }
+        }
         return resultList;
     }
 
@@ -34,6 +34,7 @@ public class AutoChargeService {
     private final AutoDepositTransactionRepository autoDepositTransactionRepository;
     private final RechargeTransactionRepository rechargeTransactionRepository;
     private final LevelBonusPointSettingRepository levelBonusPointSettingRepository;
+    private final BalanceLedgerService balanceLedgerService;
 
     @Value("${secret.api-key}")
     private String secretApiKey;
@@ -144,7 +145,7 @@ public class AutoChargeService {
                 wallet.setSportsBalance(wallet.getSportsBalance() + rechargeTransaction.getRechargeAmount());
                 wallet.setPoint(wallet.getPoint() + rechargeTransaction.getBonus());
                 wallet.setChargedCount(wallet.getChargedCount() + 1);
-                walletRepository.save(wallet);
+                balanceLedgerService.saveWallet(wallet, "auto_recharge");
             } else {
                 throw new RestControllerException(ExceptionCode.INVALID_REQUEST);
             }
@@ -0,0 +1,108 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.entity.Wallet;
+import GInternational.server.api.repository.BalanceLedgerRepository;
+import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.vo.BalanceTypeEnum;
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.common.exception.RestControllerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 잔액 원장 / 일별 잔액 스냅샷
+ * 지갑 잔액이 바뀔 때마다 원장에 (seq = wallet.version, 증감액, 변경 후 잔액) 을 남기므로,
+ * 과거 시점의 잔액은 머니로그를 처음부터 다시 합산하지 않고 원장 인덱스 조회 한 번으로 구한다.
+ * 일별 스냅샷은 매일 전날 종료 시점 잔액을 유저별로 기록하며, 기간 정산의 기말 잔액 합계에 사용된다.
+ *
+ * 잔액 증감 SQL 경로(WalletRepositoryImpl)는 같은 SQL 트랜잭션에서, 엔티티 저장 경로는 {@link #saveWallet} 가 원장을 기록한다.
+ * 원장을 읽는 곳은 시점 잔액 조회(balanceAt)와 기간 정산의 기말 잔액(snapshotByLevel) 두 곳이다.
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager")
+public class BalanceLedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceLedgerService.class);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final WalletRepository walletRepository;
+
+
+    public BalanceLedgerService(BalanceLedgerRepository balanceLedgerRepository, WalletRepository walletRepository) {
+        this.balanceLedgerRepository = balanceLedgerRepository;
+        this.walletRepository = walletRepository;
+    }
+
+
+    /**
+     * 잔액이 바뀐 지갑 엔티티를 저장하고 원장을 기록
+     * 증감액은 로드(또는 마지막 기록) 시점 잔액과의 차이이며, 저장 후 올라간 version 을 seq 로 쓴다.
+     * 호출자의 트랜잭션에 참여하므로 지갑 UPDATE 와 원장이 함께 커밋되거나 함께 롤백된다.
+     */
+    public Wallet saveWallet(Wallet wallet, String source) {
+        Wallet saved = walletRepository.saveAndFlush(wallet);
+        Long userId = saved.getUser().getId();
+        long sportsDelta = saved.unrecordedSportsDelta();
+        long casinoDelta = saved.unrecordedCasinoDelta();
+        if (sportsDelta != 0) {
+            balanceLedgerRepository.append(userId, BalanceTypeEnum.SPORTS, saved.getVersion(),
+                    sportsDelta, saved.getSportsBalance(), source);
+        }
+        if (casinoDelta != 0) {
+            balanceLedgerRepository.append(userId, BalanceTypeEnum.CASINO, saved.getVersion(),
+                    casinoDelta, saved.getCasinoBalance(), source);
+        }
+        saved.markBalancesRecorded();
+        return saved;
+    }
+
+
+    /**
+     * at 시점의 잔액
+     * 원장이 없는 유저(원장 도입 이후 잔액 변경이 없는 유저)는 현재 잔액이 곧 그 시점의 잔액이다.
+     */
+    public long balanceAt(Long userId, BalanceTypeEnum type, LocalDateTime at) {
+        Long balance = balanceLedgerRepository.findBalanceAt(userId, type, at);
+        if (balance != null) {
+            return balance;
+        }
+        Wallet wallet = walletRepository.findByUserId(userId)
+                .orElseThrow(() -> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
+        return type == BalanceTypeEnum.SPORTS ? wallet.getSportsBalance() : wallet.getCasinoBalance();
+    }
+
+
+    /**
+     * 레벨별 date 종료 시점 잔액 합계 (스냅샷이 없는 날짜면 빈 Map)
+     */
+    @Transactional(value = "clientServerTransactionManager", readOnly = true)
+    public Map<Integer, Long> snapshotByLevel(LocalDate date, BalanceTypeEnum type) {
+        if (!date.isBefore(LocalDate.now(KST))) {
+            return Collections.emptyMap();
+        }
+        return balanceLedgerRepository.sumSnapshotByLevel(date, type);
+    }
+
+
+    /**
+     * 전날 종료 시점 잔액 스냅샷 (이미 기록된 날짜는 건너뛰므로 여러 서버에서 실행되어도 한 번만 기록된다)
+     */
+    @Scheduled(cron = "${balance-ledger.snapshot-cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void snapshotYesterday() {
+        LocalDate date = LocalDate.now(KST).minusDays(1);
+        long started = System.currentTimeMillis();
+        int inserted = balanceLedgerRepository.snapshot(date);
+        logger.info("Balance snapshot for {}: {} rows in {} ms", date, inserted, System.currentTimeMillis() - started);
+    }
+
+}
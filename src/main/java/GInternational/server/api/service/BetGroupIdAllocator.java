@@ -0,0 +1,134 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.repository.BetHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 베팅 그룹 ID 발급
+ * id_sequence 에서 block-size 개의 구간을 예약해두고 메모리에서 순서대로 발급하므로, 구간을 다 쓸 때만 DB 를 한 번 조회한다.
+ * 서버마다 다른 구간을 받으므로 여러 서버에서 동시에 발급해도 겹치지 않으며,
+ * 재기동 시 쓰지 않은 구간은 버려진다 (ID 가 건너뛰어질 수 있다).
+ *
+ * 발급은 잠금 없이 AtomicLong 으로 하고, 구간의 prefetch-ratio 를 쓰면 다음 구간을 idSequenceExecutor 에서 미리 예약한다.
+ * 구간 예약은 별도 트랜잭션(커넥션)을 쓰므로 베팅 트랜잭션 밖에서 호출해야 한다.
+ */
+@Component
+public class BetGroupIdAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BetGroupIdAllocator.class);
+    private static final String SEQUENCE = "bet_group";
+
+    private final IdSequenceService idSequenceService;
+    private final BetHistoryRepository betHistoryRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final int blockSize;
+    private final int prefetchOffset;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block current = new Block(0, 0, -1);
+    private volatile CompletableFuture<Block> prefetched;
+
+
+    public BetGroupIdAllocator(IdSequenceService idSequenceService,
+                               BetHistoryRepository betHistoryRepository,
+                               @Qualifier("idSequenceExecutor") ThreadPoolTaskExecutor executor,
+                               @Value("${bet.group-id.block-size:1000}") int blockSize,
+                               @Value("${bet.group-id.prefetch-ratio:0.8}") double prefetchRatio) {
+        this.idSequenceService = idSequenceService;
+        this.betHistoryRepository = betHistoryRepository;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.prefetchOffset = Math.max(0, Math.min(blockSize - 1, (int) (blockSize * prefetchRatio)));
+    }
+
+
+    public long nextId() {
+        while (true) {
+            Block block = current;
+            long id = block.next.getAndIncrement();
+            if (id < block.limit) {
+                if (id == block.prefetchAt) {
+                    prefetch();
+                }
+                return id;
+            }
+            refill(block);
+        }
+    }
+
+
+    /**
+     * 다 쓴 구간을 다음 구간으로 교체한다 (한 스레드만 교체하고 나머지는 교체된 구간에서 다시 발급받는다)
+     */
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            current = takePrefetched();
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+
+    private void prefetch() {
+        try {
+            prefetched = CompletableFuture.supplyAsync(this::reserveBlock, executor);
+        } catch (TaskRejectedException e) {
+            // 다 쓰는 시점에 직접 예약한다
+            logger.debug("Bet group id prefetch rejected", e);
+        }
+    }
+
+
+    private Block takePrefetched() {
+        CompletableFuture<Block> future = prefetched;
+        prefetched = null;
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (RuntimeException e) {
+                logger.warn("Bet group id prefetch failed, reserving synchronously", e);
+            }
+        }
+        return reserveBlock();
+    }
+
+
+    private Block reserveBlock() {
+        // 클라이언트가 ID 를 만들던 기존 베팅 그룹 다음 번호부터 시작한다
+        long start = idSequenceService.reserve(SEQUENCE, blockSize, () -> {
+            Long max = betHistoryRepository.findMaxBetGroupId();
+            return max == null ? 1 : max + 1;
+        });
+        logger.debug("Reserved bet group ids [{}, {})", start, start + blockSize);
+        return new Block(start, start + blockSize, start + prefetchOffset);
+    }
+
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long limit;
+        private final long prefetchAt;
+
+
+        private Block(long start, long limit, long prefetchAt) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+            this.prefetchAt = prefetchAt;
+        }
+    }
+}
@@ -12,7 +12,6 @@ import GInternational.server.common.exception.RestControllerException;
 import GInternational.server.l_sport.batch.job.dto.order.DetailResponseDTO;
 import GInternational.server.l_sport.batch.job.dto.order.MatchScoreDTO;
 import GInternational.server.l_sport.batch.job.dto.order.ResponseDTO;
-import GInternational.server.api.entity.meta.MatchMetaData;
 import GInternational.server.l_sport.info.repository.FixtureRepository;
 import GInternational.server.security.auth.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
@@ -45,8 +44,10 @@ public class BetHistoryService {
     private final WalletRepository walletRepository;
     private final ExpRecordService expRecordService;
     private final MoneyLogService moneyLogService;
-    private final MatchMetaRepository matchMetaRepository;
+    private final MatchExposureCounter matchExposureCounter;
+    private final LiabilityBook liabilityBook;
     private final MoneyLogRepository moneyLogRepository;
+    private final BetSlipPricer betSlipPricer;
 
     @Autowired
     @Qualifier("entityManager")
@@ -58,27 +59,33 @@ public class BetHistoryService {
 
 
 
-    public List<BetHistory> insertUserBets(List<BetHistoryReqDTO> betRequestDTOs, Long betGroupId, PrincipalDetails principalDetails, HttpServletRequest request) {
+    /**
+     * 베팅 접수
+     * 슬립 단위로 처리한다 : 배당 재가격 -> 지급 예정액 한도 예약(LiabilityBook) -> 베팅금 예약(조건부 UPDATE 1회)
+     * -> 베팅 배치 INSERT -> 경기별 누적(MatchExposureCounter).
+     * 폴더 수와 관계없이 DB 왕복 횟수가 일정하며, 한 트랜잭션이라 중간에 실패하면 차감된 베팅금도 함께 롤백된다.
+     * 슬립의 모든 베팅은 같은 베팅금(첫 번째 베팅의 bet)이며 베팅금은 슬립당 한 번만 차감한다.
+     * 베팅 그룹 ID 는 호출한 쪽이 트랜잭션 밖에서 BetGroupIdAllocator 로 발급해서 넘긴다.
+     */
+    @Transactional(value = "clientServerTransactionManager")
+    public List<BetHistory> insertUserBets(Long betGroupId, List<BetHistoryReqDTO> betRequestDTOs, PrincipalDetails principalDetails, HttpServletRequest request) {
         User user = Optional.ofNullable(principalDetails.getUser()).orElseThrow(() -> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저를 찾을 수 없습니다."));
+        if (betRequestDTOs == null || betRequestDTOs.isEmpty()) {
+            throw new RestControllerException(ExceptionCode.INVALID_BET_AMOUNT, "베팅 내역이 없습니다.");
+        }
         LocalDateTime currentTime = LocalDateTime.now();
         String ipAddress = extractIp(request);
+        long totalBetAmount = parseBetAmount(betRequestDTOs.get(0).getBet());
 
-        List<BetHistory> betHistories = new ArrayList<>();
-
-        LinkedList<MatchMetaData> metaMatches = new LinkedList<>();
-
-        long existingBetsCount = betHistoryRepository.countByBetGroupId(betGroupId);
-        long totalBetsInGroup = existingBetsCount + betRequestDTOs.size();
-        BetFoldCountEnum foldCount = BetFoldCountEnum.fromBetCount(totalBetsInGroup);
+        // 클라이언트가 보낸 배당 대신 현재 배당으로 접수 (한 선택이라도 베팅 불가/배당 하락이면 슬립 전체 거절)
+        betSlipPricer.reprice(betRequestDTOs);
 
-        long totalBetAmount = 0;
+        // 베팅 그룹은 슬립 하나이므로 폴더 수는 요청한 베팅 수이다
+        BetFoldCountEnum foldCount = BetFoldCountEnum.fromBetCount(betRequestDTOs.size());
+        BetFoldTypeEnum foldType = BetFoldTypeEnum.determineType(betRequestDTOs.size());
 
+        List<BetHistory> betHistories = new ArrayList<>(betRequestDTOs.size());
         for (BetHistoryReqDTO dto : betRequestDTOs) {
-            String bet = betRequestDTOs.get(0).getBet();
-            totalBetAmount = Long.parseLong(bet);
-
-            checkAndUpdateUserSportsBalance(user, dto.getBet());
-
             BetHistory betHistory = new BetHistory();
             BeanUtils.copyProperties(dto, betHistory);
 
@@ -87,8 +94,7 @@ public class BetHistoryService {
             betHistory.setBetGroupId(betGroupId);
             betHistory.setOrderStatus(OrderStatusEnum.WAITING);
             betHistory.setBetIp(ipAddress);
-            BetFoldTypeEnum betType = BetFoldTypeEnum.determineType(totalBetsInGroup);
-            betHistory.setBetFoldType(betType);
+            betHistory.setBetFoldType(foldType);
             betHistory.setBetType(dto.getBetType());
             betHistory.setBetFoldCount(foldCount);
             betHistory.setStartDate(dto.getStartDate());
@@ -97,56 +103,25 @@ public class BetHistoryService {
             betHistory.setReadStatus("미확인");
             betHistory.setReadBy("");
             betHistory.setReadAt(null);
-            betHistory.setApi("N");
-            betHistory.setCronApi("N");
             betHistory.setFailBonusCol("N");
             betHistories.add(betHistory);
-
-            MatchMetaData matchMetaData = matchMetaRepository.findByMatchId(dto.getMatchId()).orElse(null);
-            if (matchMetaData != null) {
-                if (!dto.getBetType().equals(BetTypeEnum.IN_PLAY)) {
-                    matchMetaData.setPreCount(matchMetaData.getPreCount() + 1);
-                    long betValue = Long.parseLong(dto.getBet());  // 베팅금
-                    long tempValue = Long.parseLong(matchMetaData.getPreTotalAmount()); //기존 베팅 총액
-                    long updatedTotalAmount = tempValue + betValue;
-                    matchMetaData.setPreTotalAmount(String.valueOf(updatedTotalAmount));
-                } else {
-                    matchMetaData.setLiveCount(matchMetaData.getLiveCount() + 1);
-                    long betValue = Long.parseLong(dto.getBet());  // 베팅금
-                    long tempValue = Long.parseLong(matchMetaData.getPreTotalAmount()); //기존 베팅 총액
-                    long updatedTotalAmount = tempValue + betValue;
-                    matchMetaData.setLiveTotalAmount(String.valueOf(updatedTotalAmount));
-                }
-                metaMatches.add(matchMetaData);
-            } else {
-                MatchMetaData newMetaData = new MatchMetaData();
-                newMetaData.setMatchId(dto.getMatchId()); // matchId 설정
-                if (!dto.getBetType().equals(BetTypeEnum.IN_PLAY)) {
-                    long betValue = Long.parseLong(dto.getBet());  // 베팅금
-                    newMetaData.setPreCount(+1);
-                    newMetaData.setPreTotalAmount(String.valueOf(betValue));
-                    newMetaData.setLiveTotalAmount("0");
-                } else {
-                    long betValue = Long.parseLong(dto.getBet());  // 베팅금
-                    newMetaData.setLiveCount(+1);
-                    newMetaData.setLiveTotalAmount(String.valueOf(betValue));
-                    newMetaData.setPreTotalAmount("0");
-                }
-                metaMatches.add(newMetaData);
-            }
         }
 
-        expRecordService.recordDailyExp(user.getId(), user.getUsername(), user.getNickname(), 10, ipAddress, ExpRecordEnum.스포츠베팅경험치);
+        // 선택/마켓별 지급 예정액 한도 확인 및 예약 (롤백되면 예약도 되돌린다)
+        liabilityBook.reserve(betGroupId, betHistories);
 
-        long currentAccumulatedSportsBet = user.getWallet().getAccumulatedSportsBet();
-        user.getWallet().setAccumulatedSportsBet(currentAccumulatedSportsBet + totalBetAmount);
-        user.getWallet().setSportsBalance(user.getWallet().getSportsBalance() - totalBetAmount);
-        walletRepository.save(user.getWallet());
+        // 잔액 검사와 차감을 한 UPDATE 로 처리 (누적 스포츠 베팅금액 포함)
+        Long sportsBalance = walletRepository.debitSportsBalance(user.getId(), totalBetAmount);
+        if (sportsBalance == null) {
+            throw new RestControllerException(ExceptionCode.INSUFFICIENT_SPORTS_MONEY, "보유 스포츠머니가 부족합니다.");
+        }
 
-        moneyLogService.recordMoneyUsage(user.getId(), totalBetAmount, user.getWallet().getSportsBalance(), MoneyLogCategoryEnum.베팅차감, betGroupId + "(SPORTS)");
+        betHistoryRepository.insertAll(betHistories);
+        matchExposureCounter.record(betHistories);  //경기 카운트,금액 누적 (커밋 후 메모리 누적, 주기적으로 일괄 반영)
 
-        matchMetaRepository.saveAll(metaMatches);  //경기 카운트,금액 누적
-        return betHistoryRepository.saveAll(betHistories);
+        expRecordService.recordDailyExp(user.getId(), user.getUsername(), user.getNickname(), 10, ipAddress, ExpRecordEnum.스포츠베팅경험치);
+        moneyLogService.recordMoneyUsage(user, totalBetAmount, sportsBalance, MoneyLogCategoryEnum.베팅차감, betGroupId + "(SPORTS)");
+        return betHistories;
     }
 
 
@@ -341,24 +316,17 @@ public class BetHistoryService {
         return betHistories.stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
-    private void checkAndUpdateUserSportsBalance(User user, String betString) {
+    private long parseBetAmount(String betString) {
         long bet;
         try {
             bet = Long.parseLong(betString);
         } catch (NumberFormatException e) {
             throw new RestControllerException(ExceptionCode.INVALID_BET_AMOUNT, "잘못된 베팅 금액입니다.");
         }
-
-        Wallet wallet = walletService.getUserWallet(user.getId());
-        if (wallet.getSportsBalance() < bet) {
-            throw new RestControllerException(ExceptionCode.INSUFFICIENT_SPORTS_MONEY, "보유 스포츠머니가 부족합니다.");
+        if (bet <= 0) {
+            throw new RestControllerException(ExceptionCode.INVALID_BET_AMOUNT, "잘못된 베팅 금액입니다.");
         }
-        // Wallet의 스포츠 밸런스 업데이트
-        wallet.setSportsBalance(wallet.getSportsBalance() - bet);
-
-        // Wallet 및 User 정보 저장
-        walletService.updateWalletBalance(wallet);
-        userRepository.save(user);
+        return bet;
     }
 
     private String extractIp(HttpServletRequest request) {
@@ -402,23 +370,6 @@ public class BetHistoryService {
                 .build();
         moneyLogRepository.save(moneyLog);
 
-        MatchMetaData matchMetaData = matchMetaRepository.findByMatchId(distinctBetHistory.getMatchId()).orElse(null);
-        if (!distinctBetHistory.getBetType().equals(BetTypeEnum.IN_PLAY)) {
-            matchMetaData.setPreCount(matchMetaData.getPreCount() - 1);
-            long betValue = Long.parseLong(distinctBetHistory.getBet());  // 베팅금
-            long tempValue = Long.parseLong(matchMetaData.getPreTotalAmount()); //기존 베팅 총액
-            long updatedTotalAmount = tempValue - betValue;
-            matchMetaData.setPreTotalAmount(String.valueOf(updatedTotalAmount));
-        } else {
-            matchMetaData.setLiveCount(matchMetaData.getLiveCount() - 1);
-            long betValue = Long.parseLong(distinctBetHistory.getBet());  // 베팅금
-            long tempValue = Long.parseLong(matchMetaData.getPreTotalAmount()); //기존 베팅 총액
-            long updatedTotalAmount = tempValue - betValue;
-            matchMetaData.setLiveTotalAmount(String.valueOf(updatedTotalAmount));
-        }
-        matchMetaRepository.save(matchMetaData);
-
-
         // 관리자와 매니저는 본인의 베팅이 아니어도 취소할 수 있습니다.
         if (!currentUserRole.equals("ROLE_ADMIN") && !currentUserRole.equals("ROLE_MANAGER")) {
             // 베팅 내역이 현재 로그인한 사용자의 것인지 확인합니다.
@@ -431,6 +382,9 @@ public class BetHistoryService {
 
         betHistories.forEach(betHistory -> processCancelHit(betHistory, cancelStatus));
         saveAllBetHistories(betHistories);
+        // 취소가 커밋된 뒤에만 노출/지급 예정액에서 뺀다 (트랜잭션 밖이면 바로 반영)
+        matchExposureCounter.release(betHistories);
+        liabilityBook.release(betGroupId);
     }
 
     // 취소된(소프트딜리트) 베팅을 복구하는 메서드
@@ -504,7 +458,7 @@ public class BetHistoryService {
         Wallet wallet = walletService.getUserWallet(betHistory.getUser().getId());
         long betAmount = Long.parseLong(betHistory.getBet());
         wallet.setSportsBalance(wallet.getSportsBalance() + betAmount);
-        walletService.updateWalletBalance(wallet);
+        walletService.updateWalletBalance(wallet, "bet_cancel");
         betHistory.setOrderStatus(cancelStatus);
         betHistory.setProcessedAt(LocalDateTime.now());
     }
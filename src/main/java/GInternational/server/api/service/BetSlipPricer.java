@@ -0,0 +1,133 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.dto.BetHistoryReqDTO;
+import GInternational.server.api.vo.BetTypeEnum;
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.common.exception.RestControllerException;
+import GInternational.server.l_sport.info.feed.OddSource;
+import GInternational.server.l_sport.info.price.OddPriceCache;
+import GInternational.server.l_sport.info.price.OddQuote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 베팅 접수 시 배당 검증 / 재가격
+ * 베팅 슬립의 모든 선택(idx)을 {@link OddPriceCache} 의 현재 배당과 비교해서 한 번에 접수 또는 거절한다.
+ * 한 선택이라도 베팅 불가(중지, 정산됨, 기준점 변경)이거나 허용 범위를 넘게 배당이 내려갔으면 슬립 전체를 거절하고,
+ * 통과하면 클라이언트가 보낸 배당 대신 서버의 현재 배당으로 기록한다.
+ *
+ * 허용 범위 : 서버 배당 >= 클라이언트 배당 * (1 - tolerance). 서버 배당이 더 높으면 accept-higher 인 경우에만 접수한다.
+ * 미니게임/가상 베팅은 L-Sports 배당이 아니므로 검증하지 않는다.
+ */
+@Component
+public class BetSlipPricer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BetSlipPricer.class);
+    private static final Set<BetTypeEnum> UNPRICED = EnumSet.of(BetTypeEnum.MINI_GAME, BetTypeEnum.GA_SANG);
+
+    private final OddPriceCache oddPriceCache;
+    private final BigDecimal minRatio;
+    private final boolean acceptHigher;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+
+    public BetSlipPricer(OddPriceCache oddPriceCache,
+                         MeterRegistry meterRegistry,
+                         @Value("${bet.price.tolerance:0}") BigDecimal tolerance,
+                         @Value("${bet.price.accept-higher:true}") boolean acceptHigher) {
+        this.oddPriceCache = oddPriceCache;
+        this.minRatio = BigDecimal.ONE.subtract(tolerance);
+        this.acceptHigher = acceptHigher;
+        for (String result : new String[]{"accepted", "repriced", "rejected_status", "rejected_price"}) {
+            counters.put(result, Counter.builder("bet.slip.pricing")
+                    .description("베팅 슬립 배당 검증 결과")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+
+    /**
+     * 슬립 검증 후 각 선택의 price 를 서버 배당으로 바꾼다
+     * @throws RestControllerException ODD_NOT_AVAILABLE (베팅 불가), ODD_PRICE_CHANGED (배당/기준점 변경)
+     */
+    public void reprice(List<BetHistoryReqDTO> slip) {
+        Map<OddSource, List<BetHistoryReqDTO>> bySource = new EnumMap<>(OddSource.class);
+        for (BetHistoryReqDTO selection : slip) {
+            if (selection.getBetType() != null && UNPRICED.contains(selection.getBetType())) {
+                continue;
+            }
+            if (selection.getIdx() == null) {
+                throw reject("rejected_status", ExceptionCode.ODD_NOT_AVAILABLE, null);
+            }
+            OddSource source = selection.getBetType() == BetTypeEnum.IN_PLAY ? OddSource.IN_PLAY : OddSource.PRE_MATCH;
+            bySource.computeIfAbsent(source, key -> new ArrayList<>()).add(selection);
+        }
+
+        // 모든 선택을 먼저 검증하고, 전부 통과한 경우에만 배당을 바꾼다
+        Map<BetHistoryReqDTO, String> repriced = new LinkedHashMap<>();
+        for (Map.Entry<OddSource, List<BetHistoryReqDTO>> entry : bySource.entrySet()) {
+            Set<String> idxs = new HashSet<>();
+            entry.getValue().forEach(selection -> idxs.add(selection.getIdx()));
+            Map<String, OddQuote> quotes = oddPriceCache.getAll(entry.getKey(), idxs);
+            for (BetHistoryReqDTO selection : entry.getValue()) {
+                String price = check(selection, quotes.get(selection.getIdx()));
+                if (!price.equals(selection.getPrice())) {
+                    repriced.put(selection, price);
+                }
+            }
+        }
+        repriced.forEach((selection, price) -> {
+            logger.debug("Repriced odd {}: {} -> {}", selection.getIdx(), selection.getPrice(), price);
+            selection.setPrice(price);
+        });
+        counters.get(repriced.isEmpty() ? "accepted" : "repriced").increment();
+    }
+
+
+    /**
+     * @return 접수할 배당 (서버 배당)
+     */
+    private String check(BetHistoryReqDTO selection, OddQuote quote) {
+        if (quote == null || !quote.isOpen() || quote.getPrice() == null) {
+            throw reject("rejected_status", ExceptionCode.ODD_NOT_AVAILABLE, selection.getIdx());
+        }
+        if (selection.getBaseLine() != null && !selection.getBaseLine().isEmpty()
+                && !Objects.equals(selection.getBaseLine(), quote.getBaseLine())) {
+            throw reject("rejected_price", ExceptionCode.ODD_PRICE_CHANGED, selection.getIdx());
+        }
+        if (selection.getPrice() == null) {
+            return quote.getPrice();
+        }
+
+        BigDecimal requested;
+        BigDecimal current;
+        try {
+            requested = new BigDecimal(selection.getPrice());
+            current = new BigDecimal(quote.getPrice());
+        } catch (NumberFormatException e) {
+            throw reject("rejected_price", ExceptionCode.ODD_PRICE_CHANGED, selection.getIdx());
+        }
+        int compared = current.compareTo(requested);
+        if (compared < 0 && current.compareTo(requested.multiply(minRatio)) < 0) {
+            throw reject("rejected_price", ExceptionCode.ODD_PRICE_CHANGED, selection.getIdx());
+        }
+        if (compared > 0 && !acceptHigher) {
+            throw reject("rejected_price", ExceptionCode.ODD_PRICE_CHANGED, selection.getIdx());
+        }
+        return quote.getPrice();
+    }
+
+
+    private RestControllerException reject(String result, ExceptionCode code, String idx) {
+        counters.get(result).increment();
+        return new RestControllerException(code, idx == null ? code.getMessage() : code.getMessage() + " (" + idx + ")");
+    }
+}
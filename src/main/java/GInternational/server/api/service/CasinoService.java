@@ -22,12 +22,15 @@ import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(value = "clientServerTransactionManager")
 public class CasinoService {
 
     private final UserRepository userRepository;
     private final WalletRepository walletRepository;
     private final CasinoRepository casinoRepository;
     private final MoneyLogService moneyLogService;
+    private final WalletMutationService walletMutationService;
+    private final BalanceLedgerService balanceLedgerService;
 
     /**
      * 사용자의 스포츠 머니를 카지노 머니로 전환.
@@ -42,19 +45,19 @@ public class CasinoService {
                                              HttpServletRequest request) {
         User user = userRepository.findById(userId).orElseThrow
                 (()-> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저 없음"));
-        Wallet wallet = walletRepository.findById(user.getWallet().getId()).orElseThrow
-                (()-> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "금액 정보 없음"));
+        // 잔액 확인부터 반영까지 같은 유저의 다른 잔액 변경과 겹치지 않도록 지갑을 잠근다
+        Wallet wallet = walletMutationService.lock(user);
 
         String clientIp = request.getRemoteAddr();
 
-        if (casinoRequestDTO.getExchangeSportsBalance() <= user.getWallet().getSportsBalance()) {
+        if (casinoRequestDTO.getExchangeSportsBalance() <= wallet.getSportsBalance()) {
             CasinoTransaction casinoTransaction = CasinoTransaction.builder()
                     .processedAt(LocalDateTime.now())
                     .description("스포츠머니 -> 카지노머니로 전환")
                     .usedSportsBalance(casinoRequestDTO.getExchangeSportsBalance())
                     .remainingCasinoBalance(wallet.getCasinoBalance() + casinoRequestDTO.getExchangeSportsBalance())
                     .remainingSportsBalance(wallet.getSportsBalance() - casinoRequestDTO.getExchangeSportsBalance())
-                    .exchangedCount(user.getWallet().getExchangedCount() + 1)
+                    .exchangedCount(wallet.getExchangedCount() + 1)
                     .ip(clientIp)
                     .user(user)
                     .status(TransactionEnum.APPROVAL)
@@ -64,9 +67,9 @@ public class CasinoService {
             wallet.setCasinoBalance(casinoTransaction.getRemainingCasinoBalance());
             wallet.setSportsBalance(casinoTransaction.getRemainingSportsBalance());
             wallet.setExchangedCount((int) casinoTransaction.getExchangedCount());
-            walletRepository.save(wallet);
+            balanceLedgerService.saveWallet(wallet, "casino_transfer");
 
-            moneyLogService.recordMoneyUsage(user.getId(), casinoRequestDTO.getExchangeSportsBalance(), casinoTransaction.getRemainingSportsBalance(), MoneyLogCategoryEnum.카지노머니로전환, "스->카");
+            moneyLogService.recordMoneyUsage(user, casinoRequestDTO.getExchangeSportsBalance(), casinoTransaction.getRemainingSportsBalance(), MoneyLogCategoryEnum.카지노머니로전환, "스->카");
 
             CasinoResponseDTO casinoResponseDTO = new CasinoResponseDTO();
             casinoResponseDTO.setCasinoBalance(wallet.getCasinoBalance());
@@ -90,12 +93,12 @@ public class CasinoService {
                                              HttpServletRequest request) {
         User user = userRepository.findById(userId).orElseThrow
                 (()-> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저 없음"));
-        Wallet wallet = walletRepository.findById(user.getWallet().getId()).orElseThrow
-                (()-> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "금액 정보 없음"));
+        // 잔액 확인부터 반영까지 같은 유저의 다른 잔액 변경과 겹치지 않도록 지갑을 잠근다
+        Wallet wallet = walletMutationService.lock(user);
 
         String clientIp = request.getRemoteAddr();
 
-        if (casinoRequestDTO.getExchangeCasinoBalance() <= user.getWallet().getCasinoBalance()) {
+        if (casinoRequestDTO.getExchangeCasinoBalance() <= wallet.getCasinoBalance()) {
 
             CasinoTransaction casinoTransaction = CasinoTransaction.builder()
                     .processedAt(LocalDateTime.now())
@@ -103,7 +106,7 @@ public class CasinoService {
                     .usedCasinoBalance(casinoRequestDTO.getExchangeCasinoBalance())
                     .remainingSportsBalance(wallet.getSportsBalance() + casinoRequestDTO.getExchangeCasinoBalance())
                     .remainingCasinoBalance(wallet.getCasinoBalance() - casinoRequestDTO.getExchangeCasinoBalance())
-                    .exchangedCount(user.getWallet().getExchangedCount() + 1)
+                    .exchangedCount(wallet.getExchangedCount() + 1)
                     .ip(clientIp)
                     .user(user)
                     .status(TransactionEnum.APPROVAL)
@@ -114,9 +117,9 @@ public class CasinoService {
             wallet.setSportsBalance(casinoTransaction.getRemainingSportsBalance());
             wallet.setCasinoBalance(casinoTransaction.getRemainingCasinoBalance());
             wallet.setExchangedCount((int) casinoTransaction.getExchangedCount());
-            walletRepository.save(wallet);
+            balanceLedgerService.saveWallet(wallet, "casino_transfer");
 
-            moneyLogService.recordMoneyUsage(user.getId(), casinoRequestDTO.getExchangeCasinoBalance(), casinoTransaction.getRemainingSportsBalance(), MoneyLogCategoryEnum.스포츠머니로전환, "카->스");
+            moneyLogService.recordMoneyUsage(user, casinoRequestDTO.getExchangeCasinoBalance(), casinoTransaction.getRemainingSportsBalance(), MoneyLogCategoryEnum.스포츠머니로전환, "카->스");
 
             CasinoResponseDTO pointResponseDTO = new CasinoResponseDTO();
             pointResponseDTO.setSportsBalance(wallet.getSportsBalance());
@@ -38,6 +38,7 @@ public class CouponService {
     private final WalletRepository walletRepository;
     private final PointLogService pointLogService;
     private final MoneyLogService moneyLogService;
+    private final BalanceLedgerService balanceLedgerService;
 
     /**
      * 머니쿠폰/행운복권 트랜잭션 생성 (관리자가 쪽찌로 유저에게 머니쿠폰/행운복권을 지급)
@@ -203,7 +204,7 @@ public class CouponService {
     private void updateWalletBalance(User user, long sportsBalanceToAdd, long pointsToAdd, String clientIp) {
         if (sportsBalanceToAdd > 0) {
             user.getWallet().setSportsBalance(user.getWallet().getSportsBalance() + sportsBalanceToAdd);
-            moneyLogService.recordMoneyUsage(user.getId(),
+            moneyLogService.recordMoneyUsage(user,
                     sportsBalanceToAdd,
                     user.getWallet().getSportsBalance() + sportsBalanceToAdd,
                     MoneyLogCategoryEnum.머니쿠폰,
@@ -214,6 +215,7 @@ public class CouponService {
             user.getWallet().setPoint(user.getWallet().getPoint() + pointsToAdd);
             pointLogService.recordPointLog(user.getId(), pointsToAdd, PointLogCategoryEnum.행운복권, clientIp, "");
         }
+        balanceLedgerService.saveWallet(user.getWallet(), "coupon");
         userRepository.save(user);
     }
 
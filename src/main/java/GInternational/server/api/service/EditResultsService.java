@@ -3,14 +3,7 @@ package GInternational.server.api.service;
 import GInternational.server.api.dto.EditPreMatchDataDTO;
 import GInternational.server.api.dto.EditPreMatchDataList;
 import GInternational.server.api.entity.BetHistory;
-import GInternational.server.api.entity.MoneyLog;
-import GInternational.server.api.entity.User;
-import GInternational.server.api.entity.Wallet;
 import GInternational.server.api.repository.BetHistoryRepository;
-import GInternational.server.api.repository.MoneyLogRepository;
-import GInternational.server.api.repository.UserRepository;
-import GInternational.server.api.repository.WalletRepository;
-import GInternational.server.api.vo.MoneyLogCategoryEnum;
 import GInternational.server.api.vo.OrderStatusEnum;
 import GInternational.server.l_sport.batch.job.dto.edit.EditMatchResponseDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultListDTO;
@@ -39,9 +32,6 @@ public class EditResultsService {
     private final OddRepository oddRepository;
     private final OddLiveRepository oddLiveRepository;
     private final BetHistoryRepository betHistoryRepository;
-    private final UserRepository userRepository;
-    private final WalletRepository walletRepository;
-    private final MoneyLogRepository moneyLogRepository;
 
 
 
@@ -70,8 +60,6 @@ public class EditResultsService {
         List<OddLive> oddLiveUpdateList = new ArrayList<>();
         List<Match> matchUpdateList = new ArrayList<>();
         LinkedList<BetHistory> betHistories = new LinkedList<>();
-        LinkedList<BetHistory> betGroupIds = new LinkedList<>();
-        Set<Long> existingBetGroupIds = new HashSet<>();
 
 
         for (EditPreMatchDataList editMatchListDataDTO : editMatchDataRequestDTO) {
@@ -131,55 +119,22 @@ public class EditResultsService {
                 matchUpdateList.add(match);
 
 
+                // 지갑 회수/재지급과 bet_reward 는 재정산 시 정산 원장(settlement_ledger)과의 차액으로 한 번에 반영된다
                 LinkedList<BetHistory> betHistory = betHistoryRepository.findDistinctByMatchIdAndMarketName(matchId, marketName);
-                long tempProfit = 0;
                 for (BetHistory history : betHistory) {
-                    if (!existingBetGroupIds.contains(history.getBetGroupId())) {
-                        if (history.getBetReward() == null) {
-                            double value = 0.0;
-                            tempProfit = 0;
-                        } else if (history.getBetReward() != null) {
-                            double value = Double.parseDouble(history.getBetReward());
-                            tempProfit = (long) value;
-                        }
-                        Wallet wallet = walletRepository.findByUserId(history.getUser().getId()).orElse(null);
-                        wallet.setSportsBalance(wallet.getSportsBalance() - tempProfit);
-                        walletRepository.save(wallet);
-                        existingBetGroupIds.add(history.getBetGroupId());
-                        if (history.getBetReward() != null) {
-                            MoneyLog moneyLog = MoneyLog.builder()
-                                    .username(wallet.getUser().getUsername())
-                                    .nickname(wallet.getUser().getNickname())
-                                    .user(wallet.getUser())
-                                    .category(MoneyLogCategoryEnum.회수)
-                                    .usedSportsBalance(tempProfit)
-                                    .finalSportsBalance(wallet.getSportsBalance())
-                                    .bigo(history.getBetGroupId() + "(SPORT)")
-                                    .site("rain")
-                                    .build();
-                            moneyLogRepository.save(moneyLog);
-                        }
-                    } else System.out.println("이미 중복된 group_id가 있습니다 : "+existingBetGroupIds);
                     history.setProcessedAt(null);
                     history.setSettlement(null);
-                    Long bgId = history.getBetGroupId();
-
-                    List<BetHistory> betOrders = betHistoryRepository.findByBetGroupId(bgId);
-                    for (BetHistory betObject : betOrders) {
-                        betObject.setBetReward(null);
-                        betGroupIds.add(betObject);
-                    }
                     history.setOrderStatus(OrderStatusEnum.WAITING);
-                    history.setApi("Y");
                     history.setMatchStatus(editMatchListDataDTO.getStatus());
                     betHistories.add(history);
                 }
             }
         }
+        // 베팅을 먼저 WAITING 으로 되돌린 뒤 배당을 is_modified = 'N' 으로 바꾼다
+        // (반대 순서면 그 사이 catch-up 이 이전 상태의 베팅으로 정산하고, 이후 WAITING 으로 덮여 재정산되지 않는다)
+        betHistoryRepository.saveAll(betHistories);
+        fixtureRepository.saveAll(matchUpdateList);
         oddLiveRepository.saveAll(oddLiveUpdateList);
         oddRepository.saveAll(oddUpdateList);
-        fixtureRepository.saveAll(matchUpdateList);
-        betHistoryRepository.saveAll(betHistories);
-        betHistoryRepository.saveAll(betGroupIds);
     }
 }
\ No newline at end of file
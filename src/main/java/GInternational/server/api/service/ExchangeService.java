@@ -37,6 +37,7 @@ public class ExchangeService {
     private final ExchangeRequestMapper exchangeRequestMapper;
     private final ExchangeResponseMapper exchangeResponseMapper;
     private final LoginStatisticService loginStatisticService;
+    private final BalanceLedgerService balanceLedgerService;
 
     /**
      * 사용자가 스포츠 머니를 환전 요청.
@@ -90,10 +91,10 @@ public class ExchangeService {
             exchangeRepository.save(transaction);
 
             wallet.setSportsBalance(transaction.getRemainingSportsBalance());
-            walletRepository.save(wallet);
+            balanceLedgerService.saveWallet(wallet, "exchange_request");
 
             exchangeResponseMapper.toDto(wallet);
-            moneyLogService.recordMoneyUsage(user.getId(), transaction.getExchangeAmount(), wallet.getSportsBalance(), MoneyLogCategoryEnum.환전, "");
+            moneyLogService.recordMoneyUsage(user, transaction.getExchangeAmount(), wallet.getSportsBalance(), MoneyLogCategoryEnum.환전, "");
         } else {
             throw new RestControllerException(ExceptionCode.INSUFFICIENT_FUNDS_OR_INVALID_AMOUNT, "환전 금액이 0보다 커야하고 지갑 잔액이 충분해야 합니다.");
         }
@@ -250,9 +251,9 @@ public class ExchangeService {
                 ExchangeTransaction savedTransaction = exchangeRepository.save(transaction);
 
                 wallet.setSportsBalance(wallet.getSportsBalance() + savedTransaction.getExchangeAmount());
-                walletRepository.save(wallet);
+                balanceLedgerService.saveWallet(wallet, "exchange_cancel");
 
-                moneyLogService.recordMoneyUsage(user.getId(), savedTransaction.getExchangeAmount(), wallet.getSportsBalance(), MoneyLogCategoryEnum.환전취소, "");
+                moneyLogService.recordMoneyUsage(user, savedTransaction.getExchangeAmount(), wallet.getSportsBalance(), MoneyLogCategoryEnum.환전취소, "");
             }
         }
     }
@@ -0,0 +1,38 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.repository.IdSequenceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.LongSupplier;
+
+/**
+ * ID 블록 예약
+ * 호출한 쪽 트랜잭션과 별도로 커밋하므로, 호출한 쪽이 롤백되어도 예약한 블록이 다른 서버에 다시 발급되지 않는다.
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager", propagation = Propagation.REQUIRES_NEW)
+public class IdSequenceService {
+
+    private final IdSequenceRepository idSequenceRepository;
+
+
+    public IdSequenceService(IdSequenceRepository idSequenceRepository) {
+        this.idSequenceRepository = idSequenceRepository;
+    }
+
+
+    /**
+     * @param initialValue 시퀀스가 없을 때 시작값 (기존 데이터의 최대 ID + 1)
+     * @return 예약한 구간의 첫 ID (구간 : [반환값, 반환값 + size))
+     */
+    public long reserve(String name, int size, LongSupplier initialValue) {
+        Long next = idSequenceRepository.advance(name, size);
+        if (next == null) {
+            idSequenceRepository.createIfAbsent(name, initialValue.getAsLong());
+            next = idSequenceRepository.advance(name, size);
+        }
+        return next - size;
+    }
+}
@@ -0,0 +1,104 @@
+package GInternational.server.api.service;
+
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.common.exception.RestControllerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 게임사 콜백 동시 실행 제한 (bulkhead)
+ * 콜백 컨트롤러는 요청을 kplayCallbackExecutor 에 넘기고 바로 Tomcat 스레드를 반환한다 (Servlet 비동기 처리).
+ * 동시에 처리하는 콜백 수를 pool-size 로 제한해 콜백 폭주가 Tomcat 스레드와 DB 커넥션을 모두 점유하지 않도록 한다.
+ * DB 커넥션 풀은 다른 요청과 공유하므로, 관리자 요청이 커넥션을 점유하면 콜백도 커넥션 대기를 한다 (완전한 격리는 아니다).
+ *
+ * 큐가 가득 찼거나 큐에서 max-queue-wait-ms 이상 기다린 요청은 처리하지 않고 503 으로 바로 응답한다.
+ * 게임사는 이미 타임아웃으로 재시도하고 있을 요청이며, 지갑을 건드리기 전에 거절하므로 재시도는 txn_id 기준으로 정상 처리된다.
+ */
+@Component
+public class KplayCallbackBulkhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(KplayCallbackBulkhead.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final long maxQueueWaitNanos;
+
+    private final ConcurrentMap<String, Timer> queueTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+
+    public KplayCallbackBulkhead(@Qualifier("kplayCallbackExecutor") ThreadPoolTaskExecutor executor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${kplay.callback.max-queue-wait-ms:2000}") long maxQueueWaitMs) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "kplay.callback", Collections.emptyList());
+    }
+
+
+    /**
+     * 콜백 처리를 전용 실행기에서 실행한다
+     * 처리 중 발생한 예외(RestControllerException 등)는 그대로 전달되어 GlobalExceptionAdvice 에서 처리된다.
+     * @param endpoint 메트릭 태그 (balance, debit, credit, bonus, buyin)
+     */
+    public <T> CompletableFuture<ResponseEntity<T>> submit(String endpoint, Supplier<T> callback) {
+        CompletableFuture<ResponseEntity<T>> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                queueTimer(endpoint).record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxQueueWaitNanos) {
+                    future.completeExceptionally(reject(endpoint, "queue_timeout"));
+                    return;
+                }
+                try {
+                    future.complete(ResponseEntity.ok(callback.get()));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            future.completeExceptionally(reject(endpoint, "queue_full"));
+        }
+        return future;
+    }
+
+
+    private RestControllerException reject(String endpoint, String reason) {
+        rejectedCounters.computeIfAbsent(endpoint + ":" + reason, key -> Counter.builder("kplay.callback.rejected")
+                .description("처리하지 않고 거절한 게임사 콜백 수")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)).increment();
+        logger.warn("KPlay {} callback rejected: {} (active={}, queued={})", endpoint, reason,
+                executor.getActiveCount(), executor.getThreadPoolExecutor().getQueue().size());
+        return new RestControllerException(ExceptionCode.KPLAY_CALLBACK_BUSY, reason);
+    }
+
+
+    private Timer queueTimer(String endpoint) {
+        return queueTimers.computeIfAbsent(endpoint, key -> Timer.builder("kplay.callback.queue")
+                .description("게임사 콜백 실행기 큐 대기 시간")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,467 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.dto.SelectionLiabilityDTO;
+import GInternational.server.api.entity.BetHistory;
+import GInternational.server.api.repository.BetHistoryRepository;
+import GInternational.server.api.vo.BetTypeEnum;
+import GInternational.server.api.vo.OrderStatusEnum;
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.common.exception.RestControllerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 미정산 베팅 지급 예정액(liability) 장부
+ * 선택(idx)과 마켓(matchId + marketName)별로 "그 선택이 적중하면 지급해야 할 금액"을 메모리에 유지한다.
+ * 슬립의 지급 예정액(베팅금 x 배당의 곱, 폴더 보너스 제외)은 슬립의 미정산 선택 모두에 잡힌다.
+ *
+ * 베팅 접수 시 선택/마켓별 한도(max-selection-payout, max-market-payout)를 넘지 않는 경우에만 CAS 로 예약하므로
+ * 한도 검사와 반영은 폴더당 O(1) 이고, 한도에 도달한 선택은 정산될 때까지 추가 베팅이 거절된다 (자동 베팅 중지).
+ * 정산 시에는 선택을 장부에서 빼고, 같은 슬립의 나머지 선택은 결과에 따라 조정한다 (낙첨 : 0, 취소/적중특례 : 해당 배당만큼 감소).
+ * 정산과 동시에 접수된 슬립이 이미 정산된(settled) 선택에 예약된 경우, 정산 시점에는 그 슬립이 등록되어 있지 않으므로
+ * 슬립 등록 시점에 그 선택의 결과로 바로 정산한다 (정산 표시와 슬립 등록은 synchronized (selection) 로 순서를 정한다).
+ *
+ * 장부는 기동 시 미정산 베팅으로 다시 만들고 이후에는 이 서버에서 접수/취소된 베팅만 반영하므로, 서버가 여러 대면 한도도 서버별로 적용된다.
+ */
+@Component
+public class LiabilityBook {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiabilityBook.class);
+    private static final Set<BetTypeEnum> UNPRICED = EnumSet.of(BetTypeEnum.MINI_GAME, BetTypeEnum.GA_SANG);
+
+    private final BetHistoryRepository betHistoryRepository;
+    private final long maxSelectionPayout;
+    private final long maxMarketPayout;
+    private final Counter rejectedCounter;
+
+    private final ConcurrentMap<String, Selection> selections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Market> markets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, List<Slip>> slipsByGroup = new ConcurrentHashMap<>();
+
+
+    public LiabilityBook(BetHistoryRepository betHistoryRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${bet.liability.max-selection-payout:0}") long maxSelectionPayout,
+                         @Value("${bet.liability.max-market-payout:0}") long maxMarketPayout) {
+        this.betHistoryRepository = betHistoryRepository;
+        this.maxSelectionPayout = maxSelectionPayout;
+        this.maxMarketPayout = maxMarketPayout;
+        this.rejectedCounter = Counter.builder("bet.liability.rejected")
+                .description("지급 예정액 한도 초과로 거절된 베팅 슬립 수")
+                .register(meterRegistry);
+        Gauge.builder("bet.liability.selections", selections, Map::size)
+                .description("장부의 미정산 선택 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 기동 시 미정산 베팅으로 장부를 만든다 (한도 검사 없이 반영)
+     */
+    @PostConstruct
+    public void load() {
+        long started = System.currentTimeMillis();
+        Map<Long, List<BetHistory>> legsByGroup = betHistoryRepository.findOpenSlipLegs().stream()
+                .collect(Collectors.groupingBy(BetHistory::getBetGroupId, LinkedHashMap::new, Collectors.toList()));
+        int loaded = 0;
+        for (Map.Entry<Long, List<BetHistory>> entry : legsByGroup.entrySet()) {
+            List<BetHistory> legs = entry.getValue();
+            if (legs.stream().anyMatch(leg -> leg.getOrderStatus() == OrderStatusEnum.FAIL)) {
+                continue;
+            }
+            // 적중특례/취소된 폴더는 배당 1 로 계산되므로 지급 예정액에서 뺀다
+            List<BetHistory> open = legs.stream()
+                    .filter(leg -> leg.getOrderStatus() == OrderStatusEnum.WAITING)
+                    .collect(Collectors.toList());
+            List<BetHistory> priced = legs.stream()
+                    .filter(leg -> leg.getOrderStatus() == OrderStatusEnum.WAITING || leg.getOrderStatus() == OrderStatusEnum.HIT)
+                    .collect(Collectors.toList());
+            if (!open.isEmpty()) {
+                add(entry.getKey(), open, payout(parseAmount(legs.get(0).getBet()), priced), false);
+                loaded++;
+            }
+        }
+        logger.info("Liability book loaded: {} open slips, {} selections in {} ms",
+                loaded, selections.size(), System.currentTimeMillis() - started);
+    }
+
+
+    /**
+     * 베팅 슬립의 지급 예정액을 모든 선택/마켓에 예약한다
+     * 한 선택이라도 한도를 넘으면 아무것도 예약하지 않고 BET_LIABILITY_EXCEEDED 로 거절하며,
+     * 트랜잭션 안에서 호출된 경우 롤백되면 예약을 되돌린다.
+     */
+    public void reserve(Long betGroupId, List<BetHistory> legs) {
+        List<BetHistory> priced = legs.stream()
+                .filter(leg -> leg.getIdx() != null && !UNPRICED.contains(leg.getBetType()))
+                .collect(Collectors.toList());
+        if (priced.isEmpty()) {
+            return;
+        }
+        Slip slip = add(betGroupId, priced, payout(parseAmount(priced.get(0).getBet()), priced), true);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        close(slip);
+                    }
+                }
+            });
+        }
+    }
+
+
+    /**
+     * 취소된 베팅 그룹의 예약을 되돌린다 (트랜잭션 안이면 커밋 후, 롤백되면 그대로 둔다)
+     */
+    public void release(Long betGroupId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(betGroupId);
+                }
+            });
+        } else {
+            releaseNow(betGroupId);
+        }
+    }
+
+
+    private void releaseNow(Long betGroupId) {
+        List<Slip> slips = slipsByGroup.remove(betGroupId);
+        if (slips != null) {
+            slips.forEach(this::close);
+        }
+    }
+
+
+    /**
+     * 선택 정산 (정산 결과가 반영된 뒤 호출)
+     * @param settlement 1:낙첨, 2:적중, -1:취소, 3:적중특례
+     */
+    public void settle(String idx, String settlement) {
+        Selection selection = selections.get(idx);
+        if (selection == null) {
+            return;
+        }
+        List<Slip> slips;
+        synchronized (selection) {
+            if (selection.settled) {
+                return;
+            }
+            selection.settlement = settlement;
+            selection.settled = true;
+            slips = new ArrayList<>(selection.slips);
+        }
+        selections.remove(idx, selection);
+        for (Slip slip : slips) {
+            settleLeg(slip, selection, settlement);
+        }
+        markets.computeIfPresent(selection.marketKey, (key, market) -> --market.selections == 0 ? null : market);
+    }
+
+
+    /**
+     * @param matchId 없으면 전체 경기
+     * @return 지급 예정액이 큰 순서의 선택 목록
+     */
+    public List<SelectionLiabilityDTO> find(String matchId, int size) {
+        Stream<Selection> stream = selections.values().stream();
+        if (matchId != null) {
+            stream = stream.filter(selection -> matchId.equals(selection.matchId));
+        }
+        return stream
+                .sorted(Comparator.comparingLong((Selection selection) -> selection.liability.get()).reversed())
+                .limit(size)
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+
+    private Slip add(Long betGroupId, List<BetHistory> legs, long payout, boolean checkLimit) {
+        Selection[] legSelections = new Selection[legs.size()];
+        BigDecimal[] prices = new BigDecimal[legs.size()];
+        int reserved = 0;
+        try {
+            for (BetHistory leg : legs) {
+                Selection selection = selections.computeIfAbsent(leg.getIdx(), idx -> newSelection(idx, leg));
+                if (!tryAdd(selection.liability, payout, checkLimit ? maxSelectionPayout : 0)) {
+                    throw reject(selection);
+                }
+                if (!tryAdd(selection.market.liability, payout, checkLimit ? maxMarketPayout : 0)) {
+                    selection.liability.addAndGet(-payout);
+                    throw reject(selection);
+                }
+                legSelections[reserved] = selection;
+                prices[reserved] = parsePrice(leg.getPrice());
+                reserved++;
+            }
+        } catch (RestControllerException e) {
+            for (int i = 0; i < reserved; i++) {
+                legSelections[i].liability.addAndGet(-payout);
+                legSelections[i].market.liability.addAndGet(-payout);
+            }
+            throw e;
+        }
+
+        long stake = parseAmount(legs.get(0).getBet());
+        Slip slip = new Slip(betGroupId, legSelections, prices, stake, payout);
+        List<Selection> settledMeanwhile = new ArrayList<>(0);
+        for (Selection selection : legSelections) {
+            synchronized (selection) {
+                if (selection.settled) {
+                    settledMeanwhile.add(selection);
+                    continue;
+                }
+                selection.betCount.increment();
+                selection.stake.add(stake);
+                selection.slips.add(slip);
+            }
+        }
+        slipsByGroup.merge(betGroupId, Collections.singletonList(slip),
+                (existing, added) -> Stream.concat(existing.stream(), added.stream()).collect(Collectors.toList()));
+        // 예약 이후 정산된 선택은 정산 시점에 이 슬립이 등록되어 있지 않았으므로 여기서 반영한다
+        for (Selection selection : settledMeanwhile) {
+            settleLeg(slip, selection, selection.settlement);
+        }
+        return slip;
+    }
+
+
+    private Selection newSelection(String idx, BetHistory leg) {
+        String marketKey = leg.getMatchId() + ":" + leg.getMarketName();
+        Market market = markets.compute(marketKey, (key, existing) -> {
+            Market counted = existing == null ? new Market() : existing;
+            counted.selections++;
+            return counted;
+        });
+        return new Selection(idx, leg.getMatchId(), leg.getMarketName(), marketKey, market);
+    }
+
+
+    private void settleLeg(Slip slip, Selection selection, String settlement) {
+        synchronized (slip) {
+            int leg = slip.indexOf(selection);
+            if (slip.closed || leg < 0 || slip.settled[leg]) {
+                return;
+            }
+            slip.settled[leg] = true;
+            selection.market.liability.addAndGet(-slip.payout);
+
+            long payout = slip.payout;
+            if ("1".equals(settlement)) {
+                payout = 0;
+            } else if (("-1".equals(settlement) || "3".equals(settlement)) && slip.prices[leg].signum() > 0) {
+                payout = BigDecimal.valueOf(slip.payout).divide(slip.prices[leg], 0, RoundingMode.DOWN).longValue();
+            }
+            long delta = payout - slip.payout;
+            boolean open = false;
+            for (int i = 0; i < slip.selections.length; i++) {
+                if (slip.settled[i]) {
+                    continue;
+                }
+                open = true;
+                if (delta != 0) {
+                    slip.selections[i].liability.addAndGet(delta);
+                    slip.selections[i].market.liability.addAndGet(delta);
+                }
+            }
+            slip.payout = payout;
+            if (payout == 0 || !open) {
+                closeLocked(slip);
+            }
+        }
+    }
+
+
+    private void close(Slip slip) {
+        synchronized (slip) {
+            if (slip.closed) {
+                return;
+            }
+            for (int i = 0; i < slip.selections.length; i++) {
+                if (!slip.settled[i]) {
+                    slip.selections[i].liability.addAndGet(-slip.payout);
+                    slip.selections[i].market.liability.addAndGet(-slip.payout);
+                }
+            }
+            closeLocked(slip);
+        }
+    }
+
+
+    private void closeLocked(Slip slip) {
+        slip.closed = true;
+        for (int i = 0; i < slip.selections.length; i++) {
+            if (!slip.settled[i]) {
+                slip.selections[i].betCount.decrement();
+                slip.selections[i].stake.add(-slip.stake);
+            }
+            slip.selections[i].slips.remove(slip);
+        }
+        slipsByGroup.computeIfPresent(slip.betGroupId, (key, slips) -> {
+            List<Slip> remaining = slips.stream().filter(other -> other != slip).collect(Collectors.toList());
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+
+    private RestControllerException reject(Selection selection) {
+        rejectedCounter.increment();
+        logger.info("Bet rejected by liability limit: idx={}, selection={}, market={}",
+                selection.idx, selection.liability.get(), selection.market.liability.get());
+        return new RestControllerException(ExceptionCode.BET_LIABILITY_EXCEEDED,
+                ExceptionCode.BET_LIABILITY_EXCEEDED.getMessage() + " (" + selection.idx + ")");
+    }
+
+
+    private SelectionLiabilityDTO toDto(Selection selection) {
+        long liability = selection.liability.get();
+        long marketLiability = selection.market.liability.get();
+        boolean suspended = (maxSelectionPayout > 0 && liability >= maxSelectionPayout)
+                || (maxMarketPayout > 0 && marketLiability >= maxMarketPayout);
+        return new SelectionLiabilityDTO(selection.idx, selection.matchId, selection.marketName,
+                selection.betCount.sum(), selection.stake.sum(), liability, marketLiability, suspended);
+    }
+
+
+    /**
+     * limit 이 0 이면 제한 없이 더한다
+     */
+    private static boolean tryAdd(AtomicLong counter, long amount, long limit) {
+        if (limit <= 0) {
+            counter.addAndGet(amount);
+            return true;
+        }
+        while (true) {
+            long current = counter.get();
+            if (current + amount > limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + amount)) {
+                return true;
+            }
+        }
+    }
+
+
+    private static long payout(long stake, List<BetHistory> legs) {
+        BigDecimal payout = BigDecimal.valueOf(stake);
+        for (BetHistory leg : legs) {
+            payout = payout.multiply(parsePrice(leg.getPrice()));
+        }
+        return payout.longValue();
+    }
+
+
+    private static BigDecimal parsePrice(String price) {
+        if (price == null) {
+            return BigDecimal.ONE;
+        }
+        try {
+            return new BigDecimal(price.trim());
+        } catch (NumberFormatException e) {
+            return BigDecimal.ONE;
+        }
+    }
+
+
+    private static long parseAmount(String amount) {
+        if (amount == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(amount.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+
+    private static final class Selection {
+
+        private final String idx;
+        private final String matchId;
+        private final String marketName;
+        private final String marketKey;
+        private final Market market;
+        private final AtomicLong liability = new AtomicLong();
+        private final LongAdder betCount = new LongAdder();
+        private final LongAdder stake = new LongAdder();
+        private final Set<Slip> slips = ConcurrentHashMap.newKeySet();
+        // synchronized (selection) 안에서만 변경
+        private volatile boolean settled;
+        private volatile String settlement;
+
+
+        private Selection(String idx, String matchId, String marketName, String marketKey, Market market) {
+            this.idx = idx;
+            this.matchId = matchId;
+            this.marketName = marketName;
+            this.marketKey = marketKey;
+            this.market = market;
+        }
+    }
+
+
+    private static final class Market {
+
+        private final AtomicLong liability = new AtomicLong();
+        private int selections;  // markets.compute 안에서만 변경
+    }
+
+
+    /**
+     * 베팅 슬립 (settled, payout, closed 는 synchronized (slip) 안에서만 변경)
+     */
+    private static final class Slip {
+
+        private final long betGroupId;
+        private final Selection[] selections;
+        private final BigDecimal[] prices;
+        private final boolean[] settled;
+        private final long stake;
+        private long payout;
+        private boolean closed;
+
+
+        private Slip(long betGroupId, Selection[] selections, BigDecimal[] prices, long stake, long payout) {
+            this.betGroupId = betGroupId;
+            this.selections = selections;
+            this.prices = prices;
+            this.settled = new boolean[selections.length];
+            this.stake = stake;
+            this.payout = payout;
+        }
+
+
+        int indexOf(Selection selection) {
+            for (int i = 0; i < selections.length; i++) {
+                if (selections[i] == selection) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
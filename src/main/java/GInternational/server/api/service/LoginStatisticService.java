@@ -15,7 +15,6 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @Transactional(value = "clientServerTransactionManager")
@@ -71,9 +70,7 @@ public class LoginStatisticService {
      */
     public void recordDebitParticipant(int aasId) {
         LocalDate today = LocalDate.now();
-        Set<Integer> existingAasIds = loginStatisticRepository.findDistinctAasIdByDate(today);
-
-        if (!existingAasIds.contains(aasId)) {
+        if (!loginStatisticRepository.existsByDateAndAasId(today, aasId)) {
             LoginStatistic loginStatistic = new LoginStatistic();
             loginStatistic.setDate(today);
             loginStatistic.setDebitCount(1);
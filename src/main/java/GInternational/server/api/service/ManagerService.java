@@ -50,6 +50,7 @@ public class ManagerService {
     private final WalletRepository walletRepository;
     private final ArticleRepository articleRepository;
     private final BetHistoryRepository betHistoryRepository;
+    private final AasUserCache aasUserCache;
 
 
     /**
@@ -140,6 +141,7 @@ public class ManagerService {
             user.setUserGubunEnum(UserGubunEnum.정상);
             user.setUpdatedAt(LocalDateTime.now());
             User savedUser = userRepository.save(user);
+            aasUserCache.evictOnCompletion(user.getAasId());
 
             AuditContext context = AuditContextHolder.getContext();
             String clientIp = request.getRemoteAddr();
@@ -0,0 +1,348 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.dto.MarketExposureDTO;
+import GInternational.server.api.dto.MatchExposureResponseDTO;
+import GInternational.server.api.entity.BetHistory;
+import GInternational.server.api.entity.meta.MatchMetaData;
+import GInternational.server.api.repository.BetHistoryRepository;
+import GInternational.server.api.repository.MatchMetaRepository;
+import GInternational.server.api.vo.BetTypeEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 경기별 베팅 누적 (match_meta) / 노출 집계
+ * 베팅마다 match_meta 를 갱신하면 인기 경기 row 가 핫스팟이 되므로, 증가분은 경기별 LongAdder 에 모았다가 flush-ms 마다
+ * 한 번의 배치 INSERT ... ON DUPLICATE KEY UPDATE 로 반영한다. 베팅 스레드는 DB 를 거치지 않고 LongAdder 증가만 하며,
+ * 증가와 유휴 항목 제거는 같은 경기 항목에 대해 ConcurrentHashMap.compute 로 묶어 서로 끼어들지 않게 한다.
+ *
+ * 조회(관리자 리스크 화면)는 DB 에서 적재한 값(match_meta, 마켓별 미정산 베팅)에 이후 이 서버의 베팅을 더한 값이며,
+ * 다른 서버의 베팅과 정산 결과는 view-refresh-seconds 마다 다시 적재할 때 반영된다.
+ */
+@Component
+public class MatchExposureCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchExposureCounter.class);
+
+    // 증가분이 없는 flush 가 이만큼 이어지면 경기 항목을 제거한다
+    private static final int MAX_IDLE_FLUSHES = 60;
+
+    private final MatchMetaRepository matchMetaRepository;
+    private final BetHistoryRepository betHistoryRepository;
+    private final ConcurrentMap<String, Counters> pending = new ConcurrentHashMap<>();
+    private final Cache<String, MatchView> views;
+    // flush(배치 반영) 중에는 조회용 적재를 막아 같은 증가분이 DB 값과 미반영 증가분에 함께 잡히지 않게 한다
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final Timer flushTimer;
+
+
+    public MatchExposureCounter(MatchMetaRepository matchMetaRepository,
+                                BetHistoryRepository betHistoryRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${bet.exposure.view-refresh-seconds:30}") long viewRefreshSeconds,
+                                @Value("${bet.exposure.maximum-matches:20000}") long maximumMatches) {
+        this.matchMetaRepository = matchMetaRepository;
+        this.betHistoryRepository = betHistoryRepository;
+        this.views = Caffeine.newBuilder()
+                .maximumSize(maximumMatches)
+                .expireAfterWrite(Duration.ofSeconds(viewRefreshSeconds))
+                .build();
+        this.flushTimer = Timer.builder("bet.exposure.flush")
+                .description("경기별 베팅 누적 배치 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("bet.exposure.pending.matches", pending, Map::size)
+                .description("반영 대기 중인 경기 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 접수된 베팅 슬립 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void record(List<BetHistory> slip) {
+        afterCommit(() -> apply(slip, 1));
+    }
+
+
+    /**
+     * 취소된 베팅 슬립 차감 (트랜잭션 안이면 커밋 후)
+     */
+    public void release(List<BetHistory> slip) {
+        afterCommit(() -> apply(slip, -1));
+    }
+
+
+    public MatchExposureResponseDTO get(String matchId) {
+        return views.get(matchId, this::load).toResponse(matchId);
+    }
+
+
+    public List<MatchExposureResponseDTO> getAll(Collection<String> matchIds) {
+        List<MatchExposureResponseDTO> exposures = new ArrayList<>(matchIds.size());
+        for (String matchId : new LinkedHashSet<>(matchIds)) {
+            exposures.add(get(matchId));
+        }
+        return exposures;
+    }
+
+
+    @Scheduled(fixedDelayString = "${bet.exposure.flush-ms:1000}")
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            flushTimer.record(this::flushPending);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+
+    private void flushPending() {
+        List<MatchMetaData> increments = new ArrayList<>();
+        for (Map.Entry<String, Counters> entry : pending.entrySet()) {
+            Counters counters = entry.getValue();
+            MatchMetaData increment = counters.drain(entry.getKey());
+            if (increment != null) {
+                counters.idleFlushes = 0;
+                increments.add(increment);
+            } else if (++counters.idleFlushes >= MAX_IDLE_FLUSHES) {
+                // 증가(addPending)와 같은 compute 안에서 확인하므로, 비어 있는 항목만 제거되고 제거된 항목에 더해지는 값은 없다
+                pending.computeIfPresent(entry.getKey(), (key, current) -> current == counters && counters.isEmpty() ? null : current);
+            }
+        }
+        if (increments.isEmpty()) {
+            return;
+        }
+        try {
+            matchMetaRepository.incrementAll(increments);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증가분은 다음 flush 에서 다시 시도한다
+            logger.warn("Failed to flush exposure of {} matches, retrying next flush", increments.size(), e);
+            for (MatchMetaData increment : increments) {
+                addPending(increment.getMatchId(), false, increment.getPreCount(), Long.parseLong(increment.getPreTotalAmount()));
+                addPending(increment.getMatchId(), true, increment.getLiveCount(), Long.parseLong(increment.getLiveTotalAmount()));
+            }
+        }
+    }
+
+
+    private void apply(List<BetHistory> slip, int sign) {
+        if (slip.isEmpty()) {
+            return;
+        }
+        long payout = payout(slip);
+        for (BetHistory bet : slip) {
+            boolean live = bet.getBetType() == BetTypeEnum.IN_PLAY;
+            long stake = parseAmount(bet.getBet());
+            addPending(bet.getMatchId(), live, sign, sign * stake);
+            MatchView view = views.getIfPresent(bet.getMatchId());
+            if (view != null) {
+                view.counters.add(live, sign, sign * stake);
+                view.market(bet.getMarketName()).add(sign, sign * stake, sign * payout);
+            }
+        }
+    }
+
+
+    private void addPending(String matchId, boolean live, long count, long amount) {
+        if (count == 0 && amount == 0) {
+            return;
+        }
+        pending.compute(matchId, (key, counters) -> {
+            Counters target = counters == null ? new Counters() : counters;
+            target.add(live, count, amount);
+            return target;
+        });
+    }
+
+
+    private MatchView load(String matchId) {
+        flushLock.readLock().lock();
+        try {
+            MatchView view = new MatchView();
+            matchMetaRepository.findByMatchId(matchId).ifPresent(meta -> {
+                view.counters.add(false, meta.getPreCount(), parseAmount(meta.getPreTotalAmount()));
+                view.counters.add(true, meta.getLiveCount(), parseAmount(meta.getLiveTotalAmount()));
+            });
+            Counters unflushed = pending.get(matchId);
+            if (unflushed != null) {
+                view.counters.add(false, unflushed.preCount.sum(), unflushed.preAmount.sum());
+                view.counters.add(true, unflushed.liveCount.sum(), unflushed.liveAmount.sum());
+            }
+            for (MarketExposureDTO market : betHistoryRepository.sumOpenExposureByMarket(matchId)) {
+                view.market(market.getMarketName()).add(market.getBetCount(), market.getStake(), market.getLiability());
+            }
+            return view;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+
+    /**
+     * 슬립 지급 예정액 (베팅금 x 배당의 곱, 배당이 없는 베팅은 1 로 본다)
+     */
+    private static long payout(List<BetHistory> slip) {
+        BigDecimal payout = BigDecimal.valueOf(parseAmount(slip.get(0).getBet()));
+        for (BetHistory bet : slip) {
+            if (bet.getPrice() == null) {
+                continue;
+            }
+            try {
+                payout = payout.multiply(new BigDecimal(bet.getPrice()));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring unparsable price {} of bet {}", bet.getPrice(), bet.getIdx());
+            }
+        }
+        return payout.longValue();
+    }
+
+
+    private static long parseAmount(String amount) {
+        if (amount == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(amount.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+
+    /**
+     * 경기별 베팅 수 / 베팅 총액 증가분
+     */
+    private static final class Counters {
+
+        private final LongAdder preCount = new LongAdder();
+        private final LongAdder liveCount = new LongAdder();
+        private final LongAdder preAmount = new LongAdder();
+        private final LongAdder liveAmount = new LongAdder();
+        private int idleFlushes;  // flush 스레드에서만 사용
+
+
+        void add(boolean live, long count, long amount) {
+            if (live) {
+                liveCount.add(count);
+                liveAmount.add(amount);
+            } else {
+                preCount.add(count);
+                preAmount.add(amount);
+            }
+        }
+
+
+        boolean isEmpty() {
+            return preCount.sum() == 0 && liveCount.sum() == 0 && preAmount.sum() == 0 && liveAmount.sum() == 0;
+        }
+
+
+        /**
+         * @return 지금까지의 증가분 (0 으로 초기화), 증가분이 없으면 null
+         */
+        MatchMetaData drain(String matchId) {
+            long pre = preCount.sumThenReset();
+            long live = liveCount.sumThenReset();
+            long preTotal = preAmount.sumThenReset();
+            long liveTotal = liveAmount.sumThenReset();
+            if (pre == 0 && live == 0 && preTotal == 0 && liveTotal == 0) {
+                return null;
+            }
+            return MatchMetaData.builder()
+                    .matchId(matchId)
+                    .preCount((int) pre)
+                    .liveCount((int) live)
+                    .preTotalAmount(String.valueOf(preTotal))
+                    .liveTotalAmount(String.valueOf(liveTotal))
+                    .build();
+        }
+    }
+
+
+    /**
+     * 조회용 경기 집계 (적재 시점 DB 값 + 이후 이 서버의 베팅)
+     */
+    private static final class MatchView {
+
+        private final Counters counters = new Counters();
+        private final ConcurrentMap<String, MarketCounters> markets = new ConcurrentHashMap<>();
+
+
+        MarketCounters market(String marketName) {
+            return markets.computeIfAbsent(Objects.toString(marketName, ""), key -> new MarketCounters());
+        }
+
+
+        MatchExposureResponseDTO toResponse(String matchId) {
+            List<MarketExposureDTO> marketExposures = new ArrayList<>(markets.size());
+            long liability = 0;
+            for (Map.Entry<String, MarketCounters> entry : markets.entrySet()) {
+                MarketCounters market = entry.getValue();
+                long betCount = market.betCount.sum();
+                if (betCount <= 0) {
+                    continue;
+                }
+                marketExposures.add(new MarketExposureDTO(entry.getKey(), betCount, market.stake.sum(), market.liability.sum()));
+                liability += market.liability.sum();
+            }
+            marketExposures.sort(Comparator.comparingLong(MarketExposureDTO::getLiability).reversed());
+            return new MatchExposureResponseDTO(matchId, counters.preCount.sum(), counters.liveCount.sum(),
+                    counters.preAmount.sum(), counters.liveAmount.sum(), liability, marketExposures);
+        }
+    }
+
+
+    private static final class MarketCounters {
+
+        private final LongAdder betCount = new LongAdder();
+        private final LongAdder stake = new LongAdder();
+        private final LongAdder liability = new LongAdder();
+
+
+        void add(long count, long stakeAmount, long payout) {
+            betCount.add(count);
+            stake.add(stakeAmount);
+            liability.add(payout);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.repository.MoneyLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * outbox -> money_log 배치 이동 (배치 하나가 한 트랜잭션)
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager")
+@RequiredArgsConstructor
+public class MoneyLogOutboxWriter {
+
+    private final MoneyLogRepository moneyLogRepository;
+
+
+    public int drain(int limit) {
+        return moneyLogRepository.drainOutbox(limit);
+    }
+}
@@ -0,0 +1,166 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.dto.MoneyLogEntryDTO;
+import GInternational.server.api.repository.MoneyLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 머니로그 기록 파이프라인
+ * 잔액을 바꾼 트랜잭션에서 enqueue 한 머니로그는 트랜잭션별로 모아두었다가 커밋 직전에 outbox 로 한 번에 기록한다 (건수와 관계없이 배치 INSERT 1회).
+ * 롤백되면 outbox 에도 남지 않는다.
+ *
+ * outbox 는 커밋 이후 쌓인 건수가 batch-size 에 도달하거나 flush-ms 주기가 되면 배치 단위로 money_log 로 옮긴다.
+ * 재기동 전에 옮기지 못한 행도 outbox 에 남아있으므로 다음 flush 에서 옮겨진다.
+ */
+@Component
+public class MoneyLogQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(MoneyLogQueue.class);
+
+    private final MoneyLogRepository moneyLogRepository;
+    private final MoneyLogOutboxWriter moneyLogOutboxWriter;
+    private final Executor postCommitExecutor;
+    private final int batchSize;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter drained;
+    private final Timer flushTimer;
+
+
+    public MoneyLogQueue(MoneyLogRepository moneyLogRepository,
+                         MoneyLogOutboxWriter moneyLogOutboxWriter,
+                         @Qualifier("postCommitExecutor") Executor postCommitExecutor,
+                         MeterRegistry meterRegistry,
+                         @Value("${money-log.writer.batch-size:500}") int batchSize) {
+        this.moneyLogRepository = moneyLogRepository;
+        this.moneyLogOutboxWriter = moneyLogOutboxWriter;
+        this.postCommitExecutor = postCommitExecutor;
+        this.batchSize = batchSize;
+        this.drained = Counter.builder("money_log.outbox.drained")
+                .description("outbox 에서 money_log 로 옮긴 건수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("money_log.outbox.flush")
+                .description("outbox flush 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+
+    public void enqueue(MoneyLogEntryDTO entry) {
+        enqueue(Collections.singletonList(entry));
+    }
+
+
+    /**
+     * 현재 트랜잭션 커밋에 묶어 머니로그를 기록한다 (트랜잭션 밖에서 호출하면 outbox 에 바로 기록한다)
+     */
+    public void enqueue(List<MoneyLogEntryDTO> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            moneyLogRepository.appendOutbox(entries);
+            onCommitted(entries.size());
+            return;
+        }
+
+        // 트랜잭션별 버퍼는 등록된 synchronization 이 들고 있으므로, REQUIRES_NEW 로 바깥 트랜잭션이 일시 중단되면 함께 중단된다
+        OutboxSynchronization synchronization = currentSynchronization();
+        if (synchronization == null) {
+            synchronization = new OutboxSynchronization();
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+        synchronization.buffer.addAll(entries);
+    }
+
+
+    private OutboxSynchronization currentSynchronization() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxSynchronization && ((OutboxSynchronization) synchronization).owner() == this) {
+                return (OutboxSynchronization) synchronization;
+            }
+        }
+        return null;
+    }
+
+
+    @Scheduled(fixedDelayString = "${money-log.writer.flush-ms:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            pending.set(0);
+            long started = System.nanoTime();
+            int total = 0;
+            int moved;
+            do {
+                moved = moneyLogOutboxWriter.drain(batchSize);
+                total += moved;
+            } while (moved == batchSize);
+            if (total > 0) {
+                drained.increment(total);
+                flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                logger.debug("Moved {} money logs from outbox", total);
+            }
+        } catch (RuntimeException e) {
+            // outbox 에 그대로 남아있으므로 다음 flush 에서 다시 옮긴다
+            logger.error("Money log outbox flush failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+
+    private void onCommitted(int count) {
+        if (pending.addAndGet(count) >= batchSize && !flushLock.isLocked()) {
+            postCommitExecutor.execute(this::flush);
+        }
+    }
+
+
+    private class OutboxSynchronization implements TransactionSynchronization {
+
+        private final List<MoneyLogEntryDTO> buffer = new ArrayList<>();
+
+        private MoneyLogQueue owner() {
+            return MoneyLogQueue.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 트랜잭션 커넥션에서 실행되므로 잔액 변경과 함께 커밋되거나 함께 롤백된다
+            moneyLogRepository.appendOutbox(buffer);
+        }
+
+        @Override
+        public void afterCommit() {
+            onCommitted(buffer.size());
+        }
+    }
+}
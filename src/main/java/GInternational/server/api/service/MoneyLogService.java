@@ -1,15 +1,12 @@
 package GInternational.server.api.service;
 
-import GInternational.server.common.exception.ExceptionCode;
-import GInternational.server.common.exception.RestControllerException;
+import GInternational.server.api.dto.MoneyLogEntryDTO;
 import GInternational.server.api.dto.MoneyLogResponseDTO;
-import GInternational.server.api.entity.MoneyLog;
 import GInternational.server.api.mapper.MoneyLogResponseMapper;
 import GInternational.server.api.repository.MoneyLogRepository;
 import GInternational.server.api.vo.MoneyLogCategoryEnum;
 import GInternational.server.security.auth.PrincipalDetails;
 import GInternational.server.api.entity.User;
-import GInternational.server.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -31,7 +28,7 @@ public class MoneyLogService {
     private final MoneyLogRepository moneyLogRepository;
     private final MoneyLogResponseMapper moneyLogResponseMapper;
     private final UserService userService;
-    private final UserRepository userRepository;
+    private final MoneyLogQueue moneyLogQueue;
 
     /**
      * 모든 머니 적립 내역을 조회하고, 필요한 경우 카테고리별로 정렬.
@@ -102,25 +99,16 @@ public class MoneyLogService {
 
     /**
      * 머니 사용 기록을 추가합니다.
+     * 현재 트랜잭션 커밋에 묶어 outbox 로 기록하며, money_log 반영은 {@link MoneyLogQueue} 가 배치로 처리합니다.
      *
-     * @param userId             사용자 ID.
+     * @param user               사용자 (호출자가 이미 조회한 엔티티, 아이디/닉네임만 사용한다).
      * @param usedSportsBalance  사용된 금액.
      * @param finalSportsBalance 최종 금액.
      * @param category           카테고리.
      * @param bigo               비고.
      */
-    public void recordMoneyUsage(Long userId, Long usedSportsBalance, Long finalSportsBalance, MoneyLogCategoryEnum category, String bigo) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        MoneyLog moneyLog = new MoneyLog();
-        moneyLog.setUser(user);
-        moneyLog.setUsername(user.getUsername());
-        moneyLog.setNickname(user.getNickname());
-        moneyLog.setUsedSportsBalance(usedSportsBalance);
-        moneyLog.setFinalSportsBalance(finalSportsBalance);
-        moneyLog.setCategory(category);
-        moneyLog.setBigo(bigo);
-        moneyLog.setSite("test");
-        moneyLogRepository.save(moneyLog);
+    public void recordMoneyUsage(User user, Long usedSportsBalance, Long finalSportsBalance, MoneyLogCategoryEnum category, String bigo) {
+        moneyLogQueue.enqueue(new MoneyLogEntryDTO(user.getId(), user.getUsername(), user.getNickname(),
+                usedSportsBalance, finalSportsBalance, category, bigo));
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package GInternational.server.api.service;
 
 import GInternational.server.api.entity.Articles;
 import GInternational.server.api.repository.*;
+import GInternational.server.common.config.ReadReplica;
 import GInternational.server.common.exception.ExceptionCode;
 import GInternational.server.common.exception.RestControllerException;
 import GInternational.server.kplay.debit.entity.Debit;
@@ -24,7 +25,8 @@ import java.util.List;
 import java.util.Map;
 
 @Service
-@Transactional(value = "clientServerTransactionManager")
+@ReadReplica
+@Transactional(value = "clientServerTransactionManager", readOnly = true)
 @RequiredArgsConstructor
 public class MonthlyBetStatisticService {
 
@@ -56,6 +56,7 @@ public class RechargeService {
     private final AutoRechargeRepository autoRechargeRepository;
     private final WebSocketMessageRepository webSocketMessageRepository;
     private final AutoRechargeBankAccountRepository autoRechargeBankAccountRepository;
+    private final BalanceLedgerService balanceLedgerService;
 
     public void rechargeSportsBalance(Long userId, Long walletId, RechargeRequestDTO rechargeRequestDTO, PrincipalDetails principalDetails, HttpServletRequest request) {
         User user = userRepository.findById(userId).orElseThrow(
@@ -242,10 +243,10 @@ public class RechargeService {
                     loginStatisticService.recordRecharge();
                 }
 
-                walletRepository.save(wallet);
+                balanceLedgerService.saveWallet(wallet, "recharge");
                 userRepository.save(user);
 
-                moneyLogService.recordMoneyUsage(user.getId(), rechargeAmount, wallet.getSportsBalance(), MoneyLogCategoryEnum.충전, "");
+                moneyLogService.recordMoneyUsage(user, rechargeAmount, wallet.getSportsBalance(), MoneyLogCategoryEnum.충전, "");
                 pointLogService.recordPointLog(user.getId(), bonusAmount, PointLogCategoryEnum.충전, originalRechargeTransaction.getIp(), "");
                 rouletteService.bonusRouletteSpinForRecharge(user.getId(), new BigDecimal(rechargeAmount));
                 checkAttendanceService.chargeAndCheckAttendance(user.getId(), new BigDecimal(rechargeAmount));
@@ -312,10 +313,10 @@ public class RechargeService {
                 loginStatisticService.recordRecharge();
             }
 
-            walletRepository.save(wallet);
+            balanceLedgerService.saveWallet(wallet, "recharge");
             userRepository.save(user);
 
-            moneyLogService.recordMoneyUsage(user.getId(), rechargeAmount, wallet.getSportsBalance(), MoneyLogCategoryEnum.자동충전, "");
+            moneyLogService.recordMoneyUsage(user, rechargeAmount, wallet.getSportsBalance(), MoneyLogCategoryEnum.자동충전, "");
             pointLogService.recordPointLog(user.getId(), bonusAmount, PointLogCategoryEnum.자동충전, rechargeTransaction.getIp(), "");
             rouletteService.bonusRouletteSpinForRecharge(user.getId(), new BigDecimal(rechargeAmount));
             checkAttendanceService.chargeAndCheckAttendance(user.getId(), new BigDecimal(rechargeAmount));
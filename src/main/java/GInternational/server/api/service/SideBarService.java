@@ -7,6 +7,7 @@ import GInternational.server.api.entity.BetHistory;
 import GInternational.server.api.entity.DifferenceStatistic;
 import GInternational.server.api.repository.*;
 import GInternational.server.api.vo.*;
+import GInternational.server.common.config.ReadReplica;
 import GInternational.server.security.auth.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,7 +22,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional(value = "clientServerTransactionManager")
+@ReadReplica
+@Transactional(value = "clientServerTransactionManager", readOnly = true)
 @RequiredArgsConstructor
 public class SideBarService {
 
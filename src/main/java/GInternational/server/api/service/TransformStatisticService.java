@@ -4,6 +4,7 @@ import GInternational.server.api.dto.TransformStatisticResDTO;
 import GInternational.server.api.entity.CasinoTransaction;
 import GInternational.server.api.repository.CasinoRepository;
 import GInternational.server.api.vo.TransactionEnum;
+import GInternational.server.common.config.ReadReplica;
 import GInternational.server.security.auth.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,7 +19,8 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 @Service
-@Transactional(value = "clientServerTransactionManager")
+@ReadReplica
+@Transactional(value = "clientServerTransactionManager", readOnly = true)
 @RequiredArgsConstructor
 public class TransformStatisticService {
 
@@ -0,0 +1,230 @@
+package GInternational.server.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * 게임사 콜백 txn_id 중복 확인 인덱스
+ * 최근 커밋된 txn_id 를 정확한 집합(window)과 블룸 필터로 보관해서, 대부분을 차지하는 신규 txn_id 는 DB 조회 없이 통과시키고
+ * 게임사 재시도 폭주처럼 같은 txn_id 가 반복해서 들어오는 경우는 메모리에서 바로 중복으로 판정한다.
+ *
+ * 이 서버에서 커밋된 txn_id 만 알고 있으므로 "없음" 판정은 최종 판정이 아니다.
+ * 다른 서버에서 처리된 txn_id 나 동시에 들어온 요청은 debit / credit 의 txn_id 유니크 인덱스(INSERT IGNORE)에서 걸러진다.
+ */
+@Component
+public class TxnIdIndex {
+
+    public enum TxnType {
+        DEBIT, CREDIT
+    }
+
+    private final Cache<String, Boolean> recent;
+    private final RotatingBloomFilter bloomFilter;
+    private final Map<TxnType, Map<String, Counter>> counters = new EnumMap<>(TxnType.class);
+
+
+    public TxnIdIndex(MeterRegistry meterRegistry,
+                      @Value("${kplay.txn-id-index.window-minutes:30}") long windowMinutes,
+                      @Value("${kplay.txn-id-index.recent-size:200000}") long recentSize,
+                      @Value("${kplay.txn-id-index.expected-insertions:2000000}") int expectedInsertions,
+                      @Value("${kplay.txn-id-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        Duration window = Duration.ofMinutes(windowMinutes);
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(recentSize)
+                .expireAfterWrite(window)
+                .recordStats()
+                .build();
+        this.bloomFilter = new RotatingBloomFilter(expectedInsertions, falsePositiveRate, window.toMillis());
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, "kplay.txn_id.recent");
+
+        for (TxnType type : TxnType.values()) {
+            Map<String, Counter> byResult = new HashMap<>();
+            for (String result : new String[]{"recent", "bloom_negative", "db_duplicate", "db_miss"}) {
+                byResult.put(result, Counter.builder("kplay.txn_id.lookup")
+                        .description("txn_id 중복 확인 결과 (db_miss 비율이 블룸 필터 오탐률)")
+                        .tag("type", type.name().toLowerCase())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+            counters.put(type, byResult);
+        }
+    }
+
+
+    /**
+     * 중복 여부 확인
+     * 최근 집합에 있으면 바로 중복, 블룸 필터에 없으면 바로 신규로 판정하고, 블룸 필터가 "있을 수도 있음" 일 때만 dbLookup 을 호출한다.
+     * DB 에서 중복으로 확인된 txn_id 는 최근 집합에 넣어 이후 재시도는 조회 없이 거절한다.
+     */
+    public boolean isDuplicate(TxnType type, String txnId, Predicate<String> dbLookup) {
+        String key = key(type, txnId);
+        if (recent.getIfPresent(key) != null) {
+            count(type, "recent");
+            return true;
+        }
+        if (!bloomFilter.mightContain(key)) {
+            count(type, "bloom_negative");
+            return false;
+        }
+        if (dbLookup.test(txnId)) {
+            recent.put(key, Boolean.TRUE);
+            count(type, "db_duplicate");
+            return true;
+        }
+        count(type, "db_miss");
+        return false;
+    }
+
+
+    /**
+     * 현재 트랜잭션이 커밋되면 txn_id 를 기록한다 (롤백된 요청은 재시도가 정상 처리되어야 하므로 기록하지 않는다)
+     */
+    public void recordAfterCommit(TxnType type, String txnId) {
+        String key = key(type, txnId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key);
+            }
+        });
+    }
+
+
+    /**
+     * 유니크 인덱스에서 중복으로 확인된 txn_id 기록 (이미 DB 에 있는 값이므로 현재 트랜잭션 결과와 관계없이 바로 기록한다)
+     */
+    public void recordDuplicate(TxnType type, String txnId) {
+        record(key(type, txnId));
+    }
+
+
+    private void record(String key) {
+        recent.put(key, Boolean.TRUE);
+        bloomFilter.put(key);
+    }
+
+
+    private void count(TxnType type, String result) {
+        counters.get(type).get(result).increment();
+    }
+
+
+    private static String key(TxnType type, String txnId) {
+        return type.name().charAt(0) + ":" + txnId;
+    }
+
+
+    /**
+     * 두 세대로 나눈 블룸 필터
+     * 새 값은 현재 세대에 넣고 조회는 두 세대 모두 확인한다. window 가 지나면 이전 세대를 비우고 교체하므로
+     * 기록된 값은 최소 window, 최대 2 * window 동안 유지되고 메모리는 세대당 고정 크기로 유지된다.
+     */
+    static final class RotatingBloomFilter {
+
+        private final int numBits;
+        private final int numHashes;
+        private final long windowMillis;
+
+        private volatile AtomicLongArray current;
+        private volatile AtomicLongArray previous;
+        private volatile long rotatedAt;
+
+
+        RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, long windowMillis) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.numBits = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+            this.windowMillis = windowMillis;
+            this.current = new AtomicLongArray((numBits + 63) / 64);
+            this.previous = new AtomicLongArray((numBits + 63) / 64);
+            this.rotatedAt = System.currentTimeMillis();
+        }
+
+
+        void put(String value) {
+            rotateIfExpired();
+            long hash = hash64(value);
+            AtomicLongArray bits = current;
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long old;
+                while (((old = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, old, old | mask)) {
+                    // 다른 스레드가 같은 word 를 바꾼 경우 다시 시도
+                }
+            }
+        }
+
+
+        boolean mightContain(String value) {
+            rotateIfExpired();
+            long hash = hash64(value);
+            return contains(current, hash) || contains(previous, hash);
+        }
+
+
+        private boolean contains(AtomicLongArray bits, long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        private void rotateIfExpired() {
+            if (System.currentTimeMillis() - rotatedAt < windowMillis) {
+                return;
+            }
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (now - rotatedAt >= windowMillis) {
+                    previous = current;
+                    current = new AtomicLongArray(previous.length());
+                    rotatedAt = now;
+                }
+            }
+        }
+
+
+        // FNV-1a 64bit + murmur3 finalizer
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb3fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class UserService {
     private final IpRepository repository;
     private final LoginStatisticService loginStatisticService;
     private final ExpRecordService expRecordService;
+    private final AasUserCache aasUserCache;
 
 
 
@@ -365,6 +366,7 @@ public class UserService {
         Optional.ofNullable(user.getNickname()).ifPresent(nickname -> findUser.setNickname(nickname));
         findUser.setUpdatedAt(LocalDateTime.now());
         User savedUser = userRepository.save(findUser);
+        aasUserCache.evictOnCompletion(findUser.getAasId());
         return userResponseMapper.toDto(savedUser);
     }
 
@@ -377,6 +379,7 @@ public class UserService {
      */
     public User insertAAS(Long userId, AASUserProfileDTO aasUserProfileDTO) {
         User user = userRepository.findById(userId).orElseThrow(()-> new RuntimeException("유저 없음"));
+        aasUserCache.evictOnCompletion(user.getAasId());
         user.setAasId(aasUserProfileDTO.getAasId());
         return userRepository.save(user);
     }
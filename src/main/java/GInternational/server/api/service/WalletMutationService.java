@@ -0,0 +1,93 @@
+package GInternational.server.api.service;
+
+import GInternational.server.api.entity.User;
+import GInternational.server.api.entity.Wallet;
+import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.common.exception.RestControllerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+/**
+ * 지갑 잔액 변경 (유저 단위 직렬화)
+ * 잔액을 읽고 계산해서 쓰는 경로는 lock 으로 지갑 row 를 SELECT ... FOR UPDATE 로 다시 읽은 뒤 변경한다.
+ * 잠금은 호출한 트랜잭션이 끝날 때까지 유지되므로 같은 유저의 콜백/전환 요청은 순서대로 처리되고, 서버가 여러 대여도 동일하다.
+ * 계산 없이 증감만 하면 되는 경로는 조건부 UPDATE 한 번으로 처리한다 (row lock 도 같은 방식으로 잡힌다).
+ *
+ * 잠금은 호출한 쪽 트랜잭션에 묶여야 의미가 있으므로 트랜잭션 밖에서 호출하면 예외가 발생한다.
+ * 여기를 거치지 않는 엔티티 저장 경로는 Wallet 의 @Version 으로 충돌이 감지된다.
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager", propagation = Propagation.MANDATORY)
+public class WalletMutationService {
+
+    @PersistenceContext(unitName = "entityManager")
+    private EntityManager entityManager;
+
+    private final WalletRepository walletRepository;
+    private final Timer lockTimer;
+
+
+    public WalletMutationService(WalletRepository walletRepository, MeterRegistry meterRegistry) {
+        this.walletRepository = walletRepository;
+        this.lockTimer = Timer.builder("wallet.lock.wait")
+                .description("지갑 row lock 획득까지 걸린 시간 (같은 유저의 다른 트랜잭션 대기 포함)")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 유저의 지갑을 잠그고 최신 값으로 다시 읽는다
+     * 유저 조회 시 함께 로딩된 지갑은 잠금 전 값이므로 반드시 반환된 지갑(같은 인스턴스)의 값을 기준으로 계산해야 한다.
+     */
+    public Wallet lock(User user) {
+        Wallet wallet = user.getWallet();
+        if (wallet == null) {
+            throw new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음");
+        }
+        return lock(wallet);
+    }
+
+
+    public Wallet lockByUserId(Long userId) {
+        Wallet wallet = walletRepository.findByUserId(userId)
+                .orElseThrow(() -> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
+        return lock(wallet);
+    }
+
+
+    /**
+     * 카지노머니 조건부 차감 (잔액 확인과 차감을 UPDATE 한 번으로 처리)
+     * @return 반영 후 카지노머니, 잔액이 부족하면 null
+     */
+    public Long debitCasino(Long userId, long amount, long creditAmount, long casinoBet, long slotBet) {
+        return walletRepository.debitCasinoBalance(userId, amount, creditAmount, casinoBet, slotBet);
+    }
+
+
+    /**
+     * 카지노머니 증가 (당첨, 보너스)
+     * @return 반영 후 카지노머니, 지갑이 없으면 null
+     */
+    public Long creditCasino(Long userId, long amount) {
+        return walletRepository.creditCasinoBalance(userId, amount);
+    }
+
+
+    private Wallet lock(Wallet wallet) {
+        Wallet managed = entityManager.contains(wallet) ? wallet : entityManager.find(Wallet.class, wallet.getId());
+        if (managed == null) {
+            throw new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음");
+        }
+        // 영속성 컨텍스트의 값이나 트랜잭션 스냅샷이 아니라 잠금 읽기(FOR UPDATE)로 최신 커밋 값을 가져온다
+        lockTimer.record(() -> entityManager.refresh(managed, LockModeType.PESSIMISTIC_WRITE));
+        return managed;
+    }
+}
@@ -2,6 +2,7 @@ package GInternational.server.api.service;
 
 import GInternational.server.common.exception.ExceptionCode;
 import GInternational.server.common.exception.RestControllerException;
+import GInternational.server.api.dto.BalanceAtResponseDTO;
 import GInternational.server.api.dto.WalletRequestDTO;
 import GInternational.server.api.dto.WalletResponseDTO;
 import GInternational.server.api.entity.Wallet;
@@ -12,6 +13,7 @@ import GInternational.server.api.utilities.AuditContextHolder;
 import GInternational.server.security.auth.PrincipalDetails;
 import GInternational.server.api.entity.User;
 import GInternational.server.api.repository.UserRepository;
+import GInternational.server.api.vo.BalanceTypeEnum;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +34,7 @@ public class WalletService {
     private final WalletRepository walletRepository;
     private final UserRepository userRepository;
     private final WalletResponseMapper walletResponseMapper;
+    private final BalanceLedgerService balanceLedgerService;
 
     /**
      * 지갑 업데이트.
@@ -107,6 +110,20 @@ public class WalletService {
         return savedWallet;
     }
 
+    /**
+     * 특정 시점의 사용자 잔액 조회 (잔액 원장 기준).
+     *
+     * @param userId             사용자 ID
+     * @param at                 조회 시점
+     * @param principalDetails   현재 사용자의 인증 정보
+     * @return                   조회 시점의 스포츠머니/카지노머니
+     */
+    public BalanceAtResponseDTO balanceAt(Long userId, LocalDateTime at, PrincipalDetails principalDetails) {
+        long sportsBalance = balanceLedgerService.balanceAt(userId, BalanceTypeEnum.SPORTS, at);
+        long casinoBalance = balanceLedgerService.balanceAt(userId, BalanceTypeEnum.CASINO, at);
+        return new BalanceAtResponseDTO(userId, at, sportsBalance, casinoBalance);
+    }
+
     /**
      * 모든 지갑 목록을 페이지로 반환.
      *
@@ -144,11 +161,12 @@ public class WalletService {
     }
 
     /**
-     * 지갑 정보를 업데이트.
+     * 지갑 정보를 업데이트. 잔액이 바뀌었으면 원장도 함께 기록한다.
      *
      * @param wallet   업데이트할 지갑 정보
+     * @param source   원장에 남길 변경 출처
      */
-    public void updateWalletBalance(Wallet wallet) {
-        walletRepository.save(wallet);
+    public void updateWalletBalance(Wallet wallet, String source) {
+        balanceLedgerService.saveWallet(wallet, source);
     }
 }
@@ -0,0 +1,14 @@
+package GInternational.server.api.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BalanceTypeEnum {
+
+    SPORTS("sports_balance"),   // 스포츠머니
+    CASINO("casino_balance");   // 카지노머니
+
+    private final String column;  // wallet 컬럼명
+}
@@ -0,0 +1,112 @@
+package GInternational.server.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 커밋 이후 부가 처리(통계, 경험치 등)를 요청 스레드 밖에서 실행하는 비동기 실행기
+ * 큐가 가득 차면 호출한 스레드에서 직접 실행하므로 부가 처리가 유실되지는 않는다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean(name = "postCommitExecutor")
+    public Executor postCommitExecutor(@Value("${async.post-commit.core-pool-size:4}") int corePoolSize,
+                                       @Value("${async.post-commit.max-pool-size:8}") int maxPoolSize,
+                                       @Value("${async.post-commit.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-commit-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+
+    /**
+     * 게임사 콜백(balance, debit, credit, bonus, buyin) 실행기
+     * 동시에 처리하는 콜백 수를 pool-size 로 제한하고, 큐가 가득 차면 바로 거절한다 (KplayCallbackBulkhead 에서 503 으로 응답).
+     * 콜백 폭주가 DB 커넥션 풀(maximum-pool-size)을 모두 점유하지 않도록 pool-size 를 그보다 작게 둔다.
+     * 커넥션 풀은 다른 요청과 함께 쓰므로 관리자 요청이 커넥션을 점유하는 경우까지 막아주지는 않는다.
+     * ThreadPoolExecutor 는 큐가 가득 찬 뒤에만 core 이상으로 스레드를 늘리므로 core 와 max 를 같게 둔다.
+     */
+    @Bean(name = "kplayCallbackExecutor")
+    public ThreadPoolTaskExecutor kplayCallbackExecutor(@Value("${kplay.callback.pool-size:20}") int poolSize,
+                                                        @Value("${kplay.callback.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("kplay-callback-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+
+    /**
+     * 증분 정산 조율 실행기 (단일 스레드)
+     * 정산 청크는 샤드 워커의 완료를 기다리므로 스케줄러 스레드 대신 여기서 순서대로 실행한다.
+     */
+    @Bean(name = "settlementCoordinatorExecutor")
+    public ThreadPoolTaskExecutor settlementCoordinatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("settlement-coordinator-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+
+    /**
+     * ID 구간 미리 예약 실행기 (BetGroupIdAllocator)
+     * 구간을 다 쓰기 전에 다음 구간을 예약해 베팅 요청 스레드가 DB 왕복을 기다리지 않도록 한다.
+     */
+    @Bean(name = "idSequenceExecutor")
+    public ThreadPoolTaskExecutor idSequenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("id-sequence-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+
+    /**
+     * 인플레이 배당 스트림(SSE) 전송 실행기
+     * 느린 클라이언트의 소켓 쓰기가 스케줄러 스레드를 막지 않도록 분리한다. 가득 차면 거절하고 다음 전송 주기에 다시 시도한다.
+     */
+    @Bean(name = "inPlayStreamExecutor")
+    public ThreadPoolTaskExecutor inPlayStreamExecutor(@Value("${lsports.stream.in-play.send-threads:4}") int threads,
+                                                       @Value("${lsports.stream.in-play.send-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("inplay-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
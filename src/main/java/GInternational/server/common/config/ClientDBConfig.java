@@ -6,9 +6,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -45,17 +45,22 @@ public class ClientDBConfig {
     @Value("${spring.primary.datasource.password}")
     private String password;
 
+    private final Environment env;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+
+    public ClientDBConfig(Environment env, ReplicaLagMonitor replicaLagMonitor) {
+        this.env = env;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
 
 
     @Bean(name = "clientApiServer")
     @Primary
     public DataSource clientServerDataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setUrl(url);
-        dataSource.setDriverClassName(driverClassName);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
-        return dataSource;
+        return PooledDataSources.create("client-pool", url, driverClassName, username, password, env, "spring.primary.datasource",
+                replicaLagMonitor);
     }
 
 
@@ -5,9 +5,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -36,16 +36,21 @@ public class LSportsDataDBConfig {
     @Value("${spring.secondary.datasource.password}")
     private String password;
 
+    private final Environment env;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+
+    public LSportsDataDBConfig(Environment env, ReplicaLagMonitor replicaLagMonitor) {
+        this.env = env;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
 
     @Bean(name = "lsportDatasource")
     @Primary
     public DataSource lsportDatasource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setUrl(url);
-        dataSource.setDriverClassName(driverClassName);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
-        return dataSource;
+        return PooledDataSources.create("lsport-pool", url, driverClassName, username, password, env, "spring.secondary.datasource",
+                replicaLagMonitor);
     }
 
 
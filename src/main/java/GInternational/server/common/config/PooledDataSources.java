@@ -0,0 +1,72 @@
+package GInternational.server.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀(HikariCP) 데이터소스 생성
+ * 풀 설정은 {prefix}.pool.* 에서 읽으며, 없으면 아래 기본값을 쓴다.
+ * {prefix}.replica.jdbc-url 이 있으면 replica 풀을 추가로 만들고 @ReadReplica 조회를 replica 로 라우팅한다.
+ * 풀 메트릭(hikaricp.connections.active/idle/pending/usage/acquire 등)은 풀마다 pool 태그로 구분된다.
+ * (단일 풀은 actuator 가 빈에 직접 연결하고, 라우팅 안쪽 풀은 ReplicaLagMonitor 가 연결한다)
+ */
+final class PooledDataSources {
+
+    private PooledDataSources() {
+    }
+
+
+    static DataSource create(String poolName, String url, String driverClassName, String username, String password,
+                             Environment env, String prefix, ReplicaLagMonitor replicaLagMonitor) {
+        HikariDataSource primary = createPool(poolName, url, driverClassName, username, password, env, prefix + ".pool");
+
+        String replicaUrl = env.getProperty(prefix + ".replica.jdbc-url");
+        if (!StringUtils.hasText(replicaUrl)) {
+            return primary;
+        }
+        HikariDataSource replica = createPool(poolName + "-replica", replicaUrl, driverClassName,
+                env.getProperty(prefix + ".replica.username", username),
+                env.getProperty(prefix + ".replica.password", password),
+                env, prefix + ".replica.pool");
+        replica.setReadOnly(true);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(poolName, primary, replica,
+                env.getProperty(prefix + ".replica.max-lag-seconds", Long.class, 5L));
+        routing.afterPropertiesSet();
+        replicaLagMonitor.register(routing, primary, replica);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+
+    private static HikariDataSource createPool(String poolName, String url, String driverClassName, String username, String password,
+                                               Environment env, String prefix) {
+        // 설정만 해두고 첫 커넥션 요청 시 풀을 시작한다
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+
+        dataSource.setMaximumPoolSize(env.getProperty(prefix + ".maximum-pool-size", Integer.class, 20));
+        dataSource.setMinimumIdle(env.getProperty(prefix + ".minimum-idle", Integer.class, 5));
+        dataSource.setConnectionTimeout(env.getProperty(prefix + ".connection-timeout-ms", Long.class, 3000L));
+        dataSource.setValidationTimeout(env.getProperty(prefix + ".validation-timeout-ms", Long.class, 1000L));
+        dataSource.setIdleTimeout(env.getProperty(prefix + ".idle-timeout-ms", Long.class, 600000L));
+        // RDS wait_timeout 보다 짧게 유지해야 끊긴 커넥션을 빌려주지 않는다
+        dataSource.setMaxLifetime(env.getProperty(prefix + ".max-lifetime-ms", Long.class, 1700000L));
+        dataSource.setKeepaliveTime(env.getProperty(prefix + ".keepalive-time-ms", Long.class, 300000L));
+        // 이 시간보다 오래 반납되지 않은 커넥션은 빌려간 위치의 스택과 함께 경고 로그를 남긴다 (0 이면 사용 안 함)
+        dataSource.setLeakDetectionThreshold(env.getProperty(prefix + ".leak-detection-threshold-ms", Long.class, 10000L));
+
+        // MySQL 드라이버 PreparedStatement 캐시
+        dataSource.addDataSourceProperty("cachePrepStmts", "true");
+        dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        return dataSource;
+    }
+}
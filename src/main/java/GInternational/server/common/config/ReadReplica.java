@@ -0,0 +1,15 @@
+package GInternational.server.common.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 읽기 전용 복제본(replica)으로 보낼 조회
+ * 트랜잭션 없이 실행되는 조회(QueryDSL, JdbcTemplate)도 복제본으로 라우팅한다.
+ * 쓰기 트랜잭션 안에서 호출되면 무시되고 primary 를 사용한다.
+ * 복제본 라우팅은 이 어노테이션으로만 켜지며, {@code @Transactional(readOnly = true)} 만으로는 primary 를 사용한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
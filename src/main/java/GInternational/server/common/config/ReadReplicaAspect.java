@@ -0,0 +1,21 @@
+package GInternational.server.common.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ReadReplicaAspect {
+
+    @Around("@annotation(GInternational.server.common.config.ReadReplica) || @within(GInternational.server.common.config.ReadReplica)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaRoutingDataSource.preferReplica(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.preferReplica(previous);
+        }
+    }
+}
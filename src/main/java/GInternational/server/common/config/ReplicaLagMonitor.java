@@ -0,0 +1,75 @@
+package GInternational.server.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * replica 지연 주기 확인 및 라우팅 데이터소스 메트릭 연결
+ * 데이터소스 설정에서 replica 가 구성된 경우에만 등록된다.
+ * 라우팅 안쪽 풀은 빈이 아니어서 actuator 가 찾지 못하므로 여기서 hikaricp 메트릭을 연결하고,
+ * replica 사용 가능 여부를 datasource.replica.available 게이지(1/0)로 노출한다.
+ */
+@Component
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private final List<ReplicaRoutingDataSource> dataSources = new ArrayList<>();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+
+
+    synchronized void register(ReplicaRoutingDataSource dataSource, HikariDataSource... pools) {
+        dataSources.add(dataSource);
+        for (HikariDataSource pool : pools) {
+            this.pools.add(pool);
+        }
+        if (meterRegistry != null) {
+            bind(dataSource, pools);
+        }
+    }
+
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        for (ReplicaRoutingDataSource dataSource : dataSources) {
+            bind(dataSource);
+        }
+        for (HikariDataSource pool : pools) {
+            bind(null, pool);
+        }
+    }
+
+
+    private void bind(ReplicaRoutingDataSource dataSource, HikariDataSource... pools) {
+        if (dataSource != null) {
+            Gauge.builder("datasource.replica.available", dataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+                    .tag("name", dataSource.getName())
+                    .register(meterRegistry);
+        }
+        for (HikariDataSource pool : pools) {
+            if (pool.getMetricsTrackerFactory() == null && pool.getMetricRegistry() == null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+        }
+    }
+
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:5000}")
+    public void check() {
+        List<ReplicaRoutingDataSource> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(dataSources);
+        }
+        for (ReplicaRoutingDataSource dataSource : targets) {
+            dataSource.checkLag();
+        }
+    }
+}
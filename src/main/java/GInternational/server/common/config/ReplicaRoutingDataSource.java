@@ -0,0 +1,105 @@
+package GInternational.server.common.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * primary / replica 라우팅 데이터소스
+ * {@link ReadReplica} 구간의 조회만 replica 로 보내고, 그 외는 모두 primary 로 보낸다.
+ * readOnly 트랜잭션만으로는 replica 로 가지 않는다 (SimpleJpaRepository 의 기본 readOnly 조회가 쓰기 직전 읽기를 replica 에서 하지 않도록).
+ * {@link ReadReplica} 구간이라도 쓰기 트랜잭션 안이면 primary 를 사용한다.
+ * replica 지연(Seconds_Behind_Master)이 max-lag 을 넘거나 상태 조회에 실패하면 회복될 때까지 primary 로 보낸다.
+ *
+ * 커넥션은 트랜잭션 속성이 정해진 뒤에 골라야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PREFER_REPLICA = ThreadLocal.withInitial(() -> false);
+
+    private final String name;
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable = true;
+
+
+    public ReplicaRoutingDataSource(String name, DataSource primary, DataSource replica, long maxLagSeconds) {
+        this.name = name;
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+
+    String getName() {
+        return name;
+    }
+
+
+    boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+
+    /**
+     * @return 이전 값 (복원용)
+     */
+    static boolean preferReplica(boolean prefer) {
+        boolean previous = PREFER_REPLICA.get();
+        PREFER_REPLICA.set(prefer);
+        return previous;
+    }
+
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replicaRead = PREFER_REPLICA.get();
+        if (replicaRead && TransactionSynchronizationManager.isActualTransactionActive()) {
+            replicaRead = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return replicaRead && replicaAvailable ? REPLICA : PRIMARY;
+    }
+
+
+    /**
+     * replica 지연 확인 (ReplicaLagMonitor 에서 주기적으로 호출)
+     * 복제 상태가 없는 경우(Aurora reader 등)는 지연 없음으로 본다.
+     */
+    void checkLag() {
+        boolean available;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (rs.next()) {
+                long lag = rs.getLong("Seconds_Behind_Master");
+                available = !rs.wasNull() && lag <= maxLagSeconds;
+                if (!available) {
+                    logger.warn("Replica of {} lagging ({} s, max {} s), routing reads to primary", name, rs.wasNull() ? "stopped" : lag, maxLagSeconds);
+                }
+            } else {
+                available = true;
+            }
+        } catch (Exception e) {
+            logger.warn("Replica of {} unavailable, routing reads to primary: {}", name, e.getMessage());
+            available = false;
+        }
+        if (available && !replicaAvailable) {
+            logger.info("Replica of {} recovered, routing reads to replica", name);
+        }
+        replicaAvailable = available;
+    }
+}
@@ -23,6 +23,7 @@ public enum ExceptionCode {
     BLOCKED_IP(404, "접근이 차단된 ip입니다."),
     BALANCE_TOO_HIGH(400, "캐시 1만원 이상 보유중이면 신청 불가합니다."),
     BET_AMOUNT_TOO_LOW(400, "어제 슬롯 게임에서 배팅한 총 금액이 5만원 미만이면 신청 불가합니다."),
+    BET_LIABILITY_EXCEEDED(409, "베팅 한도를 초과한 배당입니다."),
     CANNOT_RECOMMEND(400, "해당 추천인은 추천이 불가능한 유저입니다."),
     CATEGORY_NOT_FOUND(404, "Category not found"),
     COMMENT_NOT_FOUND(404, "Comment not found"),
@@ -53,12 +54,15 @@ public enum ExceptionCode {
     INVALID_STATUS(404, "유효하지 않은 상태입니다."),
     INVALID_TRANSACTION_STATE(400, "처리할 수 없는 상태의 신청건입니다."),
     INVALID_USER_LEVEL(400, "접근 권한이 없는 레벨입니다."),
+    KPLAY_CALLBACK_BUSY(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     MATCH_NOT_FOUND(404, "MATCH_NOT_FOUND"),
     MESSAGE_NOT_FOUND(404, "Message not found"),
     MONEY_COUPON_EXPIRED(400, "쿠폰의 유효기간이 만료되었습니다."),
     NO_NEXT_ARTICLE(400, "다음 게시글이 없습니다."),
     NO_PREVIOUS_ARTICLE(400, "이전 게시글이 없습니다."),
     NOTICE_NOT_FOUND(404, "공지사항을 찾을 수 없습니다."),
+    ODD_NOT_AVAILABLE(400, "베팅할 수 없는 배당입니다."),
+    ODD_PRICE_CHANGED(409, "배당률이 변경되었습니다."),
     ONLY_WAITING_TRANSACTIONS_CAN_BE_APPROVED(404, "대기중인 내역만 승인가능합니다."),
     PASSWORD_NOT_MATCH(400, "기존 비밀번호가 일치하지 않습니다."),
     PERMISSION_DENIED(400, "권한이 없습니다."),
@@ -1,5 +1,6 @@
 package GInternational.server.kplay.balance.controller;
 
+import GInternational.server.api.service.KplayCallbackBulkhead;
 import GInternational.server.kplay.balance.dto.CasinoBalanceRequestDTO;
 import GInternational.server.kplay.balance.dto.CasinoBalanceResponseDTO;
 import GInternational.server.kplay.balance.repository.CasinoBalanceRepository;
@@ -11,12 +12,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class CasinoBalanceController {
 
     private final CasinoBalanceService casinoBalanceService;
     private final CasinoBalanceRepository casinoBalanceRepository;
+    private final KplayCallbackBulkhead kplayCallbackBulkhead;
 
     /**
      * 카지노 잔액 조회.
@@ -26,9 +30,9 @@ public class CasinoBalanceController {
      * @return ResponseEntity 카지노 잔액 응답 DTO를 담은 ResponseEntity 객체
      */
     @PostMapping("/balance")
-    public ResponseEntity calledBalance(@RequestBody CasinoBalanceRequestDTO casinoBalanceRequestDTO,
-                                        @RequestHeader ("secret-key") String secretHeader) {
-        CasinoBalanceResponseDTO response = casinoBalanceService.calledBalance(casinoBalanceRequestDTO,secretHeader);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<CasinoBalanceResponseDTO>> calledBalance(@RequestBody CasinoBalanceRequestDTO casinoBalanceRequestDTO,
+                                                                                      @RequestHeader ("secret-key") String secretHeader) {
+        return kplayCallbackBulkhead.submit("balance",
+                () -> casinoBalanceService.calledBalance(casinoBalanceRequestDTO, secretHeader));
     }
 }
\ No newline at end of file
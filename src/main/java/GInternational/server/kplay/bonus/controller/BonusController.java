@@ -1,5 +1,6 @@
 package GInternational.server.kplay.bonus.controller;
 
+import GInternational.server.api.service.KplayCallbackBulkhead;
 import GInternational.server.kplay.bonus.dto.BonusRequestDTO;
 import GInternational.server.kplay.bonus.dto.BonusResponseDTO;
 import GInternational.server.kplay.bonus.service.BonusService;
@@ -10,11 +11,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class BonusController {
 
     private final BonusService bonusService;
+    private final KplayCallbackBulkhead kplayCallbackBulkhead;
 
     /**
      * 사용자에게 보너스를 지급.
@@ -24,9 +28,8 @@ public class BonusController {
      * @return ResponseEntity 보너스 지급 응답 DTO를 담은 ResponseEntity 객체
      */
     @PostMapping("/bonus")
-    public ResponseEntity calledBonus(@RequestBody BonusRequestDTO bonusRequestDTO,
-                                      @RequestHeader ("secret-key") String secretHeader) {
-        BonusResponseDTO response = bonusService.calledBonus(bonusRequestDTO,secretHeader);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<BonusResponseDTO>> calledBonus(@RequestBody BonusRequestDTO bonusRequestDTO,
+                                                                          @RequestHeader ("secret-key") String secretHeader) {
+        return kplayCallbackBulkhead.submit("bonus", () -> bonusService.calledBonus(bonusRequestDTO, secretHeader));
     }
 }
\ No newline at end of file
@@ -1,28 +1,29 @@
 package GInternational.server.kplay.bonus.service;
 
-import GInternational.server.api.service.MoneyLogService;
+import GInternational.server.api.dto.AasUserDTO;
+import GInternational.server.api.dto.MoneyLogEntryDTO;
+import GInternational.server.api.service.AasUserCache;
+import GInternational.server.api.service.MoneyLogQueue;
+import GInternational.server.api.service.WalletMutationService;
 import GInternational.server.api.vo.MoneyLogCategoryEnum;
 import GInternational.server.common.exception.ExceptionCode;
 import GInternational.server.common.exception.RestControllerException;
-import GInternational.server.api.entity.Wallet;
-import GInternational.server.api.repository.WalletRepository;
 import GInternational.server.kplay.bonus.dto.BonusRequestDTO;
 import GInternational.server.kplay.bonus.dto.BonusResponseDTO;
-import GInternational.server.kplay.bonus.repository.BonusRepository;
-import GInternational.server.api.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+
 @Service
 @RequiredArgsConstructor
 @Transactional(value = "clientServerTransactionManager")
 public class BonusService {
 
-    private final WalletRepository walletRepository;
-    private final BonusRepository bonusRepository;
-    private final MoneyLogService moneyLogService;
+    private final AasUserCache aasUserCache;
+    private final WalletMutationService walletMutationService;
+    private final MoneyLogQueue moneyLogQueue;
 
     @Value("${secret.secret-key}")
     private String secretKey;
@@ -35,7 +36,7 @@ public class BonusService {
      * @return BonusResponseDTO 보너스 지급 응답 DTO
      */
     public BonusResponseDTO calledBonus(BonusRequestDTO bonusRequestDTO, String secretHeader) {
-        User user = bonusRepository.findByAasId(bonusRequestDTO.getUser_id()).orElse(null);
+        AasUserDTO user = aasUserCache.get(bonusRequestDTO.getUser_id()).orElse(null);
 
         if (user == null) {
             return BonusResponseDTO.createFailureResponse("INVALID_USER");
@@ -43,46 +44,17 @@ public class BonusService {
             return BonusResponseDTO.createFailureResponse("ACCESS_DENIED");
         }
 
-        Wallet wallet = walletRepository.findById(user.getWallet().getId()).orElseThrow
-                (() -> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
-        wallet.setCasinoBalance(user.getWallet().getCasinoBalance() + bonusRequestDTO.getAmount());
-        walletRepository.save(wallet);
+        Long newCasinoBalance = walletMutationService.creditCasino(user.getUserId(), bonusRequestDTO.getAmount());
+        if (newCasinoBalance == null) {
+            throw new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음");
+        }
 
         String bettingCategory = getBettingCategory(bonusRequestDTO.getPrd_id());
         String description = bonusRequestDTO.getGame_id() + "(" + bettingCategory + ")";
-        moneyLogService.recordMoneyUsage(user.getId(), (long) bonusRequestDTO.getAmount(), user.getWallet().getCasinoBalance(), MoneyLogCategoryEnum.보너스, description);
-
-        int status = (secretHeader.equals(secretKey) &&
-                user.getAasId().equals(bonusRequestDTO.getUser_id())) ? 1 : 0;
-
-        String error = getErrorMessage(status, user, secretHeader);
-
-        if (status == 1) {
-            return new BonusResponseDTO(status, wallet.getCasinoBalance());
-        } else {
-            return BonusResponseDTO.createFailureResponse(error);
-        }
-    }
+        moneyLogQueue.enqueue(new MoneyLogEntryDTO(user.getUserId(), user.getUsername(), user.getNickname(),
+                bonusRequestDTO.getAmount(), newCasinoBalance, MoneyLogCategoryEnum.보너스, description));
 
-    /**
-     * 보너스 지급 실패 시 오류 메시지를 결정.
-     *
-     * @param status 상태 코드 (성공: 1, 실패: 0)
-     * @param user 조회 요청한 유저
-     * @param secretHeader 요청 헤더에서 전달된 비밀 키
-     * @return String 오류 메시지
-     */
-    public String getErrorMessage(int status, User user, String secretHeader) {
-        if (status == 0) {
-            if (user.getAasId() == null) {
-                return "INVALID_USER";
-            } else if (!secretHeader.equals(secretKey)) {
-                return "ACCESS_DENIED";
-            } else {
-                return "UNKNOWN_ERROR";
-            }
-        }
-        return null;
+        return new BonusResponseDTO(1, newCasinoBalance);
     }
 
     /**
@@ -1,5 +1,6 @@
 package GInternational.server.kplay.buyin.controller;
 
+import GInternational.server.api.service.KplayCallbackBulkhead;
 import GInternational.server.kplay.buyin.dto.BuyinRequestDTO;
 import GInternational.server.kplay.buyin.dto.BuyinResponseDTO;
 import GInternational.server.kplay.buyin.service.BuyinService;
@@ -10,11 +11,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class BuyInController {
 
     private final BuyinService buyinService;
+    private final KplayCallbackBulkhead kplayCallbackBulkhead;
 
     /**
      * 게임 내 구매 요청을 처리하고 응답을 반환.
@@ -24,9 +28,8 @@ public class BuyInController {
      * @return ResponseEntity 구매 응답 DTO를 담은 ResponseEntity 객체
      */
     @PostMapping("/buyin")
-    public ResponseEntity<BuyinResponseDTO> info(@RequestBody BuyinRequestDTO buyinRequestDTO,
-                                                 @RequestHeader("secret-key") String secretHeader) {
-        BuyinResponseDTO response = buyinService.getInfo(buyinRequestDTO, secretHeader);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<BuyinResponseDTO>> info(@RequestBody BuyinRequestDTO buyinRequestDTO,
+                                                                    @RequestHeader("secret-key") String secretHeader) {
+        return kplayCallbackBulkhead.submit("buyin", () -> buyinService.getInfo(buyinRequestDTO, secretHeader));
     }
 }
@@ -1,19 +1,21 @@
 package GInternational.server.kplay.buyin.service;
 
-import GInternational.server.common.exception.ExceptionCode;
-import GInternational.server.common.exception.RestControllerException;
-import GInternational.server.api.entity.Wallet;
-import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.dto.AasUserDTO;
+import GInternational.server.api.service.AasUserCache;
+import GInternational.server.api.service.TxnIdIndex;
+import GInternational.server.api.service.TxnIdIndex.TxnType;
+import GInternational.server.api.service.WalletMutationService;
 import GInternational.server.kplay.buyin.dto.BuyinRequestDTO;
 import GInternational.server.kplay.buyin.dto.BuyinResponseDTO;
 import GInternational.server.kplay.debit.entity.Debit;
 import GInternational.server.kplay.debit.repository.DebitRepository;
-import GInternational.server.api.entity.User;
-import GInternational.server.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
 
 @Service
 @Transactional(value = "clientServerTransactionManager")
@@ -21,8 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class BuyinService {
 
     private final DebitRepository debitRepository;
-    private final WalletRepository walletRepository;
-    private final UserRepository userRepository;
+    private final AasUserCache aasUserCache;
+    private final WalletMutationService walletMutationService;
+    private final TxnIdIndex txnIdIndex;
 
     @Value("${secret.secret-key}")
     private String secretKey;
@@ -35,19 +38,19 @@ public class BuyinService {
      * @return BuyinResponseDTO 구매 결과를 담은 DTO
      */
     public BuyinResponseDTO getInfo(BuyinRequestDTO buyinRequestDTO,String secretHeader) {
-        User user = userRepository.findByAasId(buyinRequestDTO.getUser_id()).orElse(null);
-        Debit existingDebit = debitRepository.findByTxnId(buyinRequestDTO.getTxn_id()).orElse(null);
-        Wallet wallet;
-
+        AasUserDTO user = aasUserCache.get(buyinRequestDTO.getUser_id()).orElse(null);
         if (user == null) {
             return BuyinResponseDTO.createFailureResponse("INVALID_USER");
-        } else if (user.getWallet().getCasinoBalance() < buyinRequestDTO.getAmount()) {
-            return BuyinResponseDTO.createFailureResponse("INSUFFICIENT_FUNDS");
-        } else if (existingDebit != null && existingDebit.getTxnId().equals(buyinRequestDTO.getTxn_id())) {
+        } else if (!secretHeader.equals(secretKey)) {
+            return BuyinResponseDTO.createFailureResponse("ACCESS_DENIED");
+        } else if (txnIdIndex.isDuplicate(TxnType.DEBIT, buyinRequestDTO.getTxn_id(), debitRepository::existsByTxnId)) {
             return BuyinResponseDTO.createFailureResponse("DUPLICATE_DEBIT");
-        } else {
-            wallet = walletRepository.findById(user.getWallet().getId()).orElseThrow
-                    (() -> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
+        }
+
+        // 잔액 확인과 차감을 UPDATE 한 번으로 처리한다 (다른 서버나 동시에 들어온 중복 콜백은 debit.txn_id 유니크 인덱스에서 걸러져 롤백된다)
+        Long newCasinoBalance = walletMutationService.debitCasino(user.getUserId(), buyinRequestDTO.getAmount(), 0, 0, 0);
+        if (newCasinoBalance == null) {
+            return BuyinResponseDTO.createFailureResponse("INSUFFICIENT_FUNDS");
         }
 
         Debit savedDebit = Debit.builder()
@@ -57,49 +60,16 @@ public class BuyinService {
                 .amount(buyinRequestDTO.getAmount())
                 .txnId(buyinRequestDTO.getTxn_id())
                 .credit_amount(buyinRequestDTO.getCredit_amount())
+                .remainAmount(newCasinoBalance)
                 .build();
-        debitRepository.save(savedDebit);
-
-        int status = (secretHeader.equals(secretKey) &&
-                user.getAasId().equals(buyinRequestDTO.getUser_id()) &&
-                user.getWallet().getCasinoBalance() >= buyinRequestDTO.getAmount() &&
-                existingDebit == null) ? 1 : 0;
-
-        long newCasinoBalance = user.getWallet().getCasinoBalance() - buyinRequestDTO.getAmount();
-        user.getWallet().setCasinoBalance(newCasinoBalance);
-        walletRepository.save(user.getWallet());
-
-        String error = getErrorMessage(status, user, secretHeader);
-
-        if (status == 1) {
-            return new BuyinResponseDTO(status, wallet.getCasinoBalance());
-        } else {
-            return BuyinResponseDTO.createFailureResponse(error);
+        savedDebit.setCreatedAt(LocalDateTime.now());
+        if (!debitRepository.insertIfAbsent(savedDebit)) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            txnIdIndex.recordDuplicate(TxnType.DEBIT, savedDebit.getTxnId());
+            return BuyinResponseDTO.createFailureResponse("DUPLICATE_DEBIT");
         }
-    }
+        txnIdIndex.recordAfterCommit(TxnType.DEBIT, savedDebit.getTxnId());
 
-    /**
-     * 오류 상황에 따른 메시지를 반환.
-     *
-     * @param status 상태 코드 (성공: 1, 실패: 0)
-     * @param user 조회 요청한 유저
-     * @param secretHeader 요청 헤더에서 전달된 비밀 키
-     * @return String 오류 메시지
-     */
-    public String getErrorMessage(int status, User user, String secretHeader) {
-        if (status == 0) {
-            if (user.getAasId() == null) {
-                return "INVALID_USER";
-            } else if (!secretHeader.equals(secretKey)) {
-                return "ACCESS_DENIED";
-            } else {
-                return "UNKNOWN_ERROR";
-            }
-        }
-        return null;
+        return new BuyinResponseDTO(1, newCasinoBalance);
     }
 }
-
-
-
-
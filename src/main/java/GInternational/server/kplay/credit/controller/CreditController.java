@@ -1,5 +1,6 @@
 package GInternational.server.kplay.credit.controller;
 
+import GInternational.server.api.service.KplayCallbackBulkhead;
 import GInternational.server.kplay.credit.dto.CreditRequestDTO;
 import GInternational.server.kplay.credit.dto.CreditResponseDTO;
 import GInternational.server.kplay.credit.service.CreditService;
@@ -10,11 +11,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class CreditController {
 
     private final CreditService creditService;
+    private final KplayCallbackBulkhead kplayCallbackBulkhead;
 
     /**
      * 사용자에게 크레딧(베팅)을 추가.
@@ -24,10 +28,9 @@ public class CreditController {
      * @return ResponseEntity 처리 결과를 담은 CreditResponseDTO를 ResponseEntity로 반환
      */
     @PostMapping("/credit")
-    public ResponseEntity calledCredit(@RequestBody CreditRequestDTO creditRequestDTO,
-                                       @RequestHeader("secret-key") String secretHeader) {
-        CreditResponseDTO response = creditService.calledCredit(creditRequestDTO,secretHeader);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<CreditResponseDTO>> calledCredit(@RequestBody CreditRequestDTO creditRequestDTO,
+                                                                            @RequestHeader("secret-key") String secretHeader) {
+        return kplayCallbackBulkhead.submit("credit", () -> creditService.calledCredit(creditRequestDTO, secretHeader));
     }
 }
 
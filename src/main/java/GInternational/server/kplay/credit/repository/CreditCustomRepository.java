@@ -0,0 +1,20 @@
+package GInternational.server.kplay.credit.repository;
+
+import GInternational.server.kplay.credit.entity.Credit;
+
+import java.util.List;
+
+public interface CreditCustomRepository {
+
+    /**
+     * txn_id 가 아직 없을 때만 당첨 내역을 기록 (txn_id, debit_id 유니크 인덱스로 중복 콜백을 걸러낸다)
+     * @return 새로 기록했으면 true, 같은 txn_id 또는 같은 베팅의 당첨 내역이 이미 있으면 false
+     */
+    boolean insertIfAbsent(Credit credit);
+
+    /**
+     * 당첨 내역 배치 기록 (INSERT IGNORE), 미처리 결과 일괄 정산용
+     * @return 실제로 기록된 항목 (같은 txn_id 나 같은 베팅의 당첨 내역이 이미 있는 항목은 제외)
+     */
+    List<Credit> insertIgnoreDuplicates(List<Credit> credits);
+}
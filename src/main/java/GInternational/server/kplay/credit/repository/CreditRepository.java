@@ -3,7 +3,7 @@ package GInternational.server.kplay.credit.repository;
 import GInternational.server.kplay.credit.entity.Credit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CreditRepository extends JpaRepository<Credit,Long> {
+public interface CreditRepository extends JpaRepository<Credit,Long>, CreditCustomRepository {
     //Optional<Credit> findByTxnId(String txnId);
 
     boolean existsByTxnId(String txnId);
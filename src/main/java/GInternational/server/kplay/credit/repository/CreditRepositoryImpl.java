@@ -0,0 +1,87 @@
+package GInternational.server.kplay.credit.repository;
+
+import GInternational.server.kplay.credit.entity.Credit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class CreditRepositoryImpl implements CreditCustomRepository {
+
+    // 같은 txn_id 가 이미 있으면 기록되지 않고 affected rows 가 0 이 된다
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT IGNORE INTO credit (user_id, amount, prd_id, txn_id, game_id, table_id, is_cancel, remain_amount, debit_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public CreditRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public boolean insertIfAbsent(Credit credit) {
+        Timestamp createdAt = Timestamp.valueOf(credit.getCreatedAt() != null ? credit.getCreatedAt() : LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+                credit.getUser_id(),
+                credit.getAmount(),
+                credit.getPrd_id(),
+                credit.getTxnId(),
+                credit.getGame_id(),
+                credit.getTable_id(),
+                credit.getIs_cancel(),
+                credit.getRemainAmount(),
+                credit.getDebit() != null ? credit.getDebit().getId() : null,
+                createdAt,
+                createdAt) == 1;
+    }
+
+
+    @Override
+    public List<Credit> insertIgnoreDuplicates(List<Credit> credits) {
+        if (credits.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] inserted = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, credits, credits.size(),
+                (PreparedStatement ps, Credit credit) -> {
+                    ps.setInt(1, credit.getUser_id());
+                    ps.setInt(2, credit.getAmount());
+                    ps.setInt(3, credit.getPrd_id());
+                    ps.setString(4, credit.getTxnId());
+                    ps.setInt(5, credit.getGame_id());
+                    ps.setString(6, credit.getTable_id());
+                    ps.setInt(7, credit.getIs_cancel());
+                    ps.setInt(8, credit.getRemainAmount());
+                    ps.setLong(9, credit.getDebit().getId());
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                });
+
+        // 1 이면 기록, 0 이면 중복 키로 무시된 항목
+        // 드라이버가 건수를 주지 않으면(SUCCESS_NO_INFO) txn_id 로 다시 조회해도 이번 요청이 기록한 것인지 구분할 수 없으므로
+        // 당첨금이 두 번 지급되지 않도록 배치 트랜잭션을 실패시킨다
+        List<Credit> posted = new ArrayList<>(credits.size());
+        for (int i = 0; i < credits.size(); i++) {
+            int count = inserted[0][i];
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("credit insert returned no update count for txn " + credits.get(i).getTxnId()
+                        + "; disable rewriteBatchedStatements for this data source");
+            }
+            if (count > 0) {
+                posted.add(credits.get(i));
+            }
+        }
+        return posted;
+    }
+}
@@ -1,5 +1,6 @@
 package GInternational.server.kplay.debit.controller;
 
+import GInternational.server.api.service.KplayCallbackBulkhead;
 import GInternational.server.common.dto.MultiResponseDto;
 import GInternational.server.kplay.debit.dto.DebitAmazonResponseDTO;
 import GInternational.server.kplay.debit.dto.DebitRequestDTO;
@@ -14,12 +15,15 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 
 @RestController
 @RequiredArgsConstructor
 public class DebitController {
 
     private final DebitService debitService;
+    private final KplayCallbackBulkhead kplayCallbackBulkhead;
 
     /**
      * 사용자로부터 베팅 요청을 받아 처리.
@@ -29,11 +33,10 @@ public class DebitController {
      * @return ResponseEntity<DebitResponseDTO> 처리 결과를 담은 베팅 응답 DTO
      */
     @PostMapping("/debit")
-    public ResponseEntity<DebitResponseDTO> processDebit(@RequestBody DebitRequestDTO debitRequestDTO,
-                                                         @RequestHeader("secret-key") String secretHeader,
-                                                         HttpServletRequest request) {
-        DebitResponseDTO response = debitService.calledDebit(debitRequestDTO, secretHeader, request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<DebitResponseDTO>> processDebit(@RequestBody DebitRequestDTO debitRequestDTO,
+                                                                            @RequestHeader("secret-key") String secretHeader,
+                                                                            HttpServletRequest request) {
+        return kplayCallbackBulkhead.submit("debit", () -> debitService.calledDebit(debitRequestDTO, secretHeader, request));
     }
 
     /**
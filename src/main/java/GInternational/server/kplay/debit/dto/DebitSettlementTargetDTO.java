@@ -0,0 +1,21 @@
+package GInternational.server.kplay.debit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미처리 결과 일괄 정산 대상 (베팅 내역 + 유저/지갑 + 기존 당첨 내역 존재 여부)
+ */
+@Getter
+@AllArgsConstructor
+public class DebitSettlementTargetDTO {
+
+    private Long debitId;
+    private String txnId;
+    private int aasId;
+    private int prdId;
+    private String tableId;
+    private Long userId;       // 유저가 없으면 null
+    private Long walletId;     // 지갑이 없으면 null
+    private boolean credited;  // 이미 당첨 내역이 있으면 true
+}
@@ -1,18 +1,36 @@
 package GInternational.server.kplay.debit.repository;
 
+import GInternational.server.kplay.debit.dto.DebitSettlementTargetDTO;
 import GInternational.server.kplay.debit.entity.Debit;
 import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DebitCustomRepository {
     List<Debit> findDataWithNOMatchingTxnId();
 
+    /**
+     * 당첨 내역이 없는 베팅을 debit_id 순으로 limit 건 조회 (afterId 다음부터, 전체 조회 대신 페이지 단위로 읽는다)
+     */
+    List<Debit> findDataWithNOMatchingTxnId(long afterId, int limit);
+
+    /**
+     * txn_id 목록에 해당하는 베팅, 유저, 지갑, 당첨 내역 여부를 한 번에 조회 (없는 txn_id 는 결과에서 빠진다)
+     */
+    List<DebitSettlementTargetDTO> findSettlementTargets(Collection<String> txnIds);
+
     Page<Debit> findByUserId(int userId, Pageable pageable);
 
     Page<Tuple> findByUserIdWithCreditAmount(int userId, String type, Pageable pageable);
 
     Page<Tuple> findByUserIdWithCreditAmount(String type, Pageable pageable);
+
+    /**
+     * txn_id 가 아직 없을 때만 베팅 내역을 기록 (txn_id 유니크 인덱스로 중복 콜백을 걸러낸다)
+     * @return 새로 기록했으면 true, 같은 txn_id 가 이미 있으면 false
+     */
+    boolean insertIfAbsent(Debit debit);
 }
@@ -15,6 +15,8 @@ public interface DebitRepository extends JpaRepository<Debit, Long>, JpaSpecific
 
     Optional<Debit> findByTxnId(String txnId);
 
+    boolean existsByTxnId(String txnId);
+
     List<Debit> findAll();
 
     @Query("SELECT d FROM debit d WHERE d.user_id = :aasId")
@@ -1,18 +1,22 @@
 package GInternational.server.kplay.debit.repository;
 
+import GInternational.server.kplay.debit.dto.DebitSettlementTargetDTO;
 import GInternational.server.kplay.debit.entity.Debit;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static GInternational.server.kplay.credit.entity.QCredit.credit;
@@ -23,11 +27,29 @@ import static GInternational.server.api.entity.QUser.user;
 
 @Repository
 @Primary
-@RequiredArgsConstructor
 public class DebitRepositoryImpl implements DebitCustomRepository {
 
+    // 같은 txn_id 가 이미 있으면 기록되지 않고 affected rows 가 0 이 된다
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT IGNORE INTO debit (aas_id, amount, credit_amount, prd_id, txn_id, game_id, table_id, remain_amount, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SETTLEMENT_TARGET_SQL =
+            "SELECT d.debit_id, d.txn_id, d.aas_id, d.prd_id, d.table_id, u.user_id, w.wallet_id, c.credit_id " +
+            "FROM debit d " +
+            "LEFT JOIN users u ON u.aas_id = d.aas_id " +
+            "LEFT JOIN wallet w ON w.user_id = u.user_id " +
+            "LEFT JOIN credit c ON c.debit_id = d.debit_id " +
+            "WHERE d.txn_id IN ";
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public DebitRepositoryImpl(JPAQueryFactory queryFactory, @Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
 
     @Override
     public List<Debit> findDataWithNOMatchingTxnId() {
@@ -39,6 +61,37 @@ public class DebitRepositoryImpl implements DebitCustomRepository {
                 .fetch();
     }
 
+    @Override
+    public List<Debit> findDataWithNOMatchingTxnId(long afterId, int limit) {
+        return queryFactory
+                .selectFrom(debit)
+                .leftJoin(debit.credit, credit)
+                .on(debit.txnId.eq(credit.txnId))
+                .where(credit.id.isNull(), debit.id.gt(afterId))
+                .orderBy(debit.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<DebitSettlementTargetDTO> findSettlementTargets(Collection<String> txnIds) {
+        if (txnIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = "(" + String.join(",", Collections.nCopies(txnIds.size(), "?")) + ")";
+        return jdbcTemplate.query(SELECT_SETTLEMENT_TARGET_SQL + placeholders,
+                (rs, rowNum) -> new DebitSettlementTargetDTO(
+                        rs.getLong("debit_id"),
+                        rs.getString("txn_id"),
+                        rs.getInt("aas_id"),
+                        rs.getInt("prd_id"),
+                        rs.getString("table_id"),
+                        rs.getObject("user_id", Long.class),
+                        rs.getObject("wallet_id", Long.class),
+                        rs.getObject("credit_id") != null),
+                txnIds.toArray());
+    }
+
     @Override
     public Page<Debit> findByUserId(int userId, Pageable pageable) {
         List<Debit> result = queryFactory.select(debit)
@@ -133,6 +186,22 @@ public class DebitRepositoryImpl implements DebitCustomRepository {
 
         return new PageImpl<>(results, pageable, totalElements);
     }
+
+    @Override
+    public boolean insertIfAbsent(Debit debit) {
+        Timestamp createdAt = Timestamp.valueOf(debit.getCreatedAt());
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+                debit.getUser_id(),
+                debit.getAmount(),
+                debit.getCredit_amount(),
+                debit.getPrd_id(),
+                debit.getTxnId(),
+                debit.getGame_id(),
+                debit.getTable_id(),
+                debit.getRemainAmount(),
+                createdAt,
+                createdAt) == 1;
+    }
 }
 
 
@@ -0,0 +1,24 @@
+package GInternational.server.kplay.debit.service;
+
+import GInternational.server.api.vo.ExpRecordEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 베팅 차감(debit) 커밋 이후 처리할 부가 작업 정보 (마지막 베팅 시간, 베팅 참여 통계, 베팅 경험치)
+ */
+@Getter
+@AllArgsConstructor
+public class DebitPlacedEvent {
+    private final Long userId;
+    private final int aasId;
+    private final String username;
+    private final String nickname;
+    private final String role;
+    private final LocalDateTime betTime;
+    private final ExpRecordEnum expContent;
+    private final long exp;
+    private final String clientIp;
+}
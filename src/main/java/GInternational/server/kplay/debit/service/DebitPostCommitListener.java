@@ -0,0 +1,54 @@
+package GInternational.server.kplay.debit.service;
+
+import GInternational.server.api.repository.UserRepository;
+import GInternational.server.api.service.ExpRecordService;
+import GInternational.server.api.service.LoginStatisticService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 베팅 차감 부가 처리
+ * 잔액 차감이 커밋된 뒤 postCommitExecutor 에서 실행되므로 게임사 콜백 응답 시간에 포함되지 않는다.
+ * 각 작업은 자기 트랜잭션으로 처리되며, 실패해도 이미 커밋된 차감에는 영향이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DebitPostCommitListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DebitPostCommitListener.class);
+
+    private final UserRepository userRepository;
+    private final LoginStatisticService loginStatisticService;
+    private final ExpRecordService expRecordService;
+
+
+    @Async("postCommitExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDebitPlaced(DebitPlacedEvent event) {
+        try {
+            userRepository.updateLastBetTime(event.getUserId(), event.getBetTime());
+        } catch (RuntimeException e) {
+            logger.error("Failed to update last bet time: user {}", event.getUserId(), e);
+        }
+
+        if ("ROLE_USER".equals(event.getRole())) {
+            try {
+                loginStatisticService.recordDebitParticipant(event.getAasId());
+            } catch (RuntimeException e) {
+                logger.error("Failed to record debit participant: aasId {}", event.getAasId(), e);
+            }
+        }
+
+        try {
+            expRecordService.recordDailyExp(event.getUserId(), event.getUsername(), event.getNickname(),
+                    event.getExp(), event.getClientIp(), event.getExpContent());
+        } catch (RuntimeException e) {
+            logger.error("Failed to record betting exp: user {}", event.getUserId(), e);
+        }
+    }
+}
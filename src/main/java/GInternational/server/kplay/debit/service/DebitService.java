@@ -1,11 +1,9 @@
 package GInternational.server.kplay.debit.service;
 
-import GInternational.server.api.service.ExpRecordService;
+import GInternational.server.api.dto.AasUserDTO;
+import GInternational.server.api.dto.MoneyLogEntryDTO;
 import GInternational.server.api.vo.ExpRecordEnum;
-import GInternational.server.common.exception.ExceptionCode;
-import GInternational.server.common.exception.RestControllerException;
-import GInternational.server.api.entity.Wallet;
-import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.service.WalletMutationService;
 import GInternational.server.kplay.debit.dto.DebitAmazonResponseDTO;
 import GInternational.server.kplay.debit.dto.DebitRequestDTO;
 import GInternational.server.kplay.debit.dto.DebitResponseDTO;
@@ -13,20 +11,24 @@ import GInternational.server.kplay.debit.dto.DebitUserResponseDTO;
 import GInternational.server.kplay.debit.entity.Debit;
 import GInternational.server.kplay.debit.mapper.DebitListMapper;
 import GInternational.server.kplay.debit.repository.DebitRepository;
-import GInternational.server.api.service.LoginStatisticService;
-import GInternational.server.api.service.MoneyLogService;
 import GInternational.server.api.vo.MoneyLogCategoryEnum;
 import GInternational.server.security.auth.PrincipalDetails;
-import GInternational.server.api.entity.User;
-import GInternational.server.api.repository.UserRepository;
+import GInternational.server.api.service.AasUserCache;
+import GInternational.server.api.service.MoneyLogQueue;
+import GInternational.server.api.service.TxnIdIndex;
+import GInternational.server.api.service.TxnIdIndex.TxnType;
 import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,126 +41,118 @@ import static GInternational.server.api.entity.QUser.user;
 @RequiredArgsConstructor
 @Transactional(value = "clientServerTransactionManager")
 public class DebitService {
-    private final WalletRepository walletRepository;
-    private final UserRepository userRepository;
+    private final WalletMutationService walletMutationService;
+    private final AasUserCache aasUserCache;
     private final DebitRepository debitRepository;
     private final DebitListMapper debitListMapper;
-    private final LoginStatisticService loginStatisticService;
-    private final MoneyLogService moneyLogService;
-    private final ExpRecordService expRecordService;
+    private final MoneyLogQueue moneyLogQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TxnIdIndex txnIdIndex;
 
     @Value("${secret.secret-key}")
     private String secretKey;
 
     /**
      * 사용자의 베팅 요청을 처리하고 결과를 반환.
+     * 게임사 동기 콜백이므로 임계 구간은 유저 조회, 조건부 잔액 차감, 베팅 내역 기록, 머니로그 배치 기록만 수행한다.
+     * 최근 처리된 txn_id 의 재시도는 {@link TxnIdIndex} 에서 차감 전에 거절하고, 그 외의 중복 txn_id 는
+     * debit 의 txn_id 유니크 인덱스로 걸러내며, 중복이면 차감까지 롤백한다.
+     * 마지막 베팅 시간, 베팅 참여 통계, 경험치는 커밋 이후 {@link DebitPostCommitListener} 에서 비동기로 처리한다.
      *
      * @param debitRequestDTO 베팅 요청 데이터를 담은 DTO
      * @param secretHeader 요청 헤더에 포함된 비밀 키
      * @return DebitResponseDTO 베팅 처리 결과
      */
     public DebitResponseDTO calledDebit(DebitRequestDTO debitRequestDTO, String secretHeader, HttpServletRequest request) {
-        int status = (secretHeader.equals(secretKey)) ? 1 : 0;
-
-        String clientIp = request.getRemoteAddr();
-
-        if (status == 1) {
-            User user = userRepository.findByAasId(debitRequestDTO.getUser_id()).orElse(null);
-            Debit existingDebit = debitRepository.findByTxnId(debitRequestDTO.getTxn_id()).orElse(null);
-            Wallet wallet;
-
-            if (user == null) {
-                return DebitResponseDTO.createFailureResponse("INVALID_USER");
-            } else if (user.getWallet().getCasinoBalance() < debitRequestDTO.getAmount()) {
-                return DebitResponseDTO.createFailureResponse("INSUFFICIENT_FUNDS");
-            } else if (existingDebit != null && existingDebit.getTxnId().equals(debitRequestDTO.getTxn_id())) {
-                return DebitResponseDTO.createFailureResponse("DUPLICATE_DEBIT");
-            } else {
-                wallet = walletRepository.findById(user.getWallet().getId()).orElseThrow
-                        (() -> new RestControllerException(ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
-            }
-            Long usedAmount = -(long) debitRequestDTO.getAmount();
-
-            String bettingCategory = getBettingCategory(debitRequestDTO.getPrd_id());
-            String description = debitRequestDTO.getGame_id() + "(" + bettingCategory + ")";
-
-            long newWalletCasinoBalance = user.getWallet().getCasinoBalance() - debitRequestDTO.getAmount();
-            moneyLogService.recordMoneyUsage(user.getId(), usedAmount, newWalletCasinoBalance, MoneyLogCategoryEnum.베팅차감, description);
-
-            if (debitRequestDTO.getCredit_amount() != 0) {
-                newWalletCasinoBalance += debitRequestDTO.getCredit_amount();
-                moneyLogService.recordMoneyUsage(user.getId(), (long) debitRequestDTO.getCredit_amount(), newWalletCasinoBalance, MoneyLogCategoryEnum.당첨, description);
-            }
-
-            Debit savedDebit = Debit.builder()
-                    .user_id(debitRequestDTO.getUser_id())
-                    .prd_id(debitRequestDTO.getPrd_id())
-                    .game_id(debitRequestDTO.getGame_id())
-                    .table_id(debitRequestDTO.getTable_id())
-                    .amount(debitRequestDTO.getAmount())
-                    .txnId(debitRequestDTO.getTxn_id())
-                    .credit_amount(debitRequestDTO.getCredit_amount())
-                    .remainAmount(newWalletCasinoBalance)
-                    .build();
-            debitRepository.save(savedDebit);
-
-            user.getWallet().setCasinoBalance(newWalletCasinoBalance);
-            long currentAccumulatedCasinoBet = user.getWallet().getAccumulatedCasinoBet();
-            long currentAccumulatedSlotBet = user.getWallet().getAccumulatedSlotBet();
-            if (bettingCategory.equals("카지노")) {
-                user.getWallet().setAccumulatedCasinoBet(currentAccumulatedCasinoBet + debitRequestDTO.getAmount());
-            } else if (bettingCategory.equals("슬롯")) {
-                user.getWallet().setAccumulatedSlotBet(currentAccumulatedSlotBet + debitRequestDTO.getAmount());
-            }
-            user.setLastBetTime(savedDebit.getCreatedAt());
-            walletRepository.save(user.getWallet());
-            userRepository.save(user);
-
-            if ("ROLE_USER".equals(user.getRole())) {
-                loginStatisticService.recordDebitParticipant(debitRequestDTO.getUser_id());
-            }
-
-            if (debitRequestDTO.getPrd_id() >= 1 && debitRequestDTO.getPrd_id() <= 99) {
-                expRecordService.recordDailyExp(user.getId(), user.getUsername(), user.getNickname(), 5, clientIp, ExpRecordEnum.카지노베팅경험치);
-            } else if (debitRequestDTO.getPrd_id() >= 101 && debitRequestDTO.getPrd_id() <= 199) {
-                expRecordService.recordDailyExp(user.getId(),user.getUsername(),user.getNickname(),10,clientIp, ExpRecordEnum.케이플레이스포츠베팅경험치);
-            } else if (debitRequestDTO.getPrd_id() >= 200 && debitRequestDTO.getPrd_id() <= 299) {
-                expRecordService.recordDailyExp(user.getId(), user.getUsername(), user.getNickname(), 1, clientIp, ExpRecordEnum.슬롯베팅경험치);
-            } else if (debitRequestDTO.getPrd_id() == 10002 || debitRequestDTO.getPrd_id() == 10003 || debitRequestDTO.getPrd_id() == 300 || debitRequestDTO.getPrd_id() == 301) {
-                expRecordService.recordDailyExp(user.getId(), user.getUsername(), user.getNickname(), 5, clientIp, ExpRecordEnum.아케이드베팅경험치);
-            } else {
-                return DebitResponseDTO.createFailureResponse("INVALID_PRD_ID");
-            }
-
-            String error = getErrorMessage(status, user, secretHeader);
-            if (status == 1) {
-                return new DebitResponseDTO(status, wallet.getCasinoBalance());
-            } else {
-                return DebitResponseDTO.createFailureResponse(error);
-            }
+        if (!secretHeader.equals(secretKey)) {
+            return DebitResponseDTO.createFailureResponse("ACCESS_DENIED");
         }
-        return DebitResponseDTO.createFailureResponse("ACCESS_DENIED");
+
+        AasUserDTO user = aasUserCache.get(debitRequestDTO.getUser_id()).orElse(null);
+        if (user == null) {
+            return DebitResponseDTO.createFailureResponse("INVALID_USER");
+        }
+
+        if (txnIdIndex.isDuplicate(TxnType.DEBIT, debitRequestDTO.getTxn_id(), debitRepository::existsByTxnId)) {
+            return DebitResponseDTO.createFailureResponse("DUPLICATE_DEBIT");
+        }
+
+        // 경험치 대상이 아닌 제품은 차감하기 전에 거절한다
+        ExpRecordEnum expContent = getExpContent(debitRequestDTO.getPrd_id());
+        if (expContent == null) {
+            return DebitResponseDTO.createFailureResponse("INVALID_PRD_ID");
+        }
+
+        String bettingCategory = getBettingCategory(debitRequestDTO.getPrd_id());
+        long amount = debitRequestDTO.getAmount();
+        long creditAmount = debitRequestDTO.getCredit_amount();
+
+        Long newWalletCasinoBalance = walletMutationService.debitCasino(user.getUserId(), amount, creditAmount,
+                bettingCategory.equals("카지노") ? amount : 0,
+                bettingCategory.equals("슬롯") ? amount : 0);
+        if (newWalletCasinoBalance == null) {
+            return DebitResponseDTO.createFailureResponse("INSUFFICIENT_FUNDS");
+        }
+
+        LocalDateTime betTime = LocalDateTime.now();
+        Debit debit = Debit.builder()
+                .user_id(debitRequestDTO.getUser_id())
+                .prd_id(debitRequestDTO.getPrd_id())
+                .game_id(debitRequestDTO.getGame_id())
+                .table_id(debitRequestDTO.getTable_id())
+                .amount(debitRequestDTO.getAmount())
+                .txnId(debitRequestDTO.getTxn_id())
+                .credit_amount(debitRequestDTO.getCredit_amount())
+                .remainAmount(newWalletCasinoBalance)
+                .build();
+        debit.setCreatedAt(betTime);
+        if (!debitRepository.insertIfAbsent(debit)) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            txnIdIndex.recordDuplicate(TxnType.DEBIT, debit.getTxnId());
+            return DebitResponseDTO.createFailureResponse("DUPLICATE_DEBIT");
+        }
+        txnIdIndex.recordAfterCommit(TxnType.DEBIT, debit.getTxnId());
+
+        String description = debitRequestDTO.getGame_id() + "(" + bettingCategory + ")";
+        List<MoneyLogEntryDTO> moneyLogs = new ArrayList<>(2);
+        moneyLogs.add(new MoneyLogEntryDTO(user.getUserId(), user.getUsername(), user.getNickname(),
+                -amount, newWalletCasinoBalance - creditAmount, MoneyLogCategoryEnum.베팅차감, description));
+        if (creditAmount != 0) {
+            moneyLogs.add(new MoneyLogEntryDTO(user.getUserId(), user.getUsername(), user.getNickname(),
+                    creditAmount, newWalletCasinoBalance, MoneyLogCategoryEnum.당첨, description));
+        }
+        moneyLogQueue.enqueue(moneyLogs);
+
+        eventPublisher.publishEvent(new DebitPlacedEvent(user.getUserId(), debitRequestDTO.getUser_id(),
+                user.getUsername(), user.getNickname(), user.getRole(), betTime,
+                expContent, getBettingExp(expContent), request.getRemoteAddr()));
+
+        return new DebitResponseDTO(1, newWalletCasinoBalance);
     }
 
     /**
-     * 오류 상황에 따른 메시지를 반환.
+     * prd_id에 따라 베팅 경험치 항목을 결정합니다.
      *
-     * @param status 처리 상태 코드
-     * @param user 요청한 사용자
-     * @param secretHeader 요청 헤더에 포함된 비밀 키
-     * @return String 오류 메시지
+     * @param prdId 제품 ID
+     * @return 경험치 항목, 경험치 대상이 아닌 제품이면 null
      */
-    private String getErrorMessage(int status, User user, String secretHeader) {
-        if (status == 0) {
-            if (user == null) {
-                return "INVALID_USER";
-            } else if (!secretHeader.equals(secretKey)) {
-                return "ACCESS_DENIED";
-            } else {
-                return "UNKNOWN_ERROR";
-            }
+    private ExpRecordEnum getExpContent(int prdId) {
+        if (prdId >= 1 && prdId <= 99) return ExpRecordEnum.카지노베팅경험치;
+        else if (prdId >= 101 && prdId <= 199) return ExpRecordEnum.케이플레이스포츠베팅경험치;
+        else if (prdId >= 200 && prdId <= 299) return ExpRecordEnum.슬롯베팅경험치;
+        else if (prdId == 10002 || prdId == 10003 || prdId == 300 || prdId == 301) return ExpRecordEnum.아케이드베팅경험치;
+        else return null;
+    }
+
+    private long getBettingExp(ExpRecordEnum expContent) {
+        switch (expContent) {
+            case 케이플레이스포츠베팅경험치:
+                return 10;
+            case 슬롯베팅경험치:
+                return 1;
+            default:
+                return 5;
         }
-        return null;
     }
 
     /**
@@ -14,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -41,15 +42,21 @@ public class GameController {
      * @param prdId 제품 ID
      * @param page 페이지 번호
      * @param size 페이지당 항목 수
-     * @return ResponseEntity 페이지네이션된 게임 목록
+     * @param webRequest ETag 확인용 요청
+     * @return ResponseEntity 페이지네이션된 게임 목록 (게임 목록 버전이 If-None-Match 와 같으면 304)
      */
     @GetMapping("/{prdId}/game")
     public ResponseEntity searchByPrdGame(@PathVariable ("prdId") int prdId,
                                           @RequestParam int page,
-                                          @RequestParam int size) {
+                                          @RequestParam int size,
+                                          WebRequest webRequest) {
+        String etag = gameService.catalogVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Page<Game> pages = gameService.searchByPrdGame(prdId,page,size);
         List<Game> list = pages.getContent();
-        return new ResponseEntity<>(new MultiResponseDto<>(list,pages),HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(new MultiResponseDto<>(list,pages));
     }
 
     /**
@@ -58,16 +65,22 @@ public class GameController {
      * @param type 게임 유형
      * @param page 페이지 번호
      * @param size 페이지당 항목 수
-     * @return ResponseEntity 페이지네이션된 게임 목록
+     * @param webRequest ETag 확인용 요청
+     * @return ResponseEntity 페이지네이션된 게임 목록 (게임 목록 버전이 If-None-Match 와 같으면 304)
      */
     @GetMapping("/{type}/{gameCategory}/type/game")
     public ResponseEntity searchByTypeGame(@PathVariable ("type") String type,
                                            @PathVariable ("gameCategory") String gameCategory,
                                            @RequestParam int page,
-                                           @RequestParam int size) {
+                                           @RequestParam int size,
+                                           WebRequest webRequest) {
+        String etag = gameService.catalogVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Page<Game> pages = gameService.searchByGame(type,gameCategory,page,size);
         List<Game> list = pages.getContent();
-        return new ResponseEntity<>(new MultiResponseDto<>(list,pages),HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(new MultiResponseDto<>(list,pages));
     }
 
     /**
@@ -75,14 +88,20 @@ public class GameController {
      *
      * @param page 페이지 번호
      * @param size 페이지당 항목 수
-     * @return ResponseEntity 페이지네이션된 게임 목록
+     * @param webRequest ETag 확인용 요청
+     * @return ResponseEntity 페이지네이션된 게임 목록 (게임 목록 버전이 If-None-Match 와 같으면 304)
      */
     @GetMapping("/games")
     public ResponseEntity findAll(@RequestParam int page,
-                                  @RequestParam int size) {
+                                  @RequestParam int size,
+                                  WebRequest webRequest) {
+        String etag = gameService.catalogVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Page<Game> pages = gameService.searchByTypeNull(page ,size);
         List<Game> list = pages.getContent();
-        return new ResponseEntity<>(new MultiResponseDto<>(list,pages),HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(new MultiResponseDto<>(list,pages));
     }
 
     /**
@@ -116,5 +135,18 @@ public class GameController {
         List<FavoriteDTO> favoriteGames = gameService.findFavoriteGamesByUser(userId, principal);
         return ResponseEntity.ok(favoriteGames);
     }
-}
 
+    /**
+     * 지정된 유저의 즐겨찾기 게임 ID 목록 조회.
+     * 로비 목록(ETag 로 캐시되는 공용 응답)에 유저별 즐겨찾기 표시를 할 때 사용.
+     *
+     * @param userId 즐겨찾기 목록을 조회하고자 하는 유저의 ID
+     * @return ResponseEntity<long[]> 즐겨찾기 게임 ID 목록 (오름차순)
+     */
+    @GetMapping("/{userId}/favorites/ids")
+    public ResponseEntity<long[]> getFavoriteGameIds(@PathVariable Long userId,
+                                                     Authentication authentication) {
+        PrincipalDetails principal = (PrincipalDetails) authentication.getPrincipal();
+        return ResponseEntity.ok(gameService.findFavoriteGameIds(userId, principal));
+    }
+}
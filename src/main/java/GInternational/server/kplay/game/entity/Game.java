@@ -16,6 +16,8 @@ import java.util.List;
 @Getter
 @Setter
 @Entity(name = "game")
+@Table(name = "game", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_game_prd_id_game_index", columnNames = {"prd_id", "game_index"})})
 public class Game implements Serializable {
 
     @Id
@@ -13,6 +13,8 @@ import javax.persistence.*;
 @Getter
 @Setter
 @Entity(name = "favorite_game")
+@Table(name = "favorite_game", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_favorite_game_user_game", columnNames = {"user_id", "game_id"})})
 public class GameFavorite {
 
     @Id
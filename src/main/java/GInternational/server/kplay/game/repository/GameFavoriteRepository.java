@@ -8,7 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface GameFavoriteRepository extends JpaRepository<GameFavorite, Long> {
+public interface GameFavoriteRepository extends JpaRepository<GameFavorite, Long>, GameFavoriteRepositoryCustom {
     Optional<GameFavorite> findByUserAndGame(User user, Game game);
     List<GameFavorite> findAllByUser(User user);
 }
\ No newline at end of file
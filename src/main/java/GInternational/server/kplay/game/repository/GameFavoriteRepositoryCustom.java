@@ -0,0 +1,22 @@
+package GInternational.server.kplay.game.repository;
+
+public interface GameFavoriteRepositoryCustom {
+
+    /**
+     * 유저의 즐겨찾기 게임 ID (오름차순)
+     */
+    long[] findGameIds(Long userId);
+
+    /**
+     * 즐겨찾기 추가
+     * @throws org.springframework.dao.DuplicateKeyException 이미 즐겨찾기된 게임인 경우
+     * @throws org.springframework.dao.DataIntegrityViolationException 유저 또는 게임이 없는 경우
+     */
+    void insert(Long userId, Long gameId);
+
+    /**
+     * 즐겨찾기 삭제
+     * @return 삭제되었으면 true, 즐겨찾기된 게임이 아니면 false
+     */
+    boolean delete(Long userId, Long gameId);
+}
@@ -0,0 +1,43 @@
+package GInternational.server.kplay.game.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class GameFavoriteRepositoryImpl implements GameFavoriteRepositoryCustom {
+
+    private static final String SELECT_GAME_IDS_SQL = "SELECT game_id FROM favorite_game WHERE user_id = ? ORDER BY game_id";
+    private static final String INSERT_SQL = "INSERT INTO favorite_game (user_id, game_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM favorite_game WHERE user_id = ? AND game_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public GameFavoriteRepositoryImpl(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public long[] findGameIds(Long userId) {
+        List<Long> gameIds = jdbcTemplate.queryForList(SELECT_GAME_IDS_SQL, Long.class, userId);
+        long[] ids = new long[gameIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = gameIds.get(i);
+        }
+        return ids;
+    }
+
+
+    @Override
+    public void insert(Long userId, Long gameId) {
+        jdbcTemplate.update(INSERT_SQL, userId, gameId);
+    }
+
+
+    @Override
+    public boolean delete(Long userId, Long gameId) {
+        return jdbcTemplate.update(DELETE_SQL, userId, gameId) > 0;
+    }
+}
@@ -4,10 +4,19 @@ import GInternational.server.kplay.game.entity.Game;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface GameRepositoryCustom{
 
 
     Page<Game> searchByPrdGame(int prdId, Pageable pageable);
     Page<Game> searchByType(String type,String gameCategory, Pageable pageable);
     Page<Game> searchByNullCondition(Pageable pageable);
+
+    /**
+     * 게임 목록 일괄 저장 (prd_id, game_index 기준으로 있으면 갱신, 없으면 추가)
+     * 한 번의 배치 INSERT ... ON DUPLICATE KEY UPDATE 로 처리한다.
+     * @return 추가되거나 내용이 바뀐 게임 수
+     */
+    int upsertAll(List<Game> games);
 }
@@ -2,22 +2,34 @@ package GInternational.server.kplay.game.repository;
 
 import GInternational.server.kplay.game.entity.Game;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.PreparedStatement;
 import java.util.List;
 
 import static GInternational.server.kplay.game.entity.QGame.game;
 
-@RequiredArgsConstructor
 public class GameRepositoryImpl implements GameRepositoryCustom{
 
+    private static final String UPSERT_SQL =
+            "INSERT INTO game (prd_id, game_index, name, icon, rtp, type, is_enabled, gameCategory) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), icon = VALUES(icon), rtp = VALUES(rtp), type = VALUES(type), " +
+            "is_enabled = VALUES(is_enabled), gameCategory = VALUES(gameCategory)";
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public GameRepositoryImpl(JPAQueryFactory queryFactory, @Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
 
     @Override
     public Page<Game> searchByPrdGame(int prdId, Pageable pageable) {
@@ -69,4 +81,30 @@ public class GameRepositoryImpl implements GameRepositoryCustom{
 
         return new PageImpl<>(findAll, pageable,totalElements);
     }
+
+    @Override
+    public int upsertAll(List<Game> games) {
+        if (games.isEmpty()) {
+            return 0;
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(UPSERT_SQL, games, games.size(),
+                (PreparedStatement ps, Game item) -> {
+                    ps.setInt(1, item.getPrdId());
+                    ps.setInt(2, item.getGameIndex());
+                    ps.setString(3, item.getName());
+                    ps.setString(4, item.getIcon());
+                    ps.setString(5, item.getRtp());
+                    ps.setString(6, item.getType());
+                    ps.setInt(7, item.getIsEnabled());
+                    ps.setString(8, item.getGameCategory() == null ? "S" : item.getGameCategory());
+                });
+        int upserted = 0;
+        for (int count : updated[0]) {
+            // 변경 없는 갱신은 0, 추가는 1, 갱신은 2 (드라이버 설정에 따라 SUCCESS_NO_INFO)
+            if (count != 0) {
+                upserted++;
+            }
+        }
+        return upserted;
+    }
 }
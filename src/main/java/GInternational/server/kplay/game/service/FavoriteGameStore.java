@@ -0,0 +1,143 @@
+package GInternational.server.kplay.game.service;
+
+import GInternational.server.kplay.game.repository.GameFavoriteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 유저별 즐겨찾기 게임 ID 캐시
+ * 유저당 정렬된 long[] 하나로 보관하므로 로비에서 즐겨찾기 여부는 이진 탐색 한 번으로 확인하고 favorite_game 을 조인하지 않는다.
+ *
+ * 토글은 favorite_game 에 INSERT 또는 DELETE 한 번으로 반영하고(write-through), 커밋 후 캐시된 배열을 새 배열로 교체한다.
+ * 배열은 교체만 하고 수정하지 않으므로 조회 쪽은 잠금 없이 읽는다.
+ * 다른 서버에서 바뀐 즐겨찾기는 expire-minutes 가 지나면 다시 조회된다.
+ */
+@Component
+public class FavoriteGameStore {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final GameFavoriteRepository gameFavoriteRepository;
+    private final Cache<Long, long[]> cache;
+
+
+    public FavoriteGameStore(GameFavoriteRepository gameFavoriteRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${kplay.favorite-cache.maximum-size:100000}") long maximumSize,
+                             @Value("${kplay.favorite-cache.expire-minutes:10}") long expireMinutes) {
+        this.gameFavoriteRepository = gameFavoriteRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kplay.favorite");
+    }
+
+
+    /**
+     * @return 즐겨찾기 게임 ID (오름차순, 수정하지 말 것)
+     */
+    public long[] get(Long userId) {
+        return cache.get(userId, gameFavoriteRepository::findGameIds);
+    }
+
+
+    public boolean contains(Long userId, long gameId) {
+        return Arrays.binarySearch(get(userId), gameId) >= 0;
+    }
+
+
+    /**
+     * 즐겨찾기 토글
+     * 캐시 기준으로 추가/삭제를 먼저 시도하고, 캐시가 DB 와 달랐으면(다른 서버에서 변경) 반대 동작으로 바로잡는다.
+     * @return 토글 후 즐겨찾기 여부
+     * @throws org.springframework.dao.DataIntegrityViolationException 유저 또는 게임이 없는 경우
+     */
+    public boolean toggle(Long userId, long gameId) {
+        boolean favorite;
+        if (contains(userId, gameId)) {
+            favorite = !gameFavoriteRepository.delete(userId, gameId);
+            if (favorite) {
+                // 캐시에는 있었지만 이미 삭제된 경우 -> 추가
+                gameFavoriteRepository.insert(userId, gameId);
+            }
+        } else {
+            try {
+                gameFavoriteRepository.insert(userId, gameId);
+                favorite = true;
+            } catch (DuplicateKeyException e) {
+                // 캐시에는 없었지만 이미 있던 경우 -> 삭제
+                gameFavoriteRepository.delete(userId, gameId);
+                favorite = false;
+            }
+        }
+        updateAfterCommit(userId, gameId, favorite);
+        return favorite;
+    }
+
+
+    private void updateAfterCommit(Long userId, long gameId, boolean favorite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, gameId, favorite);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, gameId, favorite);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    cache.invalidate(userId);
+                }
+            }
+        });
+    }
+
+
+    private void update(Long userId, long gameId, boolean favorite) {
+        cache.asMap().computeIfPresent(userId, (key, ids) -> favorite ? add(ids, gameId) : remove(ids, gameId));
+    }
+
+
+    private static long[] add(long[] ids, long gameId) {
+        int index = Arrays.binarySearch(ids, gameId);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = gameId;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+
+    private static long[] remove(long[] ids, long gameId) {
+        int index = Arrays.binarySearch(ids, gameId);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,196 @@
+package GInternational.server.kplay.game.service;
+
+import GInternational.server.kplay.game.entity.Game;
+import GInternational.server.kplay.game.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 카지노 게임 목록 메모리 인덱스
+ * 게임 목록은 게임사 목록 갱신(/gamelist) 때만 바뀌므로, 사용 가능한 게임 전체를 메모리에 두고 prd_id / type / gameCategory 별 목록을
+ * 미리 만들어 로비 목록 조회를 DB 조회 없이 처리한다.
+ *
+ * 이 서버에서 목록을 갱신하면 커밋 후 바로 다시 적재하고, 다른 서버에서 갱신한 경우를 위해 refresh-ms 마다 다시 적재한다.
+ * version 은 게임 목록 내용의 해시라 서버가 달라도 같은 목록이면 같은 값이며, 로비 목록 응답의 ETag 로 사용한다.
+ */
+@Component
+public class GameCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameCatalog.class);
+
+    private static final Comparator<Game> ID_DESC = Comparator.comparing(Game::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final GameRepository gameRepository;
+
+    private volatile Snapshot snapshot;
+
+
+    public GameCatalog(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+    }
+
+
+    /**
+     * @return 현재 목록 버전 (ETag 값)
+     */
+    public String version() {
+        return current().version;
+    }
+
+
+    public Page<Game> findByPrdId(int prdId, int page, int size) {
+        return page(current().byPrdId.getOrDefault(prdId, Collections.emptyList()), page, size);
+    }
+
+
+    /**
+     * type 이 같거나 gameCategory 가 같은 게임 (기존 검색 조건과 동일)
+     */
+    public Page<Game> findByTypeOrCategory(String type, String gameCategory, int page, int size) {
+        Snapshot current = current();
+        List<Game> byType = current.byType.getOrDefault(type, Collections.emptyList());
+        List<Game> byCategory = current.byCategory.getOrDefault(gameCategory, Collections.emptyList());
+        if (byCategory.isEmpty()) {
+            return page(byType, page, size);
+        }
+        if (byType.isEmpty()) {
+            return page(byCategory, page, size);
+        }
+        Set<Game> merged = new TreeSet<>(ID_DESC);
+        merged.addAll(byType);
+        merged.addAll(byCategory);
+        return page(new ArrayList<>(merged), page, size);
+    }
+
+
+    public Page<Game> findAll(int page, int size) {
+        return page(current().enabled, page, size);
+    }
+
+
+    /**
+     * @return 사용 가능한 게임, 없거나 사용 중지된 게임이면 null
+     */
+    public Game get(long gameId) {
+        return current().byId.get(gameId);
+    }
+
+
+    /**
+     * 현재 트랜잭션이 커밋되면 다시 적재한다 (트랜잭션 밖이면 바로 적재)
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+
+    @Scheduled(fixedDelayString = "${kplay.game-catalog.refresh-ms:300000}")
+    public void reload() {
+        long started = System.currentTimeMillis();
+        Snapshot loaded = Snapshot.of(gameRepository.findAll());
+        Snapshot previous = snapshot;
+        snapshot = loaded;
+        if (previous == null || !previous.version.equals(loaded.version)) {
+            logger.info("Game catalog loaded: {} enabled games, version {} in {} ms",
+                    loaded.enabled.size(), loaded.version, System.currentTimeMillis() - started);
+        }
+    }
+
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+
+    private static Page<Game> page(List<Game> games, int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("id").descending());
+        int from = (int) Math.min(pageable.getOffset(), games.size());
+        int to = Math.min(from + size, games.size());
+        return new PageImpl<>(games.subList(from, to), pageable, games.size());
+    }
+
+
+    /**
+     * 적재 시점의 목록 (교체만 하고 수정하지 않는다)
+     */
+    private static final class Snapshot {
+
+        private final String version;
+        private final List<Game> enabled;
+        private final Map<Long, Game> byId;
+        private final Map<Integer, List<Game>> byPrdId;
+        private final Map<String, List<Game>> byType;
+        private final Map<String, List<Game>> byCategory;
+
+
+        private Snapshot(String version, List<Game> enabled, Map<Long, Game> byId, Map<Integer, List<Game>> byPrdId,
+                         Map<String, List<Game>> byType, Map<String, List<Game>> byCategory) {
+            this.version = version;
+            this.enabled = enabled;
+            this.byId = byId;
+            this.byPrdId = byPrdId;
+            this.byType = byType;
+            this.byCategory = byCategory;
+        }
+
+
+        static Snapshot of(List<Game> games) {
+            List<Game> enabled = new ArrayList<>(games.size());
+            for (Game game : games) {
+                if (game.getIsEnabled() == 1) {
+                    enabled.add(game);
+                }
+            }
+            enabled.sort(ID_DESC);
+
+            Map<Long, Game> byId = new HashMap<>();
+            Map<Integer, List<Game>> byPrdId = new HashMap<>();
+            Map<String, List<Game>> byType = new HashMap<>();
+            Map<String, List<Game>> byCategory = new HashMap<>();
+            long hash = 1125899906842597L;
+            for (Game game : enabled) {
+                byId.put(game.getId(), game);
+                byPrdId.computeIfAbsent(game.getPrdId(), key -> new ArrayList<>()).add(game);
+                if (game.getType() != null) {
+                    byType.computeIfAbsent(game.getType(), key -> new ArrayList<>()).add(game);
+                }
+                if (game.getGameCategory() != null) {
+                    byCategory.computeIfAbsent(game.getGameCategory(), key -> new ArrayList<>()).add(game);
+                }
+                hash = 31 * hash + Objects.hash(game.getId(), game.getPrdId(), game.getGameIndex(), game.getName(),
+                        game.getIcon(), game.getRtp(), game.getType(), game.getGameCategory());
+            }
+            String version = Long.toHexString(hash) + "-" + enabled.size();
+            return new Snapshot(version, Collections.unmodifiableList(enabled), byId, byPrdId, byType, byCategory);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package GInternational.server.kplay.game.service;
 
-import GInternational.server.api.entity.User;
 import GInternational.server.api.repository.UserRepository;
 import GInternational.server.common.exception.ExceptionCode;
 import GInternational.server.common.exception.RestControllerException;
@@ -8,44 +7,64 @@ import GInternational.server.kplay.game.dto.list.ApiResponseDTO;
 import GInternational.server.kplay.game.dto.list.FavoriteDTO;
 import GInternational.server.kplay.game.dto.list.GameInfoDTO;
 import GInternational.server.kplay.game.dto.list.RequestInfoList;
-import GInternational.server.kplay.game.entity.GameFavorite;
 import GInternational.server.kplay.game.entity.Game;
 import GInternational.server.kplay.game.entity.MegaGame;
 import GInternational.server.kplay.game.repository.GameFavoriteRepository;
 import GInternational.server.kplay.game.repository.GameRepository;
 import GInternational.server.security.auth.PrincipalDetails;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(value = "clientServerTransactionManager")
 public class GameService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GameService.class);
+
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
     private final GameFavoriteRepository gameFavoriteRepository;
+    private final GameCatalog gameCatalog;
+    private final FavoriteGameStore favoriteGameStore;
+    private final int upsertBatchSize;
+
+
+    public GameService(GameRepository gameRepository,
+                       UserRepository userRepository,
+                       GameFavoriteRepository gameFavoriteRepository,
+                       GameCatalog gameCatalog,
+                       FavoriteGameStore favoriteGameStore,
+                       @Value("${kplay.game-catalog.batch-size:500}") int upsertBatchSize) {
+        this.gameRepository = gameRepository;
+        this.userRepository = userRepository;
+        this.gameFavoriteRepository = gameFavoriteRepository;
+        this.gameCatalog = gameCatalog;
+        this.favoriteGameStore = favoriteGameStore;
+        this.upsertBatchSize = upsertBatchSize;
+    }
 
     /**
      * 제공된 게임 목록 정보를 기반으로 게임 데이터를 처리하고 API 응답을 생성.
+     * 게임은 batch-size 단위 배치 upsert (prd_id, game_index 기준) 로 저장하고, 커밋 후 게임 목록 인덱스를 다시 적재한다.
      *
      * @param gameList 게임 목록 정보
      * @return ApiResponseDTO 처리된 게임 목록 정보를 담은 API 응답 DTO
      */
     public ApiResponseDTO addProcessGameList(List<RequestInfoList> gameList) {
         Map<String, List<GameInfoDTO>> gameListMap = new HashMap<>();
+        List<Game> games = new ArrayList<>(gameList.size());
 
         for (RequestInfoList requestInfo : gameList) {
             String key = String.valueOf(requestInfo.getPrdId());
 
-            if (!gameListMap.containsKey(key)) {
-                gameListMap.put(key, new ArrayList<>());
-            }
             Game game = new Game();
             game.setId(requestInfo.getId());
             game.setGameIndex(requestInfo.getGameIndex());
@@ -56,10 +75,21 @@ public class GameService {
             game.setIsEnabled(requestInfo.getIsEnabled());
             game.setType(requestInfo.getType());
             game.setGameCategory(requestInfo.getGameCategory());
-            gameRepository.save(game);
-            GameInfoDTO gameInfoDTO = new GameInfoDTO();
-            gameListMap.get(key).add(gameInfoDTO);
+            games.add(game);
+
+            GameInfoDTO gameInfoDTO = new GameInfoDTO(requestInfo.getId(), requestInfo.getPrdId(), requestInfo.getGameIndex(),
+                    requestInfo.getName(), requestInfo.getIcon(), requestInfo.getRtp(), requestInfo.getType(), requestInfo.getIsEnabled());
+            gameListMap.computeIfAbsent(key, k -> new ArrayList<>()).add(gameInfoDTO);
+        }
+
+        int upserted = 0;
+        for (int from = 0; from < games.size(); from += upsertBatchSize) {
+            upserted += gameRepository.upsertAll(games.subList(from, Math.min(from + upsertBatchSize, games.size())));
+        }
+        if (upserted > 0) {
+            gameCatalog.reloadAfterCommit();
         }
+        logger.info("Game list processed: {} games, {} inserted or changed", games.size(), upserted);
 
         ApiResponseDTO apiResponseDTO = new ApiResponseDTO();
         apiResponseDTO.setStatus(1);
@@ -76,6 +106,16 @@ public class GameService {
 
 
 
+    /**
+     * 게임 목록 버전 (로비 목록 응답의 ETag).
+     *
+     * @return String 현재 게임 목록 버전
+     */
+    @Transactional(value = "clientServerTransactionManager", propagation = Propagation.SUPPORTS)
+    public String catalogVersion() {
+        return gameCatalog.version();
+    }
+
     /**
      * 특정 제품 ID에 해당하는 게임을 페이지네이션하여 조회.
      *
@@ -84,10 +124,9 @@ public class GameService {
      * @param size 페이지 당 항목 수
      * @return Page<Game> 조회된 게임 목록
      */
+    @Transactional(value = "clientServerTransactionManager", propagation = Propagation.SUPPORTS)  // 메모리 목록만 조회하므로 커넥션을 잡지 않는다
     public Page<Game> searchByPrdGame(int prdId, int page, int size) {
-        Pageable pageable = PageRequest.of(page -1,size, Sort.by("id").descending());
-        Page<Game> prdGame = gameRepository.searchByPrdGame(prdId,pageable);
-        return new PageImpl<>(prdGame.getContent(), pageable, prdGame.getTotalElements());
+        return gameCatalog.findByPrdId(prdId, page, size);
     }
 
     /**
@@ -98,10 +137,9 @@ public class GameService {
      * @param size 페이지 당 항목 수
      * @return Page<Game> 조회된 게임 목록
      */
+    @Transactional(value = "clientServerTransactionManager", propagation = Propagation.SUPPORTS)  // 메모리 목록만 조회하므로 커넥션을 잡지 않는다
     public Page<Game> searchByGame(String type,String gameCategory,int page, int size) {
-        Pageable pageable = PageRequest.of(page -1, size,Sort.by("id").descending());
-        Page<Game> typeGame = gameRepository.searchByType(type,gameCategory,pageable);
-        return new PageImpl<>(typeGame.getContent(),pageable, typeGame.getTotalElements());
+        return gameCatalog.findByTypeOrCategory(type, gameCategory, page, size);
     }
 
     /**
@@ -111,10 +149,9 @@ public class GameService {
      * @param size 페이지 당 항목 수
      * @return Page<Game> 조회된 게임 목록
      */
+    @Transactional(value = "clientServerTransactionManager", propagation = Propagation.SUPPORTS)  // 메모리 목록만 조회하므로 커넥션을 잡지 않는다
     public Page<Game> searchByTypeNull(int page, int size) {
-        Pageable pageable = PageRequest.of(page -1, size,Sort.by("id").descending());
-        Page<Game> typeNullGame = gameRepository.searchByNullCondition(pageable);
-        return new PageImpl<>(typeNullGame.getContent(),pageable,typeNullGame.getTotalElements());
+        return gameCatalog.findAll(page, size);
     }
 
 
@@ -123,57 +160,83 @@ public class GameService {
      * 지정된 유저와 게임에 대해 즐겨찾기 상태를 토글.
      * 만약 지정된 게임이 유저의 즐겨찾기 목록에 이미 있다면, 이를 목록에서 제거.
      * 그렇지 않은 경우, 즐겨찾기 목록에 게임을 추가.
+     * 유저/게임 엔티티를 조회하지 않고 favorite_game 에 INSERT 또는 DELETE 한 번으로 반영한다.
      *
      * @param userId 즐겨찾기 상태를 변경하고자 하는 유저의 ID
      * @param gameId 즐겨찾기 상태를 변경하고자 하는 게임의 ID
      * @throws RestControllerException 유저 또는 게임을 찾을 수 없는 경우 예외 발생
      */
     public void toggleFavorite(long userId, long gameId, PrincipalDetails principalDetails) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저를 찾을 수 없습니다."));
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new RestControllerException(ExceptionCode.GAME_NOT_FOUNT, "게임을 찾을 수 없습니다."));
-
-        Optional<GameFavorite> favorite = gameFavoriteRepository.findByUserAndGame(user, game);
-        if (favorite.isPresent()) {
-            // 이미 즐겨찾기 되어 있다면 제거
-            gameFavoriteRepository.delete(favorite.get());
-        } else {
-            // 즐겨찾기 추가
-            GameFavorite newFavorite = new GameFavorite();
-            newFavorite.setUser(user);
-            newFavorite.setGame(game);
-            gameFavoriteRepository.save(newFavorite);
+        if (gameCatalog.get(gameId) == null && !gameRepository.existsById(gameId)) {
+            throw new RestControllerException(ExceptionCode.GAME_NOT_FOUNT, "게임을 찾을 수 없습니다.");
+        }
+        try {
+            favoriteGameStore.toggle(userId, gameId);
+        } catch (DataIntegrityViolationException e) {
+            // 게임은 확인했으므로 user_id 외래키 위반
+            throw new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저를 찾을 수 없습니다.");
         }
     }
 
     /**
      * 지정된 유저의 즐겨찾기된 게임 목록을 조회.
      * 이 메서드는 해당 유저가 즐겨찾기한 모든 게임의 목록 반환.
+     * 즐겨찾기 게임 ID 는 캐시에서, 게임 정보는 게임 목록 인덱스에서 가져오며 사용 중지된 게임만 DB 에서 조회한다.
+     * 토글 직후 캐시를 다시 적재할 수 있으므로 복제 DB 로 보내지 않는다 (readOnly 미사용).
      *
      * @param userId 즐겨찾기 목록을 조회하고자 하는 유저의 ID
      * @return List<Game> 유저가 즐겨찾기한 게임 목록
      * @throws IllegalArgumentException 지정된 유저 ID에 해당하는 유저를 찾을 수 없을 때 예외 발생
      */
     public List<FavoriteDTO> findFavoriteGamesByUser(Long userId, PrincipalDetails principalDetails) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-        List<GameFavorite> favorites = gameFavoriteRepository.findAllByUser(user);
-
-        return favorites.stream()
-                .map(favorite -> new FavoriteDTO(
-                        favorite.getGame().getId(),
-                        favorite.getGame().getPrdId(),
-                        favorite.getGame().getGameIndex(),
-                        favorite.getGame().getName(),
-                        favorite.getGame().getIcon(),
-                        favorite.getGame().getRtp(),
-                        favorite.getGame().getType(),
-                        favorite.getGame().getIsEnabled(),
-                        favorite.getGame().getGameCategory(),
+        long[] gameIds = favoriteGameStore.get(userId);
+        if (gameIds.length == 0 && !userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("유저를 찾을 수 없습니다.");
+        }
+
+        Map<Long, Game> games = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (long gameId : gameIds) {
+            Game game = gameCatalog.get(gameId);
+            if (game != null) {
+                games.put(gameId, game);
+            } else {
+                missing.add(gameId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            gameRepository.findAllById(missing).forEach(game -> games.put(game.getId(), game));
+        }
+
+        List<FavoriteDTO> favorites = new ArrayList<>(gameIds.length);
+        for (long gameId : gameIds) {
+            Game game = games.get(gameId);
+            if (game != null) {
+                favorites.add(new FavoriteDTO(
+                        game.getId(),
+                        game.getPrdId(),
+                        game.getGameIndex(),
+                        game.getName(),
+                        game.getIcon(),
+                        game.getRtp(),
+                        game.getType(),
+                        game.getIsEnabled(),
+                        game.getGameCategory(),
                         true
-                ))
-                .collect(Collectors.toList());
+                ));
+            }
+        }
+        return favorites;
+    }
+
+    /**
+     * 지정된 유저의 즐겨찾기 게임 ID 목록 (로비 목록에 즐겨찾기 표시용).
+     *
+     * @param userId 유저 ID
+     * @return long[] 즐겨찾기 게임 ID (오름차순)
+     */
+    public long[] findFavoriteGameIds(Long userId, PrincipalDetails principalDetails) {
+        return favoriteGameStore.get(userId).clone();
     }
 }
 
@@ -1,7 +1,9 @@
 package GInternational.server.kplay.results.controller;
 
 import GInternational.server.kplay.debit.entity.Debit;
+import GInternational.server.kplay.results.dto.ResultReconcileResponseDTO;
 import GInternational.server.kplay.results.dto.SavedCreditDTO;
+import GInternational.server.kplay.results.service.ResultReconcileService;
 import GInternational.server.kplay.results.service.ResultService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +17,7 @@ import java.util.List;
 public class ResultsController {
 
     private final ResultService resultService;
+    private final ResultReconcileService resultReconcileService;
 
     /**
      * Debit에는 존재하지만 Credit에는 없는 데이터(미처리 베팅 결과)를 조회.
@@ -27,6 +30,19 @@ public class ResultsController {
         return new ResponseEntity<>(unmatchedData, HttpStatus.OK);
     }
 
+    /**
+     * 미처리 베팅 결과를 debit_id 순으로 페이지 단위 조회.
+     *
+     * @param afterId 이전 페이지의 마지막 debit_id (첫 페이지는 0)
+     * @param size 페이지 크기
+     * @return ResponseEntity<List<Debit>> 미처리된 베팅 데이터 목록
+     */
+    @GetMapping("/debitResults/page")
+    public ResponseEntity<List<Debit>> getUnmatchedDataPage(@RequestParam(defaultValue = "0") long afterId,
+                                                            @RequestParam(defaultValue = "500") int size) {
+        return new ResponseEntity<>(resultService.getUnsettledDebits(afterId, size), HttpStatus.OK);
+    }
+
     /**
      * 저장된 Credit 결과를 반환합니다. 클라이언트로부터 Credit 정보를 받아 처리 결과를 반환.
      *
@@ -38,4 +54,15 @@ public class ResultsController {
         SavedCreditDTO response = resultService.debitResults(savedCreditDTO);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 게임사 결과 목록을 일괄 정산합니다. 배치 단위로 반영하고 배치별 처리 건수와 실패 내역을 반환.
+     *
+     * @param results 처리할 Credit 데이터 목록
+     * @return ResponseEntity<ResultReconcileResponseDTO> 배치별 처리 결과
+     */
+    @PostMapping("/results/batch")
+    public ResponseEntity<ResultReconcileResponseDTO> reconcileResults(@RequestBody List<SavedCreditDTO> results) {
+        return ResponseEntity.ok(resultReconcileService.reconcile(results));
+    }
 }
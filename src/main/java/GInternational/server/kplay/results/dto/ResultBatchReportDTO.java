@@ -0,0 +1,21 @@
+package GInternational.server.kplay.results.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 미처리 결과 일괄 정산 배치별 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ResultBatchReportDTO {
+
+    private int batch;                     // 배치 순번 (0부터)
+    private int requested;                 // 배치에 포함된 결과 수
+    private int settled;                   // 당첨 내역이 기록된 결과 수
+    private long payout;                   // 지갑에 반영한 당첨금 합계
+    private long elapsedMs;
+    private List<ResultFailureDTO> failures;
+}
@@ -0,0 +1,13 @@
+package GInternational.server.kplay.results.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResultFailureDTO {
+
+    private String txnId;
+    private String reason;   // ExceptionCode 이름 (배치 전체 실패는 BATCH_FAILED, 요청 내 중복은 DUPLICATE_IN_REQUEST)
+    private String message;
+}
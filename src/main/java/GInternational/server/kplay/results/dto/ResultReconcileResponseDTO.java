@@ -0,0 +1,16 @@
+package GInternational.server.kplay.results.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ResultReconcileResponseDTO {
+
+    private int requested;
+    private int settled;
+    private int failed;
+    private List<ResultBatchReportDTO> batches;
+}
@@ -0,0 +1,128 @@
+package GInternational.server.kplay.results.service;
+
+import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.service.TxnIdIndex;
+import GInternational.server.api.service.TxnIdIndex.TxnType;
+import GInternational.server.common.exception.ExceptionCode;
+import GInternational.server.kplay.credit.entity.Credit;
+import GInternational.server.kplay.credit.repository.CreditRepository;
+import GInternational.server.kplay.debit.dto.DebitSettlementTargetDTO;
+import GInternational.server.kplay.debit.entity.Debit;
+import GInternational.server.kplay.debit.repository.DebitRepository;
+import GInternational.server.kplay.results.dto.ResultBatchReportDTO;
+import GInternational.server.kplay.results.dto.ResultFailureDTO;
+import GInternational.server.kplay.results.dto.SavedCreditDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 미처리 결과 배치 반영
+ * 배치의 txn_id 로 베팅, 유저, 지갑, 기존 당첨 내역을 한 번에 조회하고, 당첨 내역은 배치 INSERT IGNORE,
+ * 지갑은 유저별 합계를 배치 UPDATE (casino_balance = casino_balance + ?) 로 반영한다. 배치 하나가 한 트랜잭션이다.
+ *
+ * 결과 단위 실패(베팅 없음, 이미 처리됨 등)는 해당 결과만 건너뛰고 failures 에 남기며,
+ * 지갑 반영이 어긋나는 경우처럼 배치 전체가 잘못될 수 있는 경우는 예외로 배치 전체를 롤백한다.
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager")
+@RequiredArgsConstructor
+public class ResultBatchWriter {
+
+    private final DebitRepository debitRepository;
+    private final CreditRepository creditRepository;
+    private final WalletRepository walletRepository;
+    private final TxnIdIndex txnIdIndex;
+
+
+    public ResultBatchReportDTO apply(int batch, List<SavedCreditDTO> results) {
+        long started = System.currentTimeMillis();
+        List<ResultFailureDTO> failures = new ArrayList<>();
+
+        Map<String, SavedCreditDTO> requested = new LinkedHashMap<>();
+        for (SavedCreditDTO result : results) {
+            if (result.getTxnId() == null || result.getType() != 1 || result.getIs_cancel() != 0) {
+                failures.add(failure(result.getTxnId(), ExceptionCode.INVALID_REQUEST, "유효하지않은 요청입니다."));
+            } else if (requested.putIfAbsent(result.getTxnId(), result) != null) {
+                failures.add(new ResultFailureDTO(result.getTxnId(), "DUPLICATE_IN_REQUEST", "같은 요청에 중복된 거래입니다."));
+            }
+        }
+
+        Map<String, DebitSettlementTargetDTO> targets = new HashMap<>();
+        for (DebitSettlementTargetDTO target : debitRepository.findSettlementTargets(requested.keySet())) {
+            targets.put(target.getTxnId(), target);
+        }
+
+        List<Credit> credits = new ArrayList<>(requested.size());
+        Map<String, Long> userIdByTxnId = new HashMap<>();
+        for (SavedCreditDTO result : requested.values()) {
+            DebitSettlementTargetDTO target = targets.get(result.getTxnId());
+            if (target == null) {
+                failures.add(failure(result.getTxnId(), ExceptionCode.DEBIT_NOT_FOUND, "거래 내역 없음"));
+            } else if (target.getUserId() == null) {
+                failures.add(failure(result.getTxnId(), ExceptionCode.USER_NOT_FOUND, "유저 없음"));
+            } else if (target.getWalletId() == null) {
+                failures.add(failure(result.getTxnId(), ExceptionCode.WALLET_INFO_NOT_FOUND, "지갑 정보 없음"));
+            } else if (target.isCredited()) {
+                failures.add(failure(result.getTxnId(), ExceptionCode.TRANSACTION_ALREADY_PROCESSED, "이미 처리된 거래입니다."));
+            } else {
+                credits.add(toCredit(target, result));
+                userIdByTxnId.put(target.getTxnId(), target.getUserId());
+            }
+        }
+
+        // 조회 이후 다른 요청이 먼저 기록한 결과는 INSERT IGNORE 에서 빠진다
+        List<Credit> posted = creditRepository.insertIgnoreDuplicates(credits);
+        if (posted.size() != credits.size()) {
+            Set<String> postedTxnIds = new HashSet<>();
+            posted.forEach(credit -> postedTxnIds.add(credit.getTxnId()));
+            for (Credit credit : credits) {
+                if (!postedTxnIds.contains(credit.getTxnId())) {
+                    failures.add(failure(credit.getTxnId(), ExceptionCode.TRANSACTION_ALREADY_PROCESSED, "이미 처리된 거래입니다."));
+                }
+            }
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        long payout = 0;
+        for (Credit credit : posted) {
+            txnIdIndex.recordAfterCommit(TxnType.CREDIT, credit.getTxnId());
+            if (credit.getAmount() != 0) {
+                deltas.merge(userIdByTxnId.get(credit.getTxnId()), (long) credit.getAmount(), Long::sum);
+                payout += credit.getAmount();
+            }
+        }
+        Collection<Long> adjusted = walletRepository.adjustCasinoBalances(deltas);
+        if (adjusted.size() != deltas.size()) {
+            // 조회 시점에는 있던 지갑이 사라진 경우, 당첨 내역만 남지 않도록 배치 전체를 롤백한다
+            throw new IllegalStateException("Wallet adjusted " + adjusted.size() + " of " + deltas.size() + " users");
+        }
+
+        return new ResultBatchReportDTO(batch, results.size(), posted.size(), payout,
+                System.currentTimeMillis() - started, failures);
+    }
+
+
+    private static Credit toCredit(DebitSettlementTargetDTO target, SavedCreditDTO result) {
+        Debit debit = new Debit();
+        debit.setId(target.getDebitId());
+
+        Credit credit = new Credit();
+        credit.setDebit(debit);
+        credit.setUser_id(target.getAasId());
+        credit.setPrd_id(target.getPrdId());
+        credit.setGame_id(result.getGameId());
+        credit.setTable_id(target.getTableId());
+        credit.setAmount(result.getPayout());
+        credit.setTxnId(target.getTxnId());
+        credit.setIs_cancel(result.getIs_cancel());
+        return credit;
+    }
+
+
+    private static ResultFailureDTO failure(String txnId, ExceptionCode code, String message) {
+        return new ResultFailureDTO(txnId, code.name(), message);
+    }
+}
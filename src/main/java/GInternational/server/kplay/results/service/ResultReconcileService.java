@@ -0,0 +1,69 @@
+package GInternational.server.kplay.results.service;
+
+import GInternational.server.kplay.results.dto.ResultBatchReportDTO;
+import GInternational.server.kplay.results.dto.ResultFailureDTO;
+import GInternational.server.kplay.results.dto.ResultReconcileResponseDTO;
+import GInternational.server.kplay.results.dto.SavedCreditDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미처리 결과 일괄 정산
+ * 게임사 결과 목록을 batch-size 단위로 나눠 {@link ResultBatchWriter} 에서 배치별 트랜잭션으로 반영하고 배치별 처리 건수와 실패 내역을 반환한다.
+ * 한 배치가 실패해도 나머지 배치는 계속 처리하며, 실패한 배치의 결과는 모두 BATCH_FAILED 로 보고된다 (롤백되었으므로 다시 요청하면 된다).
+ */
+@Service
+public class ResultReconcileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultReconcileService.class);
+
+    private final ResultBatchWriter resultBatchWriter;
+    private final int batchSize;
+
+
+    public ResultReconcileService(ResultBatchWriter resultBatchWriter,
+                                  @Value("${kplay.results.batch-size:200}") int batchSize) {
+        this.resultBatchWriter = resultBatchWriter;
+        this.batchSize = batchSize;
+    }
+
+
+    public ResultReconcileResponseDTO reconcile(List<SavedCreditDTO> results) {
+        List<ResultBatchReportDTO> batches = new ArrayList<>();
+        int settled = 0;
+        int failed = 0;
+        for (int from = 0, batch = 0; from < results.size(); from += batchSize, batch++) {
+            List<SavedCreditDTO> chunk = results.subList(from, Math.min(from + batchSize, results.size()));
+            ResultBatchReportDTO report = applyBatch(batch, chunk);
+            batches.add(report);
+            settled += report.getSettled();
+            failed += report.getFailures().size();
+        }
+        logger.info("Reconciled KPlay results: requested={}, settled={}, failed={}, batches={}",
+                results.size(), settled, failed, batches.size());
+        return new ResultReconcileResponseDTO(results.size(), settled, failed, batches);
+    }
+
+
+    private ResultBatchReportDTO applyBatch(int batch, List<SavedCreditDTO> chunk) {
+        long started = System.currentTimeMillis();
+        try {
+            ResultBatchReportDTO report = resultBatchWriter.apply(batch, chunk);
+            logger.debug("Result batch {}: requested={}, settled={}, failed={}, payout={} in {} ms", batch,
+                    report.getRequested(), report.getSettled(), report.getFailures().size(), report.getPayout(), report.getElapsedMs());
+            return report;
+        } catch (RuntimeException e) {
+            logger.error("Result batch {} failed: {} results", batch, chunk.size(), e);
+            List<ResultFailureDTO> failures = new ArrayList<>(chunk.size());
+            for (SavedCreditDTO result : chunk) {
+                failures.add(new ResultFailureDTO(result.getTxnId(), "BATCH_FAILED", e.getMessage()));
+            }
+            return new ResultBatchReportDTO(batch, chunk.size(), 0, 0, System.currentTimeMillis() - started, failures);
+        }
+    }
+}
@@ -2,19 +2,16 @@ package GInternational.server.kplay.results.service;
 
 import GInternational.server.common.exception.ExceptionCode;
 import GInternational.server.common.exception.RestControllerException;
-import GInternational.server.api.entity.Wallet;
-import GInternational.server.api.repository.WalletRepository;
-import GInternational.server.kplay.credit.entity.Credit;
-import GInternational.server.kplay.credit.repository.CreditRepository;
 import GInternational.server.kplay.debit.entity.Debit;
 import GInternational.server.kplay.debit.repository.DebitRepository;
+import GInternational.server.kplay.results.dto.ResultBatchReportDTO;
+import GInternational.server.kplay.results.dto.ResultFailureDTO;
 import GInternational.server.kplay.results.dto.SavedCreditDTO;
-import GInternational.server.api.entity.User;
-import GInternational.server.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 
 
@@ -23,10 +20,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ResultService {
 
-    private final CreditRepository creditRepository;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final DebitRepository debitRepository;
-    private final UserRepository userRepository;
-    private final WalletRepository walletRepository;
+    private final ResultBatchWriter resultBatchWriter;
 
     /**
      * 베팅 결과가 처리되지 않은 베팅 항목들을 조회.
@@ -38,34 +35,33 @@ public class ResultService {
         return debitRepository.findDataWithNOMatchingTxnId();
     }
 
+    /**
+     * 베팅 결과가 처리되지 않은 베팅 항목들을 debit_id 순으로 페이지 단위 조회.
+     *
+     * @param afterId 이전 페이지의 마지막 debit_id (첫 페이지는 0)
+     * @param size 페이지 크기 (최대 1000)
+     * @return List<Debit> 처리되지 않은 베팅 데이터 목록
+     */
+    @Transactional(value = "clientServerTransactionManager",readOnly = true)
+    public List<Debit> getUnsettledDebits(long afterId, int size) {
+        return debitRepository.findDataWithNOMatchingTxnId(afterId, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
     /**
      * 저장된 Credit 정보를 기반으로 베팅 결과를 처리합니다. 성공적으로 처리된 경우,
      * 해당 사용자의 지갑 잔액을 업데이트하고, 새로운 Credit 데이터를 저장.
+     * 일괄 정산({@link ResultReconcileService})과 같은 경로로 처리한다.
      *
      * @param savedCreditDTO 처리할 Credit 정보를 담은 DTO
      * @return SavedCreditDTO 처리 후의 Credit 정보 (현재 로직에서는 null을 반환하고 있습니다.)
      * @throws RestControllerException 거래 내역이 없거나 유효하지 않은 요청인 경우 예외를 발생시킵니다.
      */
     public SavedCreditDTO debitResults(SavedCreditDTO savedCreditDTO) {
-        Debit debit = debitRepository.findByTxnId(savedCreditDTO.getTxnId()).orElseThrow(() -> new RestControllerException(ExceptionCode.DEBIT_NOT_FOUND, "거래 내역 없음"));
-        User user = userRepository.findByAasId(debit.getUser_id()).orElseThrow(()-> new RestControllerException(ExceptionCode.USER_NOT_FOUND, "유저 없음"));
-        Wallet wallet = user.getWallet();
-
-        if (savedCreditDTO.getType() == 1 && savedCreditDTO.getIs_cancel() == 0) {
-            Credit savedCredit = new Credit();
-            savedCredit.setDebit(debit);
-            savedCredit.setUser_id(debit.getUser_id());
-            savedCredit.setPrd_id(debit.getPrd_id());
-            savedCredit.setGame_id(savedCreditDTO.getGameId());
-            savedCredit.setTable_id(debit.getTable_id());
-            savedCredit.setAmount(savedCreditDTO.getPayout());
-            savedCredit.setTxnId(debit.getTxnId());
-            savedCredit.setIs_cancel(savedCreditDTO.getIs_cancel());
-            wallet.setCasinoBalance(user.getWallet().getCasinoBalance() + savedCreditDTO.getPayout());  // payout 값 증가
-            walletRepository.save(wallet);
-            creditRepository.save(savedCredit);
-        } else {
-            throw new RestControllerException(ExceptionCode.INVALID_REQUEST, "유효하지않은 요청입니다.");
-        } return null;
+        ResultBatchReportDTO report = resultBatchWriter.apply(0, Collections.singletonList(savedCreditDTO));
+        if (!report.getFailures().isEmpty()) {
+            ResultFailureDTO failure = report.getFailures().get(0);
+            throw new RestControllerException(ExceptionCode.valueOf(failure.getReason()), failure.getMessage());
+        }
+        return null;
     }
 }
@@ -0,0 +1,17 @@
+package GInternational.server.l_sport.batch.job.dto.settlement;
+
+import GInternational.server.l_sport.info.feed.OddSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정산 대상 배당 1건 (api_odds / api_odds_live 의 idx 와 결과값)
+ */
+@Getter
+@AllArgsConstructor
+public class SettledOddDTO {
+
+    private final OddSource source;
+    private final String idx;
+    private final String settlement; // 1:낙첨, 2:적중, -1:취소, 3:적중특례
+}
@@ -0,0 +1,162 @@
+package GInternational.server.l_sport.batch.job.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 정산 샤드 워커
+ * 베팅 그룹을 bet_group_id 해시로 샤드에 나누고, 샤드마다 단일 워커 스레드가 그룹 묶음 단위 트랜잭션으로 정산한다.
+ * 같은 그룹은 항상 같은 샤드에서 순서대로 처리되며, 샤드 큐가 가득 차면 제출하는 쪽(정산 스케줄러)이 대기한다.
+ *
+ * 샤드별 대기 건수(settlement.shard.pending)와 가장 오래된 미완료 묶음의 지연(settlement.shard.lag)을 게이지로 노출한다.
+ */
+@Component
+public class SettlementExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettlementExecutor.class);
+
+    private final SettlementWriter settlementWriter;
+    private final int groupBatchSize;
+    private final Shard[] shards;
+
+
+    public SettlementExecutor(SettlementWriter settlementWriter,
+                              MeterRegistry meterRegistry,
+                              @Value("${lsports.settlement.workers:4}") int workers,
+                              @Value("${lsports.settlement.queue-capacity:64}") int queueCapacity,
+                              @Value("${lsports.settlement.group-batch-size:200}") int groupBatchSize) {
+        this.settlementWriter = settlementWriter;
+        this.groupBatchSize = groupBatchSize;
+        this.shards = new Shard[workers];
+        for (int i = 0; i < workers; i++) {
+            Shard shard = new Shard(i, queueCapacity);
+            shards[i] = shard;
+            Gauge.builder("settlement.shard.pending", shard, Shard::pending)
+                    .description("샤드 큐에 대기중인 그룹 묶음 수")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+            Gauge.builder("settlement.shard.lag", shard, Shard::lagMillis)
+                    .description("샤드에서 가장 오래된 미완료 그룹 묶음의 대기 시간")
+                    .baseUnit("milliseconds")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+
+    /**
+     * 베팅 그룹을 샤드별로 나누어 정산한다
+     * @return 모든 샤드의 처리가 끝나면 당첨금이 확정된 그룹 수로 완료된다. 하나라도 실패하면 예외로 완료된다.
+     */
+    public CompletableFuture<Integer> submit(Collection<Long> betGroupIds) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long betGroupId : betGroupIds) {
+            byShard.computeIfAbsent(shardOf(betGroupId, shards.length), k -> new ArrayList<>()).add(betGroupId);
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        byShard.forEach((index, ids) -> {
+            for (int from = 0; from < ids.size(); from += groupBatchSize) {
+                List<Long> batch = ids.subList(from, Math.min(from + groupBatchSize, ids.size()));
+                futures.add(shards[index].submit(new ArrayList<>(batch)));
+            }
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+
+    static int shardOf(Long betGroupId, int shardCount) {
+        return Math.floorMod(Long.hashCode(betGroupId), shardCount);
+    }
+
+
+    @Scheduled(fixedDelayString = "${lsports.settlement.lag-report-ms:10000}")
+    public void reportLag() {
+        for (Shard shard : shards) {
+            if (shard.pending() > 0) {
+                logger.info("Settlement shard {}: {} batches pending, lag {} ms", shard.index, shard.pending(), shard.lagMillis());
+            }
+        }
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+    }
+
+
+    private class Shard {
+
+        private final int index;
+        private final ThreadPoolExecutor executor;
+        // 제출 시각 (단일 워커가 FIFO 로 처리하므로 head 가 가장 오래된 미완료 묶음이다)
+        private final Queue<Long> submittedAt = new ConcurrentLinkedQueue<>();
+
+
+        Shard(int index, int queueCapacity) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("settlement-shard-" + index + "-"),
+                    (task, pool) -> {
+                        // 큐가 가득 차면 자리가 날 때까지 제출 스레드를 대기시킨다 (back-pressure)
+                        if (pool.isShutdown()) {
+                            throw new RejectedExecutionException("Settlement shard " + index + " is shut down");
+                        }
+                        try {
+                            pool.getQueue().put(task);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException(e);
+                        }
+                    });
+        }
+
+
+        CompletableFuture<Integer> submit(List<Long> betGroupIds) {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            submittedAt.add(System.currentTimeMillis());
+            try {
+                executor.execute(() -> {
+                    try {
+                        future.complete(settlementWriter.settleGroups(betGroupIds));
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    } finally {
+                        submittedAt.poll();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                submittedAt.poll();
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+
+        int pending() {
+            return submittedAt.size();
+        }
+
+
+        long lagMillis() {
+            Long oldest = submittedAt.peek();
+            return oldest == null ? 0 : System.currentTimeMillis() - oldest;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package GInternational.server.l_sport.batch.job.service;
+
+import GInternational.server.api.service.LiabilityBook;
+import GInternational.server.l_sport.batch.job.dto.settlement.SettledOddDTO;
+import GInternational.server.l_sport.info.feed.OddChange;
+import GInternational.server.l_sport.info.feed.OddChangeType;
+import GInternational.server.l_sport.info.feed.OddChangesEvent;
+import GInternational.server.l_sport.info.feed.OddSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 증분 정산
+ * 변경 피드(LSportsChangeFeed)에서 결과(SETTLED)가 감지된 배당만 큐에 쌓아두었다가 청크 단위로 정산한다.
+ * 정산 비용은 bet_history 전체 크기가 아니라 새로 나온 결과 수에 비례한다.
+ *
+ * 재기동, 결과 수정(is_modified = 'N' 으로 되돌림) 등 피드로 잡히지 않는 결과는
+ * catch-up 주기에 is_modified = 'N' 인 결과 배당을 청크 단위로 읽어 같은 경로로 처리한다.
+ * 베팅 그룹 지급은 SettlementExecutor 의 샤드 워커가 병렬로 처리하며,
+ * 청크의 모든 샤드 정산이 커밋된 뒤에 배당의 is_modified 를 'Y' 로 바꾸므로, 중간에 실패하면 다음 catch-up 에서 다시 처리된다.
+ *
+ * 샤드 완료 대기(join)로 스케줄러 스레드를 막지 않도록, 스케줄러는 settlementCoordinatorExecutor(단일 스레드)에 실행만 넘긴다.
+ * 청크는 이 단일 스레드에서만 처리되므로 순서대로 하나씩 정산되며, 이미 실행 대기/중인 작업은 다시 넘기지 않는다.
+ */
+@Service
+public class SettlementService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettlementService.class);
+
+    private static final String SELECT_UNSETTLED_SQL =
+            "SELECT idx, settlement FROM %s WHERE is_modified = 'N' AND settlement IN ('1','2','3','-1') LIMIT ?";
+
+    private static final String UPDATE_MODIFIED_SQL = "UPDATE %s SET is_modified = 'Y' WHERE idx = ?";
+
+    private final SettlementWriter settlementWriter;
+    private final SettlementExecutor settlementExecutor;
+    private final LiabilityBook liabilityBook;
+    private final JdbcTemplate lsportJdbcTemplate;
+    private final ThreadPoolTaskExecutor coordinator;
+    private final int chunkSize;
+
+    private final Queue<SettledOddDTO> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean settlePendingScheduled = new AtomicBoolean();
+    private final AtomicBoolean catchUpScheduled = new AtomicBoolean();
+
+
+    public SettlementService(SettlementWriter settlementWriter,
+                             SettlementExecutor settlementExecutor,
+                             LiabilityBook liabilityBook,
+                             @Qualifier("lsportJdbcTemplate") JdbcTemplate lsportJdbcTemplate,
+                             @Qualifier("settlementCoordinatorExecutor") ThreadPoolTaskExecutor coordinator,
+                             @Value("${lsports.settlement.chunk-size:500}") int chunkSize) {
+        this.settlementWriter = settlementWriter;
+        this.settlementExecutor = settlementExecutor;
+        this.liabilityBook = liabilityBook;
+        this.lsportJdbcTemplate = lsportJdbcTemplate;
+        this.coordinator = coordinator;
+        this.chunkSize = chunkSize;
+    }
+
+
+    /**
+     * 피드 스케줄러 스레드에서 호출되므로 큐에 넣기만 한다
+     */
+    @EventListener
+    public void onOddChanges(OddChangesEvent event) {
+        for (OddChange change : event.getChanges()) {
+            if (change.is(OddChangeType.SETTLED)) {
+                pending.add(new SettledOddDTO(event.getSource(), change.getIdx(), change.getSettlement()));
+            }
+        }
+    }
+
+
+    @Scheduled(fixedDelayString = "${lsports.settlement.flush-ms:1000}")
+    public void settlePending() {
+        if (!pending.isEmpty()) {
+            runOnCoordinator(settlePendingScheduled, this::drainPending);
+        }
+    }
+
+
+    /**
+     * 피드로 전달되지 않은 결과 배당 처리 (재기동, 결과 수정, 정산 실패분)
+     */
+    @Scheduled(fixedDelayString = "${lsports.settlement.catch-up-ms:30000}")
+    public void catchUp() {
+        runOnCoordinator(catchUpScheduled, () -> {
+            catchUp(OddSource.PRE_MATCH);
+            catchUp(OddSource.IN_PLAY);
+        });
+    }
+
+
+    /**
+     * 같은 작업이 이미 대기/실행 중이면 넘기지 않는다
+     */
+    private void runOnCoordinator(AtomicBoolean scheduled, Runnable task) {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduled.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            scheduled.set(false);
+            logger.warn("Settlement coordinator rejected task", e);
+        }
+    }
+
+
+    private void drainPending() {
+        while (!pending.isEmpty()) {
+            List<SettledOddDTO> chunk = new ArrayList<>(chunkSize);
+            SettledOddDTO odd;
+            while (chunk.size() < chunkSize && (odd = pending.poll()) != null) {
+                chunk.add(odd);
+            }
+            settleChunk(chunk);
+        }
+    }
+
+
+    private void catchUp(OddSource source) {
+        while (true) {
+            List<SettledOddDTO> chunk = lsportJdbcTemplate.query(String.format(SELECT_UNSETTLED_SQL, tableOf(source)),
+                    (rs, rowNum) -> new SettledOddDTO(source, rs.getString("idx"), rs.getString("settlement")), chunkSize);
+            if (chunk.isEmpty() || !settleChunk(chunk) || chunk.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * 정산 조율 스레드에서만 호출된다
+     * @return 정산 및 is_modified 반영까지 성공했으면 true
+     */
+    private boolean settleChunk(List<SettledOddDTO> chunk) {
+        long started = System.currentTimeMillis();
+        int settledGroups;
+        try {
+            // 결과 반영은 한 트랜잭션, 그룹 지급은 샤드별 트랜잭션으로 병렬 처리한 뒤 모두 끝날 때까지 기다린다
+            List<Long> betGroupIds = settlementWriter.applyResults(chunk);
+            settledGroups = settlementExecutor.submit(betGroupIds).join();
+        } catch (RuntimeException e) {
+            // is_modified 가 그대로 'N' 이므로 다음 catch-up 에서 다시 처리된다
+            logger.error("Settlement chunk failed: {} odds", chunk.size(), e);
+            return false;
+        }
+
+        Map<OddSource, List<String>> idxBySource = chunk.stream()
+                .collect(Collectors.groupingBy(SettledOddDTO::getSource, () -> new EnumMap<>(OddSource.class),
+                        Collectors.mapping(SettledOddDTO::getIdx, Collectors.toList())));
+        idxBySource.forEach((source, idxs) ->
+                lsportJdbcTemplate.batchUpdate(String.format(UPDATE_MODIFIED_SQL, tableOf(source)), idxs, idxs.size(),
+                        (PreparedStatement ps, String idx) -> ps.setString(1, idx)));
+
+        chunk.forEach(odd -> liabilityBook.settle(odd.getIdx(), odd.getSettlement()));
+
+        logger.debug("Settled {} odds, {} bet groups in {} ms", chunk.size(), settledGroups, System.currentTimeMillis() - started);
+        return true;
+    }
+
+
+    private static String tableOf(OddSource source) {
+        return source == OddSource.PRE_MATCH ? "api_odds" : "api_odds_live";
+    }
+}
@@ -0,0 +1,269 @@
+package GInternational.server.l_sport.batch.job.service;
+
+import GInternational.server.api.dto.MoneyLogEntryDTO;
+import GInternational.server.api.dto.SettlementLedgerDTO;
+import GInternational.server.api.repository.MoneyLogRepository;
+import GInternational.server.api.repository.SettlementLedgerRepository;
+import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.vo.MoneyLogCategoryEnum;
+import GInternational.server.api.vo.OrderStatusEnum;
+import GInternational.server.l_sport.batch.job.dto.settlement.SettledOddDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 정산 청크 처리
+ * 결과가 나온 배당(idx) 묶음을 대기중인 베팅에 반영하고(applyResults), 해당 배당이 포함된 베팅 그룹만
+ * 당첨금 계산, 지갑 지급(sports_balance = sports_balance + ? 배치), 머니로그까지 그룹 묶음 단위 트랜잭션으로 반영한다(settleGroups).
+ *
+ * 지급 이력은 settlement_ledger 에 (bet_group_id, settlement_version) 단위로 남기며, 원장과 차이가 있을 때만 차액을 반영하므로
+ * 같은 청크가 다시 들어오거나 결과 수정 후 재정산되어도 중복 지급되지 않는다.
+ */
+@Service
+@Transactional(value = "clientServerTransactionManager")
+public class SettlementWriter {
+
+    private static final String UPDATE_ORDER_SQL =
+            "UPDATE bet_history SET settlement = ?, order_status = ?, processed_at = ? " +
+            "WHERE idx = ? AND order_status = 'WAITING'";
+
+    private static final String SELECT_GROUP_SQL =
+            "SELECT DISTINCT bet_group_id FROM bet_history WHERE idx IN ";
+
+    private static final String SELECT_LEG_SQL =
+            "SELECT bh.bet_group_id, bh.user_id, bh.order_status, bh.price, bh.bet, bh.bet_fold_type, " +
+            "u.username, u.nickname " +
+            "FROM bet_history bh " +
+            "JOIN users u ON bh.user_id = u.user_id " +
+            "WHERE bh.bet_group_id IN ";
+
+    private static final String UPDATE_REWARD_SQL = "UPDATE bet_history SET bet_reward = ? WHERE bet_group_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WalletRepository walletRepository;
+    private final SettlementLedgerRepository settlementLedgerRepository;
+    private final MoneyLogRepository moneyLogRepository;
+
+
+    public SettlementWriter(@Qualifier("jdbcTemplate") JdbcTemplate jdbcTemplate,
+                            WalletRepository walletRepository,
+                            SettlementLedgerRepository settlementLedgerRepository,
+                            MoneyLogRepository moneyLogRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.walletRepository = walletRepository;
+        this.settlementLedgerRepository = settlementLedgerRepository;
+        this.moneyLogRepository = moneyLogRepository;
+    }
+
+
+    /**
+     * 배당 결과를 대기중인 베팅에 반영하고, 이번 배당이 포함된 미지급 베팅 그룹을 반환한다
+     * 그룹별 지급은 {@link #settleGroups(List)} 에서 샤드별로 따로 처리한다.
+     */
+    public List<Long> applyResults(List<SettledOddDTO> odds) {
+        if (odds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, odds, odds.size(),
+                (PreparedStatement ps, SettledOddDTO odd) -> {
+                    ps.setString(1, odd.getSettlement());
+                    ps.setString(2, toOrderStatus(odd.getSettlement()).name());
+                    ps.setTimestamp(3, processedAt);
+                    ps.setString(4, odd.getIdx());
+                });
+
+        List<String> idxs = odds.stream().map(SettledOddDTO::getIdx).distinct().collect(Collectors.toList());
+        return jdbcTemplate.queryForList(SELECT_GROUP_SQL + placeholders(idxs.size()), Long.class, idxs.toArray());
+    }
+
+
+    /**
+     * 베팅 그룹 지급
+     * 그룹별 지급액을 계산해 원장(settlement_ledger)의 마지막 버전과 비교하고, 달라진 그룹만 새 버전을 기록한 뒤
+     * 차액(신규 지급액 - 기존 지급액)만 지갑과 머니로그에 반영한다. 재실행이나 결과 수정 후 재정산도 같은 경로로 처리된다.
+     * @return 새 원장 버전이 기록된 베팅 그룹 수
+     */
+    public int settleGroups(List<Long> betGroupIds) {
+        if (betGroupIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Map<String, Object>>> legsByGroup = new LinkedHashMap<>();
+        for (Map<String, Object> leg : jdbcTemplate.queryForList(SELECT_LEG_SQL + placeholders(betGroupIds.size()), betGroupIds.toArray())) {
+            legsByGroup.computeIfAbsent(((Number) leg.get("bet_group_id")).longValue(), k -> new ArrayList<>()).add(leg);
+        }
+        Map<Long, SettlementLedgerDTO> ledger = settlementLedgerRepository.findLatestByBetGroupIds(legsByGroup.keySet());
+
+        // 모든 폴더가 결과가 나온 그룹만, 원장과 지급액이 달라진 경우에만 새 버전을 만든다
+        List<SettlementLedgerDTO> entries = new ArrayList<>();
+        for (Map.Entry<Long, List<Map<String, Object>>> entry : legsByGroup.entrySet()) {
+            List<Map<String, Object>> legs = entry.getValue();
+            if (isPending(legs)) {
+                continue;
+            }
+            Double reward = calculateReward(legs);
+            long payout = reward == null ? 0 : reward.longValue();
+            SettlementLedgerDTO latest = ledger.get(entry.getKey());
+            if (latest != null && latest.getPayout() == payout) {
+                continue;
+            }
+            int version = latest == null ? 1 : latest.getSettlementVersion() + 1;
+            long applied = latest == null ? 0 : latest.getPayout();
+            entries.add(new SettlementLedgerDTO(entry.getKey(), version, userIdOf(legs), payout, payout - applied,
+                    reward == null ? null : String.valueOf(reward)));
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 (bet_group_id, settlement_version) 이 이미 있으면 기록되지 않으므로 차액도 반영하지 않는다
+        List<SettlementLedgerDTO> posted = settlementLedgerRepository.insertIgnoreDuplicates(entries);
+        if (posted.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_REWARD_SQL, posted, posted.size(),
+                (PreparedStatement ps, SettlementLedgerDTO entry) -> {
+                    ps.setString(1, entry.getBetReward());
+                    ps.setLong(2, entry.getBetGroupId());
+                });
+
+        // 지갑 반영 (차액이 있는 그룹만)
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (SettlementLedgerDTO entry : posted) {
+            if (entry.getDelta() != 0) {
+                deltas.merge(entry.getUserId(), entry.getDelta(), Long::sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return posted.size();
+        }
+        walletRepository.adjustSportsBalances(deltas);
+
+        // 머니로그 (같은 유저의 그룹이 여러 건이면 반영 순서대로 최종머니를 기록한다)
+        Map<Long, Long> balances = new HashMap<>(walletRepository.findSportsBalances(deltas.keySet()));
+        balances.replaceAll((userId, balance) -> balance - deltas.getOrDefault(userId, 0L));
+        List<MoneyLogEntryDTO> moneyLogs = new ArrayList<>();
+        for (SettlementLedgerDTO entry : posted) {
+            if (entry.getDelta() == 0) {
+                continue;
+            }
+            Map<String, Object> leg = legsByGroup.get(entry.getBetGroupId()).get(0);
+            Long balance = balances.merge(entry.getUserId(), entry.getDelta(), Long::sum);
+
+            moneyLogs.add(new MoneyLogEntryDTO(
+                    entry.getUserId(),
+                    (String) leg.get("username"),
+                    (String) leg.get("nickname"),
+                    Math.abs(entry.getDelta()),
+                    balance,
+                    entry.getDelta() > 0 ? MoneyLogCategoryEnum.당첨 : MoneyLogCategoryEnum.회수,
+                    entry.getBetGroupId() + "(SPORT)"));
+        }
+        moneyLogRepository.insertAll(moneyLogs);
+        return posted.size();
+    }
+
+
+    private static boolean isPending(List<Map<String, Object>> legs) {
+        for (Map<String, Object> leg : legs) {
+            if (OrderStatusEnum.WAITING.name().equals(leg.get("order_status"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 베팅 그룹 당첨금 계산
+     * 전체 적중특례 : 베팅금 반환
+     * 전체 적중(적중특례 포함) : 적중 배당의 곱 * 폴더 보너스 배율 * 베팅금
+     * 그 외(취소 포함) : 0
+     * 대기중이거나 낙첨된 폴더가 있으면 null (낙첨 그룹은 bet_reward 를 비워둔다)
+     */
+    static Double calculateReward(List<Map<String, Object>> legs) {
+        boolean allCancelHit = true;
+        boolean allHit = true;
+        double logPrice = 0;
+        for (Map<String, Object> leg : legs) {
+            String orderStatus = (String) leg.get("order_status");
+            if (OrderStatusEnum.WAITING.name().equals(orderStatus)
+                    || OrderStatusEnum.FAIL.name().equals(orderStatus)) {
+                return null;
+            }
+            if (OrderStatusEnum.HIT.name().equals(orderStatus)) {
+                allCancelHit = false;
+                logPrice += Math.log(Double.parseDouble((String) leg.get("price")));
+            } else if (!OrderStatusEnum.CANCEL_HIT.name().equals(orderStatus)) {
+                allCancelHit = false;
+                allHit = false;
+            }
+        }
+
+        Map<String, Object> first = legs.get(0);
+        double bet = Double.parseDouble((String) first.get("bet"));
+        if (allCancelHit) {
+            return (double) (long) bet;
+        }
+        if (allHit) {
+            return Math.exp(logPrice) * foldMultiplier((String) first.get("bet_fold_type")) * bet;
+        }
+        return 0.0;
+    }
+
+
+    // 폴더 보너스 배율 (기존 정산 쿼리와 동일)
+    private static double foldMultiplier(String betFoldType) {
+        if (betFoldType == null) {
+            return 0;
+        }
+        switch (betFoldType) {
+            case "SINGLE_FOLDER":
+                return 1;
+            case "THREE_FOLDER":
+                return 1.03;
+            case "FIVE_FOLDER":
+                return 1.05;
+            case "SEVEN_FOLDER":
+                return 1.07;
+            default:
+                return 0;
+        }
+    }
+
+
+    private static Long userIdOf(List<Map<String, Object>> legs) {
+        return ((Number) legs.get(0).get("user_id")).longValue();
+    }
+
+
+    static OrderStatusEnum toOrderStatus(String settlement) {
+        switch (settlement) {
+            case "1":
+                return OrderStatusEnum.FAIL;
+            case "2":
+                return OrderStatusEnum.HIT;
+            case "-1":
+                return OrderStatusEnum.CANCEL;
+            case "3":
+                return OrderStatusEnum.CANCEL_HIT;
+            default:
+                throw new IllegalArgumentException("Unknown settlement: " + settlement);
+        }
+    }
+
+
+    private static String placeholders(int size) {
+        return "(" + String.join(",", Collections.nCopies(size, "?")) + ")";
+    }
+}
@@ -1,6 +1,7 @@
 package GInternational.server.l_sport.batch;
 
 import GInternational.server.l_sport.batch.job.service.JdbcBatchService;
+import GInternational.server.l_sport.batch.job.service.SettlementService;
 import GInternational.server.l_sport.info.entity.Match;
 import GInternational.server.l_sport.info.repository.FixtureRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class rewardController {
 
     private final JdbcBatchService jdbcBatchService;
+    private final SettlementService settlementService;
 
     @PostMapping("/reward")
     public void reward() {
-        jdbcBatchService.rewardProcess();
+        settlementService.catchUp();
     }
 
 
@@ -0,0 +1,28 @@
+package GInternational.server.l_sport.info.controller.inplay;
+
+import GInternational.server.l_sport.info.stream.InPlayOddStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v2")
+@RequiredArgsConstructor
+public class InPlayOddStreamController {
+
+    private final InPlayOddStreamService inPlayOddStreamService;
+
+
+    //인플레이 배당 변경분 구독 (matchId, marketId 미지정 시 전체)
+    @GetMapping(value = "/in-play/odds/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) List<String> matchId,
+                                @RequestParam(required = false) List<String> marketId) {
+        return inPlayOddStreamService.subscribe(matchId, marketId);
+    }
+}
@@ -0,0 +1,93 @@
+package GInternational.server.l_sport.info.dto.common;
+
+import GInternational.server.l_sport.info.dto.pre.MarketDTO;
+import GInternational.server.l_sport.info.dto.pre.OddDTO;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 경기 x 배당 row 목록을 응답 DTO 구조로 묶기 위한 공통 그룹핑
+ * 모든 메서드는 row 목록을 한 번만 순회하며, 조회 순서(쿼리 결과 순서)를 유지한다.
+ * Collectors.groupingBy 와 달리 null 키(baseLine 등)도 하나의 그룹으로 취급한다.
+ */
+public final class FixtureGrouping {
+
+    private FixtureGrouping() {
+    }
+
+
+    public static <T> Map<String, List<T>> groupBy(List<T> rows, Function<T, String> key) {
+        Map<String, List<T>> grouped = new LinkedHashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(key.apply(row), k -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+
+
+    /**
+     * matchId -> marketId -> baseLine 3단계 그룹핑 (종목별 경기목록, 경기결과)
+     */
+    public static <T> Map<String, Map<String, Map<String, List<T>>>> groupByMatchMarketAndBaseLine(List<T> rows,
+                                                                                                   Function<T, String> matchId,
+                                                                                                   Function<T, String> marketId,
+                                                                                                   Function<T, String> baseLine) {
+        Map<String, Map<String, Map<String, List<T>>>> grouped = new LinkedHashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(matchId.apply(row), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(marketId.apply(row), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(baseLine.apply(row), k -> new ArrayList<>())
+                    .add(row);
+        }
+        return grouped;
+    }
+
+
+    /**
+     * 한 경기의 row 목록을 마켓별 배당 목록으로 변환 (프리매치, 인플레이 목록)
+     * marketId 가 없는 row 는 제외하며, 같은 마켓 안의 동일한 배당은 한 번만 담는다.
+     */
+    public static <T extends FixtureOddRow> List<MarketDTO> toMarkets(List<T> matchRows) {
+        Map<String, MarketDTO> markets = new LinkedHashMap<>();
+        Map<String, Set<OddDTO>> betsByMarket = new HashMap<>();
+
+        for (T row : matchRows) {
+            String marketId = row.getMarketId();
+            if (marketId == null) {
+                continue;
+            }
+            Set<OddDTO> bets = betsByMarket.get(marketId);
+            if (bets == null) {
+                MarketDTO market = new MarketDTO();
+                market.setMarketId(marketId);
+                market.setMarketName(row.getMarketName());
+                markets.put(marketId, market);
+
+                bets = new LinkedHashSet<>();
+                betsByMarket.put(marketId, bets);
+            }
+            bets.add(toOdd(row));
+        }
+
+        List<MarketDTO> results = new ArrayList<>(markets.size());
+        for (MarketDTO market : markets.values()) {
+            market.setBets(new ArrayList<>(betsByMarket.get(market.getMarketId())));
+            results.add(market);
+        }
+        return results;
+    }
+
+
+    public static OddDTO toOdd(FixtureOddRow row) {
+        OddDTO betDTO = new OddDTO();
+        betDTO.setIdx(row.getIdx());
+        betDTO.setBetName(row.getBetName());
+        betDTO.setLastUpdate(row.getLastUpdate());
+        betDTO.setLine(row.getLine());
+        betDTO.setBaseLine(row.getBaseLine());
+        betDTO.setPrice(row.getPrice());
+        betDTO.setBetStatus(row.getBetStatus());
+        return betDTO;
+    }
+}
@@ -0,0 +1,19 @@
+package GInternational.server.l_sport.info.dto.common;
+
+/**
+ * 경기 x 배당 조인 결과 한 row (프리매치, 인플레이 공통)
+ * QueryDSL 프로젝션 DTO 의 lombok getter 로 구현된다.
+ */
+public interface FixtureOddRow {
+
+    String getMatchId();
+    String getMarketId();
+    String getMarketName();
+    String getIdx();
+    String getBetName();
+    String getLine();
+    String getBaseLine();
+    String getPrice();
+    String getLastUpdate();
+    String getBetStatus();
+}
@@ -0,0 +1,27 @@
+package GInternational.server.l_sport.info.dto.feed;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 피드 조회용 경기 row (api_game)
+ */
+@Getter
+@NoArgsConstructor
+public class FeedMatchRowDTO {
+
+    private String matchId;
+    private String sportsName;
+    private String status;
+    private String lastUpdate;
+
+
+    @QueryProjection
+    public FeedMatchRowDTO(String matchId, String sportsName, String status, String lastUpdate) {
+        this.matchId = matchId;
+        this.sportsName = sportsName;
+        this.status = status;
+        this.lastUpdate = lastUpdate;
+    }
+}
@@ -0,0 +1,37 @@
+package GInternational.server.l_sport.info.dto.feed;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 피드 조회용 배당 row (api_odds, api_odds_live 공통)
+ */
+@Getter
+@NoArgsConstructor
+public class FeedOddRowDTO {
+
+    private String idx;
+    private String matchId;
+    private String marketId;
+    private String marketName;
+    private String price;
+    private String betStatus;
+    private String baseLine;
+    private String settlement;
+    private String lastUpdate;
+
+
+    @QueryProjection
+    public FeedOddRowDTO(String idx, String matchId, String marketId, String marketName, String price, String betStatus, String baseLine, String settlement, String lastUpdate) {
+        this.idx = idx;
+        this.matchId = matchId;
+        this.marketId = marketId;
+        this.marketName = marketName;
+        this.price = price;
+        this.betStatus = betStatus;
+        this.baseLine = baseLine;
+        this.settlement = settlement;
+        this.lastUpdate = lastUpdate;
+    }
+}
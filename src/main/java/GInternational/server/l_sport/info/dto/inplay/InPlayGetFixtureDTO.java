@@ -1,5 +1,6 @@
 package GInternational.server.l_sport.info.dto.inplay;
 
+import GInternational.server.l_sport.info.dto.common.FixtureOddRow;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @Setter
 @Getter
-public class InPlayGetFixtureDTO {
+public class InPlayGetFixtureDTO implements FixtureOddRow {
     //[game]
     private String matchId;
     private String leagueName;
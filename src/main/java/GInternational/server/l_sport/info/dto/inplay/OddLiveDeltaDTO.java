@@ -0,0 +1,36 @@
+package GInternational.server.l_sport.info.dto.inplay;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 인플레이 배당 변경분
+ * 최초 감지 시에는 전체 값을 담고, 이후에는 이전 값과 달라진 price/betStatus/baseLine 만 채워서 보낸다.
+ */
+@NoArgsConstructor
+@Setter
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OddLiveDeltaDTO {
+
+    private String idx;
+    private String matchId;
+    private String marketId;
+    private String price;
+    private String betStatus;
+    private String baseLine;
+    private String lastUpdate;
+
+
+    public OddLiveDeltaDTO(String idx, String matchId, String marketId, String price, String betStatus, String baseLine, String lastUpdate) {
+        this.idx = idx;
+        this.matchId = matchId;
+        this.marketId = marketId;
+        this.price = price;
+        this.betStatus = betStatus;
+        this.baseLine = baseLine;
+        this.lastUpdate = lastUpdate;
+    }
+}
@@ -1,5 +1,6 @@
 package GInternational.server.l_sport.info.dto.pre;
 
+import GInternational.server.l_sport.info.dto.common.FixtureOddRow;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,7 +9,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @Setter
 @Getter
-public class PreMatchGetFixtureDTO extends PreMatchGetFixtureResponseDTO {
+public class PreMatchGetFixtureDTO extends PreMatchGetFixtureResponseDTO implements FixtureOddRow {
 
     private String matchId;
     private String leagueName;
@@ -1,12 +1,13 @@
 package GInternational.server.l_sport.info.dto.pre;
 
+import GInternational.server.l_sport.info.dto.common.FixtureGrouping;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Setter
@@ -29,60 +30,30 @@ public class PreMatchGetFixtureResponseDTO {
 
 
     public static List<PreMatchGetFixtureResponseDTO> transform(List<PreMatchGetFixtureDTO> fixtures) {
-        Map<String, List<PreMatchGetFixtureDTO>> groupedFixtures = fixtures.stream().collect(Collectors.groupingBy(PreMatchGetFixtureDTO::getMatchId));
-        return groupedFixtures.entrySet().stream()
-                .map(entry -> {
-                    PreMatchGetFixtureDTO firstFixture = entry.getValue().get(0);
-
-                    List<MarketDTO> markets = entry.getValue().stream()
-                            .filter(fixture -> {
-                                // 종료된 경기 제외
-                                return fixture.getMarketId() != null;
-                            })
-                            .map(fixture -> {
-                                MarketDTO market = new MarketDTO();
-                                market.setMarketId(fixture.getMarketId());
-                                market.setMarketName(fixture.getMarketName());
-
-                                List<OddDTO> bets = entry.getValue().stream()
-                                        .filter(bet -> {
-                                            return bet.getMarketId() != null && bet.getMarketId().equals(fixture.getMarketId());
-                                        })
-                                        .map(bet -> {
-                                            OddDTO betDTO = new OddDTO();
-                                            betDTO.setIdx(bet.getIdx());
-                                            betDTO.setBetName(bet.getBetName());
-                                            betDTO.setLastUpdate(bet.getLastUpdate());
-                                            betDTO.setLine(bet.getLine());
-                                            betDTO.setBaseLine(bet.getBaseLine());
-                                            betDTO.setPrice(bet.getPrice());
-                                            betDTO.setBetStatus(bet.getBetStatus());
-                                            return betDTO;
-                                        })
-                                        .distinct()
-                                        .collect(Collectors.toList());
-
-                                market.setBets(bets);
-                                return market;
-                            })
-                            .distinct()
-                            .collect(Collectors.toList());
-
-                    PreMatchGetFixtureResponseDTO responseDTO = new PreMatchGetFixtureResponseDTO();
-                        responseDTO.setMatchId(firstFixture.getMatchId());
-                        responseDTO.setLeagueName(firstFixture.getLeagueName());
-                        responseDTO.setLocationName(firstFixture.getLocationName());
-                        responseDTO.setSportsName(firstFixture.getSportsName());
-                        responseDTO.setStatus(firstFixture.getStatus());
-                        responseDTO.setAwayName(firstFixture.getAwayName());
-                        responseDTO.setHomeName(firstFixture.getHomeName());
-                        responseDTO.setLeagueId(firstFixture.getLeagueId());
-                        responseDTO.setStartDate(firstFixture.getStartDate());
-                        responseDTO.setIsPreMatch(firstFixture.getIsPreMatch());
-                        responseDTO.setIsLive(firstFixture.getIsLive());
-                        responseDTO.setOdds(markets);
-                        return responseDTO;
-                })
-                .collect(Collectors.toList());
+        Map<String, List<PreMatchGetFixtureDTO>> groupedFixtures = FixtureGrouping.groupBy(fixtures, PreMatchGetFixtureDTO::getMatchId);
+        List<PreMatchGetFixtureResponseDTO> responseList = new ArrayList<>(groupedFixtures.size());
+
+        for (List<PreMatchGetFixtureDTO> matchRows : groupedFixtures.values()) {
+            PreMatchGetFixtureDTO firstFixture = matchRows.get(0);
+
+            // 종료된 경기(marketId 없음) 제외, 마켓별 단일 순회 그룹핑
+            List<MarketDTO> markets = FixtureGrouping.toMarkets(matchRows);
+
+            PreMatchGetFixtureResponseDTO responseDTO = new PreMatchGetFixtureResponseDTO();
+            responseDTO.setMatchId(firstFixture.getMatchId());
+            responseDTO.setLeagueName(firstFixture.getLeagueName());
+            responseDTO.setLocationName(firstFixture.getLocationName());
+            responseDTO.setSportsName(firstFixture.getSportsName());
+            responseDTO.setStatus(firstFixture.getStatus());
+            responseDTO.setAwayName(firstFixture.getAwayName());
+            responseDTO.setHomeName(firstFixture.getHomeName());
+            responseDTO.setLeagueId(firstFixture.getLeagueId());
+            responseDTO.setStartDate(firstFixture.getStartDate());
+            responseDTO.setIsPreMatch(firstFixture.getIsPreMatch());
+            responseDTO.setIsLive(firstFixture.getIsLive());
+            responseDTO.setOdds(markets);
+            responseList.add(responseDTO);
+        }
+        return responseList;
     }
 }
@@ -1,5 +1,6 @@
 package GInternational.server.l_sport.info.dto.pre;
 
+import GInternational.server.l_sport.info.dto.common.FixtureGrouping;
 import GInternational.server.l_sport.info.dto.results.GameResultListDTO;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,7 +10,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Setter
@@ -41,10 +41,10 @@ public class PreMatchGetSportResponseDTO {
 
     public static List<PreMatchGetSportResponseDTO> transform(List<PreMatchGetFixtureDTO> preMatchFixtures) {
         // fixtureId와 marketId를 기준으로 그룹화
-        Map<String, Map<String,Map<String, List<PreMatchGetFixtureDTO>>>> groupedByFixtureAndMarket = preMatchFixtures.stream().
-                collect(Collectors.groupingBy(PreMatchGetFixtureDTO::getMatchId,
-                        Collectors.groupingBy(PreMatchGetFixtureDTO::getMarketId,
-                                Collectors.groupingBy(PreMatchGetFixtureDTO::getBaseLine))));
+        Map<String, Map<String,Map<String, List<PreMatchGetFixtureDTO>>>> groupedByFixtureAndMarket = FixtureGrouping.groupByMatchMarketAndBaseLine(preMatchFixtures,
+                PreMatchGetFixtureDTO::getMatchId,
+                PreMatchGetFixtureDTO::getMarketId,
+                PreMatchGetFixtureDTO::getBaseLine);
         List<PreMatchGetSportResponseDTO> responseList = new ArrayList<>();
 
 
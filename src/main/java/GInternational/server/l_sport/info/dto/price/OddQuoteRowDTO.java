@@ -0,0 +1,32 @@
+package GInternational.server.l_sport.info.dto.price;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배당 가격 검증용 row (api_odds, api_odds_live 공통)
+ * 정산된 배당을 거절할 수 있도록 settlement 를 함께 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+public class OddQuoteRowDTO {
+
+    private String idx;
+    private String matchId;
+    private String price;
+    private String betStatus;
+    private String baseLine;
+    private String settlement;
+    private String lastUpdate;
+
+
+    public OddQuoteRowDTO(String idx, String matchId, String price, String betStatus, String baseLine, String settlement, String lastUpdate) {
+        this.idx = idx;
+        this.matchId = matchId;
+        this.price = price;
+        this.betStatus = betStatus;
+        this.baseLine = baseLine;
+        this.settlement = settlement;
+        this.lastUpdate = lastUpdate;
+    }
+}
@@ -1,5 +1,6 @@
 package GInternational.server.l_sport.info.dto.results;
 
+import GInternational.server.l_sport.info.dto.common.FixtureGrouping;
 import GInternational.server.l_sport.info.dto.pre.OddDTO;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,6 @@ import java.security.cert.CertSelector;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Setter
@@ -42,10 +42,10 @@ public class GameResultListResponseDTO {
 
 
     public static List<GameResultListResponseDTO> transform(List<GameResultListDTO> preMatchFixtures) {
-        Map<String, Map<String, Map<String, List<GameResultListDTO>>>> groupedByFixtureMarketAndBaseLine = preMatchFixtures.stream()
-                .collect(Collectors.groupingBy(GameResultListDTO::getMatchId,
-                        Collectors.groupingBy(GameResultListDTO::getMarketId,
-                                Collectors.groupingBy(GameResultListDTO::getBaseLine))));
+        Map<String, Map<String, Map<String, List<GameResultListDTO>>>> groupedByFixtureMarketAndBaseLine = FixtureGrouping.groupByMatchMarketAndBaseLine(preMatchFixtures,
+                GameResultListDTO::getMatchId,
+                GameResultListDTO::getMarketId,
+                GameResultListDTO::getBaseLine);
 
         List<GameResultListResponseDTO> responseList = new ArrayList<>();
 
@@ -14,7 +14,8 @@ import javax.persistence.*;
         @Index(name = "status", columnList = "status"),
         @Index(name = "start_date", columnList = "start_date"),
         @Index(name = "sports_id", columnList = "sports_id"),
-        @Index(name = "league_id", columnList = "league_id")})
+        @Index(name = "league_id", columnList = "league_id"),
+        @Index(name = "last_update", columnList = "last_update, match_id")})
 public class Match {
 
         @Id
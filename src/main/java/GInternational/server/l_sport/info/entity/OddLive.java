@@ -16,7 +16,9 @@ import javax.persistence.*;
         @Index(name = "idx", columnList = "idx"),
         @Index(name = "match_id", columnList = "match_id"),
         @Index(name = "market_id", columnList = "market_id"),
-        @Index(name = "bet_status", columnList = "bet_status")})
+        @Index(name = "bet_status", columnList = "bet_status"),
+        @Index(name = "last_update", columnList = "last_update, idx"),
+        @Index(name = "is_modified", columnList = "is_modified, settlement")})
 public class OddLive {
 
     @Id
@@ -0,0 +1,237 @@
+package GInternational.server.l_sport.info.feed;
+
+import GInternational.server.l_sport.info.dto.feed.FeedMatchRowDTO;
+import GInternational.server.l_sport.info.dto.feed.FeedOddRowDTO;
+import GInternational.server.l_sport.info.repository.FixtureRepository;
+import GInternational.server.l_sport.info.repository.OddLiveRepository;
+import GInternational.server.l_sport.info.repository.OddRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * L-Sports 변경 피드
+ * api_odds / api_odds_live / api_game 을 (last_update, key) 워터마크 이후만 페이지 단위로 읽고,
+ * 이전에 본 값과 비교하여 타입별 변경 이벤트(OddChangesEvent, MatchStatusChangesEvent)를 발행한다.
+ * 캐시, 정산, 푸시 채널은 테이블을 다시 조회하지 않고 이 이벤트를 구독한다.
+ *
+ * 워터마크는 기동 시점의 MAX(last_update) 부터 시작하며, 같은 초(last_update)에 들어온 row 를 놓치지 않도록
+ * 매 조회마다 워터마크 시각의 row 를 다시 읽고 이전 값과 비교해 중복을 걸러낸다.
+ *
+ * 이전 값은 워터마크와 무관하게 키별로 유지하며(오래 변경이 없던 배당도 다음 변경 때 비교 가능),
+ * 경기가 종료(3, 4, 7)되면 해당 경기의 상태를 지우고, 그 외에는 마지막 접근 후 expire-hours 가 지나거나 maximum-size 를 넘으면 지운다.
+ */
+@Service
+public class LSportsChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(LSportsChangeFeed.class);
+    private static final Set<String> SETTLEMENTS = Set.of("1", "2", "3", "-1");
+    private static final Set<String> ENDED_STATUSES = Set.of("3", "4", "7");
+
+    private final OddRepository oddRepository;
+    private final OddLiveRepository oddLiveRepository;
+    private final FixtureRepository fixtureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long batchSize;
+    private final int maxPages;
+
+    // 스케줄러 스레드에서만 접근한다
+    private final Cursor<FeedOddRowDTO> preMatchCursor;
+    private final Cursor<FeedOddRowDTO> inPlayCursor;
+    private final Cursor<FeedMatchRowDTO> matchCursor;
+
+
+    public LSportsChangeFeed(OddRepository oddRepository,
+                             OddLiveRepository oddLiveRepository,
+                             FixtureRepository fixtureRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${lsports.feed.batch-size:2000}") long batchSize,
+                             @Value("${lsports.feed.max-pages:10}") int maxPages,
+                             @Value("${lsports.feed.state.maximum-size:1000000}") long stateMaximumSize,
+                             @Value("${lsports.feed.state.expire-hours:6}") long stateExpireHours) {
+        this.oddRepository = oddRepository;
+        this.oddLiveRepository = oddLiveRepository;
+        this.fixtureRepository = fixtureRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxPages = maxPages;
+        this.preMatchCursor = new Cursor<>(stateMaximumSize, stateExpireHours);
+        this.inPlayCursor = new Cursor<>(stateMaximumSize, stateExpireHours);
+        this.matchCursor = new Cursor<>(stateMaximumSize, stateExpireHours);
+    }
+
+
+    @Scheduled(fixedDelayString = "${lsports.feed.poll-ms:1000}")
+    public void poll() {
+        try {
+            publishOddChanges(OddSource.PRE_MATCH, preMatchCursor, oddRepository::searchChangesFrom, oddRepository::findMaxLastUpdate);
+            publishOddChanges(OddSource.IN_PLAY, inPlayCursor, oddLiveRepository::searchChangesFrom, oddLiveRepository::findMaxLastUpdate);
+            publishMatchChanges();
+        } catch (RuntimeException e) {
+            // 워터마크는 성공한 구간까지만 전진하므로 다음 주기에 이어서 읽는다
+            logger.error("L-Sports change feed poll failed", e);
+        }
+    }
+
+
+    private void publishOddChanges(OddSource source, Cursor<FeedOddRowDTO> cursor,
+                                   ChangeLoader<FeedOddRowDTO> loader, Supplier<String> maxLastUpdate) {
+        List<OddChange> changes = new ArrayList<>();
+        for (Map.Entry<FeedOddRowDTO, FeedOddRowDTO> entry : read(cursor, loader, maxLastUpdate, FeedOddRowDTO::getIdx, FeedOddRowDTO::getLastUpdate)) {
+            OddChange change = toOddChange(entry.getKey(), entry.getValue());
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OddChangesEvent(source, Collections.unmodifiableList(changes)));
+        }
+    }
+
+
+    private void publishMatchChanges() {
+        List<MatchStatusChange> changes = new ArrayList<>();
+        Set<String> endedMatchIds = new HashSet<>();
+        for (Map.Entry<FeedMatchRowDTO, FeedMatchRowDTO> entry : read(matchCursor, fixtureRepository::searchMatchChangesFrom,
+                fixtureRepository::findMaxMatchLastUpdate, FeedMatchRowDTO::getMatchId, FeedMatchRowDTO::getLastUpdate)) {
+            FeedMatchRowDTO previous = entry.getKey();
+            FeedMatchRowDTO current = entry.getValue();
+            if (previous == null || !Objects.equals(previous.getStatus(), current.getStatus())) {
+                changes.add(new MatchStatusChange(current.getMatchId(), current.getSportsName(), current.getStatus(),
+                        previous == null ? null : previous.getStatus(), current.getLastUpdate()));
+            }
+            if (ENDED_STATUSES.contains(current.getStatus())) {
+                endedMatchIds.add(current.getMatchId());
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new MatchStatusChangesEvent(Collections.unmodifiableList(changes)));
+        }
+        if (!endedMatchIds.isEmpty()) {
+            evictEndedMatches(endedMatchIds);
+        }
+    }
+
+
+    /**
+     * 종료된 경기의 비교 상태 제거
+     * 이후 들어오는 결과 row 는 이전 값 없이(REFRESHED) 비교되며, 결과(SETTLED)는 그대로 감지된다.
+     */
+    private void evictEndedMatches(Set<String> matchIds) {
+        preMatchCursor.lastSeen.asMap().values().removeIf(row -> matchIds.contains(row.getMatchId()));
+        inPlayCursor.lastSeen.asMap().values().removeIf(row -> matchIds.contains(row.getMatchId()));
+        matchCursor.lastSeen.invalidateAll(matchIds);
+    }
+
+
+    /**
+     * 워터마크 이후 row 를 페이지 단위로 읽어 (이전 값, 현재 값) 목록으로 반환
+     * 이전 값이 현재 값과 완전히 같은 row(워터마크 시각 재조회분)는 제외한다.
+     */
+    private <T> List<Map.Entry<T, T>> read(Cursor<T> cursor, ChangeLoader<T> loader, Supplier<String> maxLastUpdate,
+                                          Function<T, String> key, Function<T, String> lastUpdate) {
+        if (cursor.watermark == null) {
+            String max = maxLastUpdate.get();
+            cursor.watermark = max == null ? "" : max;
+            return Collections.emptyList();
+        }
+
+        List<Map.Entry<T, T>> changed = new ArrayList<>();
+        String fromLastUpdate = cursor.watermark;
+        String fromKey = "";
+        for (int page = 0; page < maxPages; page++) {
+            List<T> rows = loader.load(fromLastUpdate, fromKey, batchSize);
+            for (T row : rows) {
+                String rowKey = key.apply(row);
+                T previous = cursor.lastSeen.getIfPresent(rowKey);
+                cursor.lastSeen.put(rowKey, row);
+                if (previous == null || !sameRow(previous, row)) {
+                    changed.add(new AbstractMap.SimpleImmutableEntry<>(previous, row));
+                }
+            }
+            if (!rows.isEmpty()) {
+                T last = rows.get(rows.size() - 1);
+                fromLastUpdate = lastUpdate.apply(last);
+                fromKey = key.apply(last);
+            }
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        cursor.watermark = fromLastUpdate;
+        return changed;
+    }
+
+
+    private static boolean sameRow(Object previous, Object current) {
+        if (previous instanceof FeedOddRowDTO) {
+            FeedOddRowDTO p = (FeedOddRowDTO) previous;
+            FeedOddRowDTO c = (FeedOddRowDTO) current;
+            return Objects.equals(p.getPrice(), c.getPrice())
+                    && Objects.equals(p.getBetStatus(), c.getBetStatus())
+                    && Objects.equals(p.getBaseLine(), c.getBaseLine())
+                    && Objects.equals(p.getSettlement(), c.getSettlement());
+        }
+        FeedMatchRowDTO p = (FeedMatchRowDTO) previous;
+        FeedMatchRowDTO c = (FeedMatchRowDTO) current;
+        return Objects.equals(p.getStatus(), c.getStatus()) && Objects.equals(p.getLastUpdate(), c.getLastUpdate());
+    }
+
+
+    private static OddChange toOddChange(FeedOddRowDTO previous, FeedOddRowDTO current) {
+        EnumSet<OddChangeType> types = EnumSet.noneOf(OddChangeType.class);
+        if (previous == null) {
+            types.add(OddChangeType.REFRESHED);
+        } else {
+            if (!Objects.equals(previous.getPrice(), current.getPrice())) {
+                types.add(OddChangeType.PRICE_CHANGED);
+            }
+            if (!Objects.equals(previous.getBaseLine(), current.getBaseLine())) {
+                types.add(OddChangeType.BASE_LINE_CHANGED);
+            }
+            if (!Objects.equals(previous.getBetStatus(), current.getBetStatus())) {
+                if ("2".equals(current.getBetStatus())) {
+                    types.add(OddChangeType.SUSPENDED);
+                } else if ("1".equals(current.getBetStatus())) {
+                    types.add(OddChangeType.REOPENED);
+                } else {
+                    types.add(OddChangeType.BET_STATUS_CHANGED);
+                }
+            }
+        }
+        if (SETTLEMENTS.contains(current.getSettlement())
+                && (previous == null || !Objects.equals(previous.getSettlement(), current.getSettlement()))) {
+            types.add(OddChangeType.SETTLED);
+        }
+        return types.isEmpty() ? null : new OddChange(current, previous, types);
+    }
+
+
+    @FunctionalInterface
+    private interface ChangeLoader<T> {
+        List<T> load(String lastUpdate, String key, long limit);
+    }
+
+
+    private static final class Cursor<T> {
+        private String watermark;
+        private final Cache<String, T> lastSeen;
+
+        private Cursor(long maximumSize, long expireHours) {
+            this.lastSeen = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterAccess(Duration.ofHours(expireHours))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package GInternational.server.l_sport.info.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경기 상태 변경 (1:경기전, 2:진행중, 3:종료 ...)
+ * previousStatus 는 최초 감지인 경우 null 이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MatchStatusChange {
+
+    private final String matchId;
+    private final String sportsName;
+    private final String status;
+    private final String previousStatus;
+    private final String lastUpdate;
+}
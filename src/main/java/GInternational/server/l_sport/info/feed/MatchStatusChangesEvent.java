@@ -0,0 +1,13 @@
+package GInternational.server.l_sport.info.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class MatchStatusChangesEvent {
+
+    private final List<MatchStatusChange> changes;
+}
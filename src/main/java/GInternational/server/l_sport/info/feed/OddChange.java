@@ -0,0 +1,50 @@
+package GInternational.server.l_sport.info.feed;
+
+import GInternational.server.l_sport.info.dto.feed.FeedOddRowDTO;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 배당 1건의 변경 내용 (불변)
+ * previous* 값은 최초 감지(REFRESHED)인 경우 null 이다.
+ */
+@Getter
+public class OddChange {
+
+    private final String idx;
+    private final String matchId;
+    private final String marketId;
+    private final String marketName;
+    private final String price;
+    private final String previousPrice;
+    private final String betStatus;
+    private final String previousBetStatus;
+    private final String baseLine;
+    private final String settlement;
+    private final String lastUpdate;
+    private final Set<OddChangeType> types;
+
+
+    OddChange(FeedOddRowDTO current, FeedOddRowDTO previous, EnumSet<OddChangeType> types) {
+        this.idx = current.getIdx();
+        this.matchId = current.getMatchId();
+        this.marketId = current.getMarketId();
+        this.marketName = current.getMarketName();
+        this.price = current.getPrice();
+        this.previousPrice = previous == null ? null : previous.getPrice();
+        this.betStatus = current.getBetStatus();
+        this.previousBetStatus = previous == null ? null : previous.getBetStatus();
+        this.baseLine = current.getBaseLine();
+        this.settlement = current.getSettlement();
+        this.lastUpdate = current.getLastUpdate();
+        this.types = Collections.unmodifiableSet(types);
+    }
+
+
+    public boolean is(OddChangeType type) {
+        return types.contains(type);
+    }
+}
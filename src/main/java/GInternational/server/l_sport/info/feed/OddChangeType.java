@@ -0,0 +1,11 @@
+package GInternational.server.l_sport.info.feed;
+
+public enum OddChangeType {
+    REFRESHED,          // 이전 값을 알 수 없는 최초 감지 (전체 값 전달)
+    PRICE_CHANGED,      // 배당률 변경
+    BASE_LINE_CHANGED,  // 기준점 변경
+    SUSPENDED,          // bet_status 2 (베팅 중지)
+    REOPENED,           // bet_status 1 (베팅 재개)
+    BET_STATUS_CHANGED, // 그 외 bet_status 변경 (3 : 정산 등)
+    SETTLED             // settlement 값 설정 (1,2,3,-1)
+}
@@ -0,0 +1,18 @@
+package GInternational.server.l_sport.info.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 번의 피드 조회에서 감지된 배당 변경 묶음
+ * 리스너는 피드 스케줄러 스레드에서 동기 호출되므로 무거운 작업은 별도로 넘겨야 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OddChangesEvent {
+
+    private final OddSource source;
+    private final List<OddChange> changes;
+}
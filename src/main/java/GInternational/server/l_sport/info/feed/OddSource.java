@@ -0,0 +1,9 @@
+package GInternational.server.l_sport.info.feed;
+
+/**
+ * 배당 출처 (api_odds : 프리매치, api_odds_live : 인플레이)
+ */
+public enum OddSource {
+    PRE_MATCH,
+    IN_PLAY
+}
@@ -0,0 +1,102 @@
+package GInternational.server.l_sport.info.price;
+
+import GInternational.server.l_sport.info.dto.price.OddQuoteRowDTO;
+import GInternational.server.l_sport.info.feed.OddChange;
+import GInternational.server.l_sport.info.feed.OddChangesEvent;
+import GInternational.server.l_sport.info.feed.OddSource;
+import GInternational.server.l_sport.info.repository.OddLiveRepository;
+import GInternational.server.l_sport.info.repository.OddRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 배당 가격/상태 캐시 (베팅 접수 시 가격 검증용)
+ * 변경 피드(LSportsChangeFeed)의 배당 변경 이벤트로 갱신하므로, 한 번 적재된 배당은 DB 를 다시 조회하지 않고 최신 값을 유지한다.
+ * 피드는 기동 이후 변경분만 전달하므로 캐시에 없는 배당은 idx 목록을 한 번에 조회해서 적재한다.
+ *
+ * 피드와 조회가 같은 배당을 동시에 적재하는 경우 last_update 가 더 최근인 값만 남긴다.
+ */
+@Component
+public class OddPriceCache {
+
+    private final OddRepository oddRepository;
+    private final OddLiveRepository oddLiveRepository;
+    private final Map<OddSource, Cache<String, OddQuote>> caches = new EnumMap<>(OddSource.class);
+
+
+    public OddPriceCache(OddRepository oddRepository,
+                         OddLiveRepository oddLiveRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${lsports.price-cache.maximum-size:500000}") long maximumSize,
+                         @Value("${lsports.price-cache.expire-minutes:360}") long expireMinutes) {
+        this.oddRepository = oddRepository;
+        this.oddLiveRepository = oddLiveRepository;
+        for (OddSource source : OddSource.values()) {
+            Cache<String, OddQuote> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "lsports.price." + source.name().toLowerCase());
+            caches.put(source, cache);
+        }
+    }
+
+
+    /**
+     * idx 별 현재 배당 (캐시에 없는 idx 는 한 번의 IN 조회로 적재하며, DB 에도 없으면 결과에서 빠진다)
+     */
+    public Map<String, OddQuote> getAll(OddSource source, Collection<String> idxs) {
+        Cache<String, OddQuote> cache = caches.get(source);
+        Map<String, OddQuote> quotes = new HashMap<>(cache.getAllPresent(idxs));
+        if (quotes.size() == idxs.size()) {
+            return quotes;
+        }
+        List<String> missing = new ArrayList<>();
+        for (String idx : idxs) {
+            if (!quotes.containsKey(idx)) {
+                missing.add(idx);
+            }
+        }
+        List<OddQuoteRowDTO> rows = source == OddSource.IN_PLAY
+                ? oddLiveRepository.searchQuotesByIdx(missing)
+                : oddRepository.searchQuotesByIdx(missing);
+        for (OddQuoteRowDTO row : rows) {
+            OddQuote quote = new OddQuote(row.getIdx(), row.getMatchId(), row.getPrice(), row.getBetStatus(),
+                    row.getBaseLine(), row.getSettlement(), row.getLastUpdate());
+            quotes.put(row.getIdx(), put(cache, quote));
+        }
+        return quotes;
+    }
+
+
+    @EventListener
+    public void onOddChanges(OddChangesEvent event) {
+        Cache<String, OddQuote> cache = caches.get(event.getSource());
+        for (OddChange change : event.getChanges()) {
+            put(cache, new OddQuote(change.getIdx(), change.getMatchId(), change.getPrice(), change.getBetStatus(),
+                    change.getBaseLine(), change.getSettlement(), change.getLastUpdate()));
+        }
+    }
+
+
+    private static OddQuote put(Cache<String, OddQuote> cache, OddQuote quote) {
+        return cache.asMap().merge(quote.getIdx(), quote, (cached, loaded) -> isNewer(loaded, cached) ? loaded : cached);
+    }
+
+
+    private static boolean isNewer(OddQuote candidate, OddQuote current) {
+        if (current.getLastUpdate() == null) {
+            return true;
+        }
+        return candidate.getLastUpdate() != null && candidate.getLastUpdate().compareTo(current.getLastUpdate()) >= 0;
+    }
+}
@@ -0,0 +1,29 @@
+package GInternational.server.l_sport.info.price;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 배당 1건의 현재 가격/상태 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class OddQuote {
+
+    private static final Set<String> SETTLEMENTS = Set.of("1", "2", "3", "-1");
+
+    private final String idx;
+    private final String matchId;
+    private final String price;       // 배당률
+    private final String betStatus;   // "1" : 베팅가능, "2" : 베팅중지
+    private final String baseLine;
+    private final String settlement;  // 정산 결과가 있으면 정산된 배당
+    private final String lastUpdate;
+
+
+    public boolean isOpen() {
+        return "1".equals(betStatus) && (settlement == null || !SETTLEMENTS.contains(settlement));
+    }
+}
@@ -6,6 +6,7 @@ package GInternational.server.l_sport.info.repository;
 import GInternational.server.l_sport.batch.job.dto.edit.EditMatchResultDTO;
 import GInternational.server.l_sport.batch.job.dto.order.MatchScoreDTO;
 import GInternational.server.l_sport.info.dto.admin.AdminPreMatchDTO;
+import GInternational.server.l_sport.info.dto.feed.FeedMatchRowDTO;
 import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultListDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultResponseDTO;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface FixtureRepositoryCustom {
@@ -25,6 +27,9 @@ public interface FixtureRepositoryCustom {
     List<PreMatchGetFixtureDTO> getPreMatchFixturesDetail(String matchId,String type,String startDate,String endDate);
     List<PreMatchGetFixtureDTO> getPreMatchFixtures(String sportName,String startDate, String endDate);
 
+//    프리매치 스냅샷 적재용 (구간 내 전체 종목, 지정 마켓)
+    List<PreMatchGetFixtureDTO> getPreMatchSnapshot(Collection<String> marketNames,String startDate, String endDate);
+
 //    인플레이
     List<InPlayGetFixtureDTO> getInPlayFixturesDetail(String matchId,String type);
     List<InPlayGetFixtureDTO> getInPlayFixtures(String sportsName);
@@ -48,6 +53,12 @@ public interface FixtureRepositoryCustom {
     List<GameResultListDTO> searchByEndedMatchData(Long type,String endDate,String startDate);
 
 
+    //변경 피드 : (last_update, match_id) 이후 경기를 순서대로 limit 건 조회
+    List<FeedMatchRowDTO> searchMatchChangesFrom(String lastUpdate, String matchId, long limit);
+
+    String findMaxMatchLastUpdate();
+
+
     Page<AdminPreMatchDTO> searchByAdminMatch(String type,String status,String sportsName,String leagueName, Pageable pageable);
 
 
@@ -8,6 +8,7 @@ import GInternational.server.api.entity.QBetHistory;
 import GInternational.server.l_sport.batch.job.dto.edit.EditMatchResultDTO;
 import GInternational.server.l_sport.batch.job.dto.order.MatchScoreDTO;
 import GInternational.server.l_sport.info.dto.admin.AdminPreMatchDTO;
+import GInternational.server.l_sport.info.dto.feed.FeedMatchRowDTO;
 import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultListDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultResponseDTO;
@@ -37,6 +38,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 
 import static GInternational.server.api.entity.QBetHistory.*;
@@ -96,6 +98,41 @@ public class FixtureRepositoryImpl implements FixtureRepositoryCustom {
 
 
 
+    //프리매치 스냅샷 적재
+    @Override
+    public List<PreMatchGetFixtureDTO> getPreMatchSnapshot(Collection<String> marketNames,String startDate,String endDate) {
+        return queryFactory.select(Projections.constructor(PreMatchGetFixtureDTO.class,
+                        match.matchId,
+                        match.leagueName,
+                        match.locationName,
+                        match.sportsName,
+                        match.status,
+                        match.homeName,
+                        match.awayName,
+                        match.leagueId,
+                        match.startDate,
+                        odd.marketId,
+                        odd.marketName,
+                        odd.idx,
+                        odd.betName,
+                        odd.line,
+                        odd.baseLine,
+                        odd.price,
+                        odd.lastUpdate,
+                        odd.betStatus,
+                        match.isPrematch,
+                        match.isLive))
+                .from(match)
+                .join(odd).on(odd.matchId.eq(match.matchId))
+                .where((match.startDate.between(startDate, endDate))
+                        .and(odd.marketName.in(marketNames))
+                        .and(match.status.in("1","9"))
+                        .and(odd.betStatus.notIn("3")))
+                .fetch();
+    }
+
+
+
     //더보기
     @Override
     public List<PreMatchGetFixtureDTO> getPreMatchFixturesDetail(String matchId,String type,String startDate,String endDate) {
@@ -923,6 +960,31 @@ public class FixtureRepositoryImpl implements FixtureRepositoryCustom {
 
 
 
+    //변경 피드
+    @Override
+    public List<FeedMatchRowDTO> searchMatchChangesFrom(String lastUpdate, String matchId, long limit) {
+        return queryFactory.select(Projections.constructor(FeedMatchRowDTO.class,
+                        match.matchId,
+                        match.sportsName,
+                        match.status,
+                        match.lastUpdate))
+                .from(match)
+                .where(match.lastUpdate.gt(lastUpdate)
+                        .or(match.lastUpdate.eq(lastUpdate).and(match.matchId.gt(matchId))))
+                .orderBy(match.lastUpdate.asc(), match.matchId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+
+    @Override
+    public String findMaxMatchLastUpdate() {
+        return queryFactory.select(match.lastUpdate.max())
+                .from(match)
+                .fetchOne();
+    }
+
+
     @Override
     public Page<AdminPreMatchDTO> searchByAdminMatch(String type,String status,String sportsName,String leagueName, Pageable pageable) {
 
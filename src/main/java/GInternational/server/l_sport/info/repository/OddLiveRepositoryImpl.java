@@ -1,6 +1,8 @@
 package GInternational.server.l_sport.info.repository;
 
+import GInternational.server.l_sport.info.dto.feed.FeedOddRowDTO;
 import GInternational.server.l_sport.info.dto.pre.OddResponseDTO;
+import GInternational.server.l_sport.info.dto.price.OddQuoteRowDTO;
 import GInternational.server.l_sport.info.entity.QOddLive;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -37,4 +39,49 @@ public class OddLiveRepositoryImpl implements OddLiveRepositoryCustom{
                 .where(oddLive.idx.in(list))
                 .fetch();
     }
+
+
+    @Override
+    public List<OddQuoteRowDTO> searchQuotesByIdx(List<String> idxs) {
+        return queryFactory.select(Projections.constructor(OddQuoteRowDTO.class,
+                        oddLive.idx,
+                        oddLive.matchId,
+                        oddLive.price,
+                        oddLive.betStatus,
+                        oddLive.baseLine,
+                        oddLive.settlement,
+                        oddLive.lastUpdate))
+                .from(oddLive)
+                .where(oddLive.idx.in(idxs))
+                .fetch();
+    }
+
+
+    @Override
+    public List<FeedOddRowDTO> searchChangesFrom(String lastUpdate, String idx, long limit) {
+        return queryFactory.select(Projections.constructor(FeedOddRowDTO.class,
+                        oddLive.idx,
+                        oddLive.matchId,
+                        oddLive.marketId,
+                        oddLive.marketName,
+                        oddLive.price,
+                        oddLive.betStatus,
+                        oddLive.baseLine,
+                        oddLive.settlement,
+                        oddLive.lastUpdate))
+                .from(oddLive)
+                .where(oddLive.lastUpdate.gt(lastUpdate)
+                        .or(oddLive.lastUpdate.eq(lastUpdate).and(oddLive.idx.gt(idx))))
+                .orderBy(oddLive.lastUpdate.asc(), oddLive.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+
+    @Override
+    public String findMaxLastUpdate() {
+        return queryFactory.select(oddLive.lastUpdate.max())
+                .from(oddLive)
+                .fetchOne();
+    }
 }
@@ -1,6 +1,8 @@
 package GInternational.server.l_sport.info.repository;
 
+import GInternational.server.l_sport.info.dto.feed.FeedOddRowDTO;
 import GInternational.server.l_sport.info.dto.pre.OddResponseDTO;
+import GInternational.server.l_sport.info.dto.price.OddQuoteRowDTO;
 
 import java.util.List;
 
@@ -8,4 +10,12 @@ public interface OddRepositoryCustom {
 
 
     List<OddResponseDTO> searchByIdx(List<String> list);
+
+    //배당 가격 검증 : idx 목록의 가격/상태/정산 결과 조회
+    List<OddQuoteRowDTO> searchQuotesByIdx(List<String> idxs);
+
+    //변경 피드 : (last_update, idx) 이후 row 를 순서대로 limit 건 조회
+    List<FeedOddRowDTO> searchChangesFrom(String lastUpdate, String idx, long limit);
+
+    String findMaxLastUpdate();
 }
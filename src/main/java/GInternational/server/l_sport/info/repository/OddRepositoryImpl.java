@@ -1,7 +1,9 @@
 package GInternational.server.l_sport.info.repository;
 
 
+import GInternational.server.l_sport.info.dto.feed.FeedOddRowDTO;
 import GInternational.server.l_sport.info.dto.pre.OddResponseDTO;
+import GInternational.server.l_sport.info.dto.price.OddQuoteRowDTO;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -36,4 +38,49 @@ public class OddRepositoryImpl implements OddRepositoryCustom{
                 .where(odd.idx.in(list))
                 .fetch();
     }
+
+
+    @Override
+    public List<OddQuoteRowDTO> searchQuotesByIdx(List<String> idxs) {
+        return queryFactory.select(Projections.constructor(OddQuoteRowDTO.class,
+                        odd.idx,
+                        odd.matchId,
+                        odd.price,
+                        odd.betStatus,
+                        odd.baseLine,
+                        odd.settlement,
+                        odd.lastUpdate))
+                .from(odd)
+                .where(odd.idx.in(idxs))
+                .fetch();
+    }
+
+
+    @Override
+    public List<FeedOddRowDTO> searchChangesFrom(String lastUpdate, String idx, long limit) {
+        return queryFactory.select(Projections.constructor(FeedOddRowDTO.class,
+                        odd.idx,
+                        odd.matchId,
+                        odd.marketId,
+                        odd.marketName,
+                        odd.price,
+                        odd.betStatus,
+                        odd.baseLine,
+                        odd.settlement,
+                        odd.lastUpdate))
+                .from(odd)
+                .where(odd.lastUpdate.gt(lastUpdate)
+                        .or(odd.lastUpdate.eq(lastUpdate).and(odd.idx.gt(idx))))
+                .orderBy(odd.lastUpdate.asc(), odd.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+
+    @Override
+    public String findMaxLastUpdate() {
+        return queryFactory.select(odd.lastUpdate.max())
+                .from(odd)
+                .fetchOne();
+    }
 }
@@ -1,5 +1,6 @@
 package GInternational.server.l_sport.info.service;
 
+import GInternational.server.common.config.ReadReplica;
 import GInternational.server.l_sport.info.dto.admin.AdminPreMatchDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultResponseDTO;
 import GInternational.server.l_sport.info.repository.FixtureRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
 @Service
+@ReadReplica
 @RequiredArgsConstructor
 public class AdminMatchService {
 
@@ -2,6 +2,7 @@ package GInternational.server.l_sport.info.service;
 
 import GInternational.server.api.entity.Account;
 import GInternational.server.api.vo.AppStatus;
+import GInternational.server.common.config.ReadReplica;
 import GInternational.server.l_sport.info.dto.count.PreMatchGameCountResponseDTO;
 import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
 import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureResponseDTO;
@@ -10,6 +11,8 @@ import GInternational.server.l_sport.info.dto.results.GameResultListDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultListResponseDTO;
 import GInternational.server.l_sport.info.dto.results.GameResultResponseDTO;
 import GInternational.server.l_sport.info.repository.FixtureRepository;
+import GInternational.server.l_sport.info.snapshot.PreMatchSnapshot;
+import GInternational.server.l_sport.info.snapshot.PreMatchSnapshotService;
 
 import GInternational.server.security.auth.PrincipalDetails;
 import com.querydsl.core.Tuple;
@@ -26,10 +29,12 @@ import java.util.stream.Collectors;
 
 
 @Service
+@ReadReplica
 @RequiredArgsConstructor
 public class PreMatchFixtureService {
 
     private final FixtureRepository fixtureRepository;
+    private final PreMatchSnapshotService preMatchSnapshotService;
 
 
     public List<PreMatchGetFixtureDTO> getPreMatchFixturesDetail(String matchId,String type) {
@@ -54,7 +59,8 @@ public class PreMatchFixtureService {
         DateTimeFormatter endFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
         String formattedEndTime = endDateDateTime.format(endFormatter);
 
-        List<PreMatchGetFixtureDTO> preMatchFixtures = fixtureRepository.getPreMatchFixtures(sportName,formattedStartTime,formattedEndTime);
+        List<PreMatchGetFixtureDTO> preMatchFixtures = preMatchSnapshotService.current(formattedStartTime, formattedEndTime)
+                .find(sportName, PreMatchSnapshot.MAIN_MARKETS, null, false, formattedStartTime, formattedEndTime);
         return PreMatchGetFixtureResponseDTO.transform(preMatchFixtures);
     }
 
@@ -68,6 +74,19 @@ public class PreMatchFixtureService {
         DateTimeFormatter endFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
         String formattedEndTime = endDateDateTime.format(endFormatter);
 
+        Set<String> markets = PreMatchSnapshot.marketsOf(type);
+        if (markets != null) {
+            // 프리매치 계열은 스냅샷에서 종목별 배당 수를 집계한다.
+            List<PreMatchGetFixtureDTO> rows = preMatchSnapshotService.current(formattedStartTime, formattedEndTime)
+                    .find(null, markets, PreMatchSnapshot.leaguesOf(type), true, formattedStartTime, formattedEndTime);
+            return rows.stream()
+                    .collect(Collectors.groupingBy(PreMatchGetFixtureDTO::getSportsName, Collectors.counting()))
+                    .entrySet().stream()
+                    .map(entry -> new PreMatchGameCountResponseDTO(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparing(PreMatchGameCountResponseDTO::getCount, Comparator.reverseOrder()))
+                    .collect(Collectors.toMap(PreMatchGameCountResponseDTO::getSportsName, dto -> dto, (dto1, dto2) -> dto2, LinkedHashMap::new));
+        }
+
         List<Tuple> queryResult = fixtureRepository.getGameCount(type,formattedStartTime,formattedEndTime);
 
         return queryResult.stream()
@@ -96,7 +115,14 @@ public class PreMatchFixtureService {
         DateTimeFormatter endFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
         String formattedEndTime = endDateDateTime.format(endFormatter);
 
-        List<PreMatchGetFixtureDTO> preMatchFixtures = fixtureRepository.getSport(type,formattedStartTime, formattedEndTime);
+        Set<String> markets = PreMatchSnapshot.marketsOf(type);
+        List<PreMatchGetFixtureDTO> preMatchFixtures;
+        if (markets != null && type != 2) {
+            preMatchFixtures = preMatchSnapshotService.current(formattedStartTime, formattedEndTime)
+                    .find(null, markets, PreMatchSnapshot.leaguesOf(type), true, formattedStartTime, formattedEndTime);
+        } else {
+            preMatchFixtures = fixtureRepository.getSport(type,formattedStartTime, formattedEndTime);
+        }
         return PreMatchGetSportResponseDTO.transform(preMatchFixtures);
     }
 
@@ -0,0 +1,177 @@
+package GInternational.server.l_sport.info.snapshot;
+
+import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 프리매치 스냅샷 (불변 인덱스)
+ * 종목(sportsName) -> 마켓(marketName) -> 배당 row 목록 구조로 재구성하여 보관한다.
+ * 리빌드 시 새 인스턴스로 통째로 교체되며, 생성 이후에는 변경되지 않는다.
+ */
+@Getter
+public class PreMatchSnapshot {
+
+    // 메인 마켓 (프리매치 목록, 승무패)
+    public static final Set<String> MAIN_MARKETS = Set.of("1X2", "12 Including Overtime", "12");
+
+    // 크로스
+    public static final Set<String> CROSS_MARKETS = Set.of("1X2", "12 Including Overtime", "12", "Under/Over", "Asian Handicap", "Under/Over Including Overtime", "Asian Handicap Including Overtime");
+
+    // 핸디캡
+    public static final Set<String> HANDICAP_MARKETS = Set.of("Under/Over", "Asian Handicap", "Under/Over Including Overtime", "Asian Handicap Including Overtime");
+
+    // 스페셜1
+    public static final Set<String> SPECIAL1_MARKETS = Set.of("1st Period Odd/Even", "Asian Handicap 1st Period", "Under/Over 1st Period", "1st 5 Innings Winner - 12");
+
+    // 스페셜2
+    public static final Set<String> SPECIAL2_MARKETS = Set.of("Asian Handicap Halftime", "Under/Over Halftime", "Asian Handicap Sets");
+
+    // 스페셜1, 스페셜2 대상 리그
+    public static final Set<String> SPECIAL_LEAGUES = Set.of("Bundesliga", "LaLiga", "Serie A", "Ligue 1", "Premier League",  //축구
+            "NHL",                    //아이스 하키
+            "V-League - Women",       //여자 배구
+            "V-League - Men",         //남자 배구
+            "WKBL W",                 //여자 농구
+            "NBA", "WNBA", "KBL", "WKBL" //농구
+    );
+
+    // 스냅샷에 적재되는 전체 마켓
+    public static final Set<String> ALL_MARKETS;
+
+    static {
+        Set<String> all = new HashSet<>();
+        all.addAll(CROSS_MARKETS);
+        all.addAll(SPECIAL1_MARKETS);
+        all.addAll(SPECIAL2_MARKETS);
+        ALL_MARKETS = Collections.unmodifiableSet(all);
+    }
+
+    /**
+     * 베팅 종류(type)별 마켓 (2:프리매치, 4:크로스, 5:승무패, 6:핸디캡, 7:스페셜1, 8:스페셜2)
+     * 스냅샷으로 처리할 수 없는 type 이면 null
+     */
+    public static Set<String> marketsOf(Long type) {
+        if (type == null) {
+            return null;
+        }
+        switch (type.intValue()) {
+            case 2:
+            case 5:
+                return MAIN_MARKETS;
+            case 4:
+                return CROSS_MARKETS;
+            case 6:
+                return HANDICAP_MARKETS;
+            case 7:
+                return SPECIAL1_MARKETS;
+            case 8:
+                return SPECIAL2_MARKETS;
+            default:
+                return null;
+        }
+    }
+
+
+    // 스페셜1, 스페셜2 만 리그 조건이 존재한다.
+    public static Set<String> leaguesOf(Long type) {
+        return type != null && (type == 7 || type == 8) ? SPECIAL_LEAGUES : null;
+    }
+
+
+    private final Map<String, Map<String, List<PreMatchGetFixtureDTO>>> index;
+    private final String windowStart;
+    private final String windowEnd;
+    private final int size;
+    private final long builtAt;
+
+
+    private PreMatchSnapshot(Map<String, Map<String, List<PreMatchGetFixtureDTO>>> index, String windowStart, String windowEnd, int size) {
+        this.index = index;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.size = size;
+        this.builtAt = System.currentTimeMillis();
+    }
+
+
+    public static PreMatchSnapshot build(List<PreMatchGetFixtureDTO> rows, String windowStart, String windowEnd) {
+        Map<String, Map<String, List<PreMatchGetFixtureDTO>>> grouped = new HashMap<>();
+        for (PreMatchGetFixtureDTO row : rows) {
+            if (row.getSportsName() == null || row.getMarketName() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(row.getSportsName(), k -> new HashMap<>())
+                    .computeIfAbsent(row.getMarketName(), k -> new ArrayList<>())
+                    .add(row);
+        }
+
+        Map<String, Map<String, List<PreMatchGetFixtureDTO>>> index = new HashMap<>();
+        grouped.forEach((sportsName, markets) -> {
+            Map<String, List<PreMatchGetFixtureDTO>> byMarket = new HashMap<>();
+            markets.forEach((marketName, list) -> byMarket.put(marketName, Collections.unmodifiableList(list)));
+            index.put(sportsName, Collections.unmodifiableMap(byMarket));
+        });
+        return new PreMatchSnapshot(Collections.unmodifiableMap(index), windowStart, windowEnd, rows.size());
+    }
+
+
+    /**
+     * 조건에 맞는 배당 row 조회
+     * @param sportsName null 이면 전체 종목
+     * @param markets    조회할 마켓
+     * @param leagues    null 이면 리그 조건 없음
+     * @param openOnly   true 이면 bet_status 1,2 만 반환 (false 이면 3(정산)만 제외)
+     */
+    public List<PreMatchGetFixtureDTO> find(String sportsName, Set<String> markets, Set<String> leagues,
+                                            boolean openOnly, String startDate, String endDate) {
+        Collection<Map<String, List<PreMatchGetFixtureDTO>>> sports;
+        if (sportsName != null) {
+            Map<String, List<PreMatchGetFixtureDTO>> bySport = index.get(sportsName);
+            sports = bySport == null ? Collections.emptyList() : Collections.singletonList(bySport);
+        } else {
+            sports = index.values();
+        }
+
+        List<PreMatchGetFixtureDTO> results = new ArrayList<>();
+        for (Map<String, List<PreMatchGetFixtureDTO>> byMarket : sports) {
+            for (String market : markets) {
+                List<PreMatchGetFixtureDTO> rows = byMarket.get(market);
+                if (rows == null) {
+                    continue;
+                }
+                for (PreMatchGetFixtureDTO row : rows) {
+                    if (matches(row, leagues, openOnly, startDate, endDate)) {
+                        results.add(row);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+
+    private static boolean matches(PreMatchGetFixtureDTO row, Set<String> leagues, boolean openOnly, String startDate, String endDate) {
+        String rowStartDate = row.getStartDate();
+        if (rowStartDate == null || rowStartDate.compareTo(startDate) < 0 || rowStartDate.compareTo(endDate) > 0) {
+            return false;
+        }
+        if (leagues != null && !leagues.contains(row.getLeagueName())) {
+            return false;
+        }
+        String betStatus = row.getBetStatus();
+        if (openOnly) {
+            return "1".equals(betStatus) || "2".equals(betStatus);
+        }
+        return betStatus != null && !"3".equals(betStatus);
+    }
+
+
+    /**
+     * 요청 구간이 스냅샷 적재 구간 안에 있는지 확인
+     */
+    public boolean covers(String startDate, String endDate) {
+        return windowStart.compareTo(startDate) <= 0 && windowEnd.compareTo(endDate) >= 0;
+    }
+}
@@ -0,0 +1,104 @@
+package GInternational.server.l_sport.info.snapshot;
+
+import GInternational.server.l_sport.info.dto.pre.PreMatchGetFixtureDTO;
+import GInternational.server.l_sport.info.feed.MatchStatusChangesEvent;
+import GInternational.server.l_sport.info.feed.OddChangesEvent;
+import GInternational.server.l_sport.info.feed.OddSource;
+import GInternational.server.l_sport.info.repository.FixtureRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 프리매치 스냅샷 관리
+ * api_game/api_odds 를 한 번 조회하여 {@link PreMatchSnapshot} 을 새로 만들고 참조를 교체한다.
+ * 변경 피드(LSportsChangeFeed)에서 프리매치 배당/경기 상태 변경이 감지된 경우에만 리빌드하며,
+ * 변경이 없더라도 조회 구간(3일)이 밀려나지 않도록 max-age 마다 한 번은 리빌드한다.
+ * 프리매치 목록, 종목별 경기목록, 종목별 경기수 API 는 DB 대신 현재 스냅샷에서 응답한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PreMatchSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreMatchSnapshotService.class);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    // 조회 구간(3일) 밖으로 스냅샷이 밀려나지 않도록 여유분을 두고 적재한다.
+    private static final long WINDOW_SLACK_MINUTES = 10;
+
+    private final FixtureRepository fixtureRepository;
+
+    @Value("${lsports.snapshot.pre-match.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private volatile PreMatchSnapshot snapshot;
+    private volatile boolean dirty = true;
+
+
+    @Scheduled(fixedDelayString = "${lsports.snapshot.pre-match.refresh-ms:5000}")
+    public void refresh() {
+        PreMatchSnapshot current = this.snapshot;
+        if (!dirty && current != null && System.currentTimeMillis() - current.getBuiltAt() < maxAgeMs) {
+            // 변경 피드에서 프리매치 변경이 감지되지 않았으면 리빌드하지 않는다
+            return;
+        }
+        rebuild();
+    }
+
+
+    @EventListener
+    public void onOddChanges(OddChangesEvent event) {
+        if (event.getSource() == OddSource.PRE_MATCH) {
+            dirty = true;
+        }
+    }
+
+
+    @EventListener
+    public void onMatchStatusChanges(MatchStatusChangesEvent event) {
+        dirty = true;
+    }
+
+
+    public synchronized PreMatchSnapshot rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        String windowStart = now.format(FORMATTER);
+        String windowEnd = now.plusDays(3).plusMinutes(WINDOW_SLACK_MINUTES).format(FORMATTER);
+        // 적재 중 들어온 변경은 다음 주기에 다시 반영되도록 조회 전에 초기화한다
+        dirty = false;
+
+        List<PreMatchGetFixtureDTO> rows = fixtureRepository.getPreMatchSnapshot(PreMatchSnapshot.ALL_MARKETS, windowStart, windowEnd);
+        PreMatchSnapshot rebuilt = PreMatchSnapshot.build(rows, windowStart, windowEnd);
+        this.snapshot = rebuilt;
+
+        logger.debug("Pre-match snapshot rebuilt: {} rows in {} ms", rebuilt.getSize(), System.currentTimeMillis() - started);
+        return rebuilt;
+    }
+
+
+    /**
+     * 요청 구간을 포함하는 스냅샷 반환
+     * 아직 만들어지지 않았거나 리빌드가 지연되어 구간을 벗어난 경우에만 즉시 리빌드한다.
+     */
+    public PreMatchSnapshot current(String startDate, String endDate) {
+        PreMatchSnapshot current = this.snapshot;
+        if (current == null || !current.covers(startDate, endDate)) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null || !current.covers(startDate, endDate)) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+}
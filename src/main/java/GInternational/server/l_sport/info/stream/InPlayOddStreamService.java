@@ -0,0 +1,194 @@
+package GInternational.server.l_sport.info.stream;
+
+import GInternational.server.l_sport.info.dto.inplay.OddLiveDeltaDTO;
+import GInternational.server.l_sport.info.feed.OddChange;
+import GInternational.server.l_sport.info.feed.OddChangeType;
+import GInternational.server.l_sport.info.feed.OddChangesEvent;
+import GInternational.server.l_sport.info.feed.OddSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인플레이 배당 푸시 스트림 (SSE)
+ * 구독자 수와 무관하게 변경 피드(LSportsChangeFeed)의 인플레이 배당 변경 이벤트만 사용하며,
+ * price/betStatus/baseLine 이 바뀐 배당만 구독 조건(경기/마켓)에 맞춰 전송한다.
+ * 최초 목록은 기존 /api/v2/get-inPlayFixture 로 받고, 이후 변경분만 이 스트림으로 받는다.
+ *
+ * 소켓 쓰기는 스케줄러 스레드가 아니라 inPlayStreamExecutor 에서 구독별로 하나씩 실행한다.
+ * 전송이 write-timeout-ms 안에 끝나지 않거나 대기 변경분이 max-pending 을 넘는 느린 구독자는 끊는다.
+ */
+@Service
+public class InPlayOddStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InPlayOddStreamService.class);
+    private static final long HEARTBEAT_MS = 15000;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long coalesceMs;
+    private final long timeoutMs;
+    private final long writeTimeoutMs;
+    private final int maxPending;
+
+    private final Map<String, InPlayOddSubscription> subscriptions = new ConcurrentHashMap<>();
+
+
+    public InPlayOddStreamService(@Qualifier("inPlayStreamExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${lsports.stream.in-play.coalesce-ms:500}") long coalesceMs,
+                                  @Value("${lsports.stream.in-play.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${lsports.stream.in-play.write-timeout-ms:5000}") long writeTimeoutMs,
+                                  @Value("${lsports.stream.in-play.max-pending:5000}") int maxPending) {
+        this.executor = executor;
+        this.coalesceMs = coalesceMs;
+        this.timeoutMs = timeoutMs;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.maxPending = maxPending;
+    }
+
+
+    public SseEmitter subscribe(Collection<String> matchIds, Collection<String> marketIds) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        String id = UUID.randomUUID().toString();
+        InPlayOddSubscription subscription = new InPlayOddSubscription(id, emitter,
+                matchIds == null ? Collections.emptySet() : new HashSet<>(matchIds),
+                marketIds == null ? Collections.emptySet() : new HashSet<>(marketIds));
+
+        emitter.onCompletion(() -> subscriptions.remove(id));
+        emitter.onTimeout(() -> subscriptions.remove(id));
+        emitter.onError(e -> subscriptions.remove(id));
+        subscriptions.put(id, subscription);
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(id));
+        } catch (IOException e) {
+            subscriptions.remove(id);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+
+    /**
+     * 변경 피드에서 감지된 인플레이 배당 변경을 구독 조건에 맞춰 구독자별 대기열에 넣는다
+     */
+    @EventListener
+    public void onOddChanges(OddChangesEvent event) {
+        if (event.getSource() != OddSource.IN_PLAY || subscriptions.isEmpty()) {
+            return;
+        }
+        List<OddLiveDeltaDTO> deltas = new ArrayList<>(event.getChanges().size());
+        for (OddChange change : event.getChanges()) {
+            OddLiveDeltaDTO delta = toDelta(change);
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        for (InPlayOddSubscription subscription : subscriptions.values()) {
+            for (OddLiveDeltaDTO delta : deltas) {
+                if (subscription.accepts(delta) && !subscription.offer(delta, maxPending)) {
+                    close(subscription, "pending limit exceeded", null);
+                    break;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 전송할 구독만 골라 전송 실행기에 넘긴다 (스케줄러 스레드에서는 소켓에 쓰지 않는다)
+     */
+    @Scheduled(fixedDelayString = "${lsports.stream.in-play.flush-ms:200}")
+    public void publish() {
+        long now = System.currentTimeMillis();
+        for (InPlayOddSubscription subscription : subscriptions.values()) {
+            if (subscription.isSendStalled(now, writeTimeoutMs)) {
+                close(subscription, "write timeout", null);
+                continue;
+            }
+            long elapsed = now - subscription.getLastSentAt();
+            boolean due = (subscription.hasPending() && elapsed >= coalesceMs) || elapsed >= HEARTBEAT_MS;
+            if (!due || !subscription.startSending(now)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> flush(subscription));
+            } catch (TaskRejectedException e) {
+                // 다음 주기에 다시 시도한다 (변경분은 pending 에 남아있다)
+                subscription.finishSending();
+            }
+        }
+    }
+
+
+    private static OddLiveDeltaDTO toDelta(OddChange change) {
+        OddLiveDeltaDTO delta = new OddLiveDeltaDTO();
+        if (change.is(OddChangeType.REFRESHED)) {
+            delta.setPrice(change.getPrice());
+            delta.setBetStatus(change.getBetStatus());
+            delta.setBaseLine(change.getBaseLine());
+        } else {
+            boolean changed = false;
+            if (change.is(OddChangeType.PRICE_CHANGED)) {
+                delta.setPrice(change.getPrice());
+                changed = true;
+            }
+            if (change.is(OddChangeType.BASE_LINE_CHANGED)) {
+                delta.setBaseLine(change.getBaseLine());
+                changed = true;
+            }
+            if (!Objects.equals(change.getPreviousBetStatus(), change.getBetStatus())) {
+                delta.setBetStatus(change.getBetStatus());
+                changed = true;
+            }
+            if (!changed) {
+                return null;
+            }
+        }
+        delta.setIdx(change.getIdx());
+        delta.setMatchId(change.getMatchId());
+        delta.setMarketId(change.getMarketId());
+        delta.setLastUpdate(change.getLastUpdate());
+        return delta;
+    }
+
+
+    private void flush(InPlayOddSubscription subscription) {
+        long now = System.currentTimeMillis();
+        try {
+            if (subscription.hasPending() && now - subscription.getLastSentAt() >= coalesceMs) {
+                subscription.getEmitter().send(SseEmitter.event().name("odds").data(subscription.drain(now)));
+            } else {
+                subscription.getEmitter().send(SseEmitter.event().comment("heartbeat"));
+                subscription.markSent(now);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscription, "closed", e);
+        } finally {
+            subscription.finishSending();
+        }
+    }
+
+
+    private void close(InPlayOddSubscription subscription, String reason, Throwable cause) {
+        if (subscriptions.remove(subscription.getId()) == null) {
+            return;
+        }
+        logger.debug("In-play odd stream {}: {}", reason, subscription.getId());
+        if (cause == null) {
+            subscription.getEmitter().complete();
+        } else {
+            subscription.getEmitter().completeWithError(cause);
+        }
+    }
+}
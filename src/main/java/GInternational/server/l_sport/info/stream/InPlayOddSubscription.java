@@ -0,0 +1,116 @@
+package GInternational.server.l_sport.info.stream;
+
+import GInternational.server.l_sport.info.dto.inplay.OddLiveDeltaDTO;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인플레이 배당 스트림 구독 1건
+ * 전송 대기 중인 변경분은 배당(idx)별로 병합되어, 짧은 시간에 여러 번 바뀌어도 한 번만 전송된다.
+ * pending 은 피드 스레드(offer)와 전송 스레드(drain)에서 함께 접근하므로 동기화한다.
+ * 전송은 구독당 한 번에 하나만 실행되며(sending), 전송이 밀려 pending 이 최대 건수를 넘으면 구독을 끊는다.
+ */
+@Getter
+class InPlayOddSubscription {
+
+    private final String id;
+    private final SseEmitter emitter;
+    private final Set<String> matchIds;   // 비어 있으면 전체 경기
+    private final Set<String> marketIds;  // 비어 있으면 전체 마켓
+    private final Map<String, OddLiveDeltaDTO> pending = new LinkedHashMap<>();
+    private volatile long lastSentAt;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile long sendStartedAt;
+
+
+    InPlayOddSubscription(String id, SseEmitter emitter, Set<String> matchIds, Set<String> marketIds) {
+        this.id = id;
+        this.emitter = emitter;
+        this.matchIds = matchIds;
+        this.marketIds = marketIds;
+        this.lastSentAt = System.currentTimeMillis();
+    }
+
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+
+    boolean accepts(OddLiveDeltaDTO delta) {
+        return (matchIds.isEmpty() || matchIds.contains(delta.getMatchId()))
+                && (marketIds.isEmpty() || marketIds.contains(delta.getMarketId()));
+    }
+
+
+    /**
+     * @return pending 이 maxPending 을 넘으면 false (구독을 끊어야 함)
+     */
+    synchronized boolean offer(OddLiveDeltaDTO delta, int maxPending) {
+        OddLiveDeltaDTO queued = pending.get(delta.getIdx());
+        if (queued == null) {
+            if (pending.size() >= maxPending) {
+                return false;
+            }
+            pending.put(delta.getIdx(), copyOf(delta));
+            return true;
+        }
+        // 아직 보내지 않은 변경분에 최신 값을 덮어쓴다
+        if (delta.getPrice() != null) queued.setPrice(delta.getPrice());
+        if (delta.getBetStatus() != null) queued.setBetStatus(delta.getBetStatus());
+        if (delta.getBaseLine() != null) queued.setBaseLine(delta.getBaseLine());
+        queued.setLastUpdate(delta.getLastUpdate());
+        return true;
+    }
+
+
+    synchronized List<OddLiveDeltaDTO> drain(long now) {
+        List<OddLiveDeltaDTO> drained = new ArrayList<>(pending.values());
+        pending.clear();
+        lastSentAt = now;
+        return drained;
+    }
+
+
+    synchronized void markSent(long now) {
+        lastSentAt = now;
+    }
+
+
+    /**
+     * @return 이미 전송 중이면 false
+     */
+    boolean startSending(long now) {
+        if (!sending.compareAndSet(false, true)) {
+            return false;
+        }
+        sendStartedAt = now;
+        return true;
+    }
+
+
+    void finishSending() {
+        sending.set(false);
+    }
+
+
+    /**
+     * @return 전송이 timeoutMs 이상 끝나지 않은 경우 true (느린 클라이언트)
+     */
+    boolean isSendStalled(long now, long timeoutMs) {
+        return sending.get() && now - sendStartedAt > timeoutMs;
+    }
+
+
+    private static OddLiveDeltaDTO copyOf(OddLiveDeltaDTO delta) {
+        return new OddLiveDeltaDTO(delta.getIdx(), delta.getMatchId(), delta.getMarketId(),
+                delta.getPrice(), delta.getBetStatus(), delta.getBaseLine(), delta.getLastUpdate());
+    }
+}
@@ -9,6 +9,7 @@ import GInternational.server.api.mapper.WalletRequestMapper;
 import GInternational.server.api.repository.IpRepository;
 import GInternational.server.api.repository.UserRepository;
 import GInternational.server.api.repository.WalletRepository;
+import GInternational.server.api.service.AasUserCache;
 import GInternational.server.api.service.ExpRecordService;
 import GInternational.server.api.service.LoginStatisticService;
 import GInternational.server.api.vo.ExpRecordEnum;
@@ -45,6 +46,7 @@ public class PartnerUserService {
     private final IpRepository repository;
     private final LoginStatisticService loginStatisticService;
     private final ExpRecordService expRecordService;
+    private final AasUserCache aasUserCache;
 
     /*
      * ADMIN,MANAGER,본인만 수정,삭제 가능하도록 검증이 필요함
@@ -282,6 +284,7 @@ public class PartnerUserService {
         Optional.ofNullable(user.getNickname()).ifPresent(nickname -> findUser.setNickname(nickname));
         findUser.setUpdatedAt(LocalDateTime.now());
         User savedUser = userRepository.save(findUser);
+        aasUserCache.evictOnCompletion(findUser.getAasId());
         return userResponseMapper.toDto(savedUser);
     }
 
@@ -294,6 +297,7 @@ public class PartnerUserService {
      */
     public User insertAAS(Long userId, AASUserProfileDTO aasUserProfileDTO) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("유저 없음"));
+        aasUserCache.evictOnCompletion(user.getAasId());
         user.setAasId(aasUserProfileDTO.getAasId());
         return userRepository.save(user);
     }
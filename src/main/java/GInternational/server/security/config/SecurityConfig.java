@@ -65,6 +65,8 @@ public class SecurityConfig {
                 .antMatchers("/api/v2/admins/**").access("hasRole('ROLE_ADMIN')")
                 .antMatchers("/api/v2/managers/**").access("hasRole('ROLE_ADMIN') or hasRole('ROLE_MANAGER')")
                 .antMatchers("/api/v2/users/**").access("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN') or hasRole('ROLE_MANAGER') or hasRole('ROLE_TEST')")
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers("/actuator/**").access("hasRole('ROLE_ADMIN')")
                 .anyRequest()
                 .permitAll()
                 .and()